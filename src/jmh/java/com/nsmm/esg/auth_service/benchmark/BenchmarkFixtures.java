@@ -0,0 +1,110 @@
+package com.nsmm.esg.auth_service.benchmark;
+
+import com.nsmm.esg.auth_service.dto.JwtClaims;
+import com.nsmm.esg.auth_service.entity.Headquarters;
+import com.nsmm.esg.auth_service.entity.Partner;
+import com.nsmm.esg.auth_service.service.AuthMetricsService;
+import com.nsmm.esg.auth_service.service.TokenRevocationService;
+import com.nsmm.esg.auth_service.service.TokenVerificationService;
+import com.nsmm.esg.auth_service.service.VerifiedTokenCache;
+import com.nsmm.esg.auth_service.util.JwtKeyProvider;
+import com.nsmm.esg.auth_service.util.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.LocalDateTime;
+
+/**
+ * 벤치마크 공통 픽스처
+ */
+final class BenchmarkFixtures {
+
+    static final String SECRET = "mySecretKeyForJWTTokenGenerationAndValidationPurposeOnly123456789";
+
+    private BenchmarkFixtures() {
+    }
+
+    static JwtUtil jwtUtil() {
+        return jwtUtil("HS512");
+    }
+
+    static JwtUtil jwtUtil(String algorithm) {
+        return jwtUtil(algorithm, "standard");
+    }
+
+    static JwtUtil jwtUtil(String algorithm, String claimsProfile) {
+        return new JwtUtil(new JwtKeyProvider(SECRET, algorithm, "", ""), 900000L, 604800000L, claimsProfile);
+    }
+
+    static AuthMetricsService authMetricsService() {
+        return new AuthMetricsService(new SimpleMeterRegistry());
+    }
+
+    static VerifiedTokenCache verifiedTokenCache(boolean enabled) {
+        return new VerifiedTokenCache(enabled, 10000L, authMetricsService());
+    }
+
+    static TokenRevocationService tokenRevocationService(JwtUtil jwtUtil, VerifiedTokenCache verifiedTokenCache) {
+        return new TokenRevocationService(jwtUtil, verifiedTokenCache, authMetricsService(), 100000, 0.001);
+    }
+
+    static TokenVerificationService tokenVerificationService(JwtUtil jwtUtil, boolean cacheEnabled) {
+        VerifiedTokenCache verifiedTokenCache = verifiedTokenCache(cacheEnabled);
+        return new TokenVerificationService(jwtUtil, verifiedTokenCache,
+                tokenRevocationService(jwtUtil, verifiedTokenCache), authMetricsService(), 0, 256, 1000);
+    }
+
+    static JwtClaims partnerClaims() {
+        return JwtClaims.builder()
+                .accountNumber("2412161700-L2-001")
+                .companyName("케이씨에스정보통신")
+                .userType("PARTNER")
+                .level(2)
+                .treePath("/2412161700/L1-001/L2-001/")
+                .headquartersId(1L)
+                .partnerId(42L)
+                .build();
+    }
+
+    /**
+     * 본사 → 1차 → 2차 협력사 (PartnerResponse.from이 상위 협력사/본사까지 참조)
+     */
+    static Partner partner() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 12, 16, 17, 0);
+        Headquarters headquarters = Headquarters.builder()
+                .headquartersId(1L)
+                .uuid("3f2b8c1e-6a4d-4e2b-9f3a-1c2d3e4f5a6b")
+                .hqAccountNumber("2412161700")
+                .companyName("한국전력공사")
+                .email("admin@kepco.co.kr")
+                .password("encoded")
+                .name("홍길동")
+                .createdAt(createdAt)
+                .build();
+        Partner parent = Partner.builder()
+                .partnerId(41L)
+                .uuid("7a1b2c3d-4e5f-4a6b-8c7d-9e0f1a2b3c4d")
+                .headquarters(headquarters)
+                .hqAccountNumber("2412161700")
+                .hierarchicalId("L1-001")
+                .companyName("삼성전자")
+                .password("encoded")
+                .level(1)
+                .treePath("/2412161700/L1-001/")
+                .createdAt(createdAt)
+                .build();
+        return Partner.builder()
+                .partnerId(42L)
+                .uuid("9c8b7a6f-5e4d-4c3b-a2a1-0f9e8d7c6b5a")
+                .headquarters(headquarters)
+                .parentPartner(parent)
+                .hqAccountNumber("2412161700")
+                .hierarchicalId("L2-001")
+                .companyName("케이씨에스정보통신")
+                .password("encoded")
+                .level(2)
+                .treePath("/2412161700/L1-001/L2-001/")
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build();
+    }
+}
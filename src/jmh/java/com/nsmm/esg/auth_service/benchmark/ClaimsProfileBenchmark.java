@@ -0,0 +1,43 @@
+package com.nsmm.esg.auth_service.benchmark;
+
+import com.nsmm.esg.auth_service.dto.JwtClaims;
+import com.nsmm.esg.auth_service.util.JwtUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클레임 프로필별 토큰 발급/파싱 비용 비교 (standard vs compact)
+ *
+ * 토큰 길이(쿠키 크기) 비교는 JwtUtilClaimsProfileTest에서 검증
+ * 실행: ./gradlew jmh -PjmhInclude=ClaimsProfileBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ClaimsProfileBenchmark {
+
+    @Param({"standard", "compact"})
+    private String claimsProfile;
+
+    private JwtUtil jwtUtil;
+    private JwtClaims claims;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = BenchmarkFixtures.jwtUtil("HS512", claimsProfile);
+        claims = BenchmarkFixtures.partnerClaims();
+        token = jwtUtil.generateAccessToken(claims);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtUtil.generateAccessToken(claims);
+    }
+
+    @Benchmark
+    public JwtClaims getAllClaimsFromToken() {
+        return jwtUtil.getAllClaimsFromToken(token);
+    }
+}
@@ -0,0 +1,51 @@
+package com.nsmm.esg.auth_service.benchmark;
+
+import com.nsmm.esg.auth_service.config.JwtAuthenticationFilter;
+import com.nsmm.esg.auth_service.util.JwtUtil;
+import jakarta.servlet.http.Cookie;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 전체 경로 벤치마크
+ *
+ * 측정 대상: 쿠키 추출 → 토큰 검증 → 클레임 추출 → SecurityContext 설정
+ * cacheEnabled=true: 동일 쿠키 반복 요청 (검증 캐시 hit), false: 매 요청 서명 검증
+ * 실행: ./gradlew jmh -PjmhInclude=JwtAuthenticationFilterBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"true", "false"})
+    private boolean cacheEnabled;
+
+    private JwtAuthenticationFilter filter;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = BenchmarkFixtures.jwtUtil();
+        filter = new JwtAuthenticationFilter(BenchmarkFixtures.tokenVerificationService(jwtUtil, cacheEnabled));
+        token = jwtUtil.generateAccessToken(BenchmarkFixtures.partnerClaims());
+    }
+
+    @Benchmark
+    public Object authenticatedRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/auth/partners/me");
+        request.setCookies(new Cookie("jwt", token));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+}
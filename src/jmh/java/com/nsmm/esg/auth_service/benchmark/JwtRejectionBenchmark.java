@@ -0,0 +1,45 @@
+package com.nsmm.esg.auth_service.benchmark;
+
+import com.nsmm.esg.auth_service.dto.TokenVerificationResult;
+import com.nsmm.esg.auth_service.util.JwtKeyProvider;
+import com.nsmm.esg.auth_service.util.JwtUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 유효하지 않은 토큰 거부 비용 (배포 직후 만료 쿠키가 몰리는 상황)
+ *
+ * expired: 만료된 정상 서명 토큰, malformed: JWT 구조가 아닌 값, badSignature: 서명이 변조된 유효 기간 내 토큰
+ * 실행: ./gradlew jmh -PjmhInclude=JwtRejectionBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtRejectionBenchmark {
+
+    @Param({"expired", "malformed", "badSignature"})
+    private String tokenKind;
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = BenchmarkFixtures.jwtUtil();
+        String valid = jwtUtil.generateAccessToken(BenchmarkFixtures.partnerClaims());
+
+        token = switch (tokenKind) {
+            case "expired" -> new JwtUtil(new JwtKeyProvider(BenchmarkFixtures.SECRET, "HS512", "", ""),
+                    -60000L, 604800000L, "standard").generateAccessToken(BenchmarkFixtures.partnerClaims());
+            case "malformed" -> "not-a-jwt-cookie-value";
+            case "badSignature" -> valid.substring(0, valid.length() - 4) + "AAAA";
+            default -> throw new IllegalArgumentException(tokenKind);
+        };
+    }
+
+    @Benchmark
+    public TokenVerificationResult reject() {
+        return jwtUtil.verifyToken(token);
+    }
+}
@@ -0,0 +1,43 @@
+package com.nsmm.esg.auth_service.benchmark;
+
+import com.nsmm.esg.auth_service.dto.JwtClaims;
+import com.nsmm.esg.auth_service.dto.TokenVerificationResult;
+import com.nsmm.esg.auth_service.util.JwtUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 서명 알고리즘별 서명/검증 비용 비교 (HS512 vs ES256)
+ *
+ * 실행: ./gradlew jmh -PjmhInclude=JwtSigningAlgorithmBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtSigningAlgorithmBenchmark {
+
+    @Param({"HS512", "ES256"})
+    private String algorithm;
+
+    private JwtUtil jwtUtil;
+    private JwtClaims claims;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = BenchmarkFixtures.jwtUtil(algorithm);
+        claims = BenchmarkFixtures.partnerClaims();
+        token = jwtUtil.generateAccessToken(claims);
+    }
+
+    @Benchmark
+    public String sign() {
+        return jwtUtil.generateAccessToken(claims);
+    }
+
+    @Benchmark
+    public TokenVerificationResult verify() {
+        return jwtUtil.verifyToken(token);
+    }
+}
@@ -0,0 +1,44 @@
+package com.nsmm.esg.auth_service.benchmark;
+
+import com.nsmm.esg.auth_service.dto.JwtClaims;
+import com.nsmm.esg.auth_service.util.JwtUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtUtil 토큰 발급/검증/클레임 추출 벤치마크 (HS512)
+ *
+ * 실행: ./gradlew jmh -PjmhInclude=JwtUtilBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private JwtClaims claims;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = BenchmarkFixtures.jwtUtil();
+        claims = BenchmarkFixtures.partnerClaims();
+        token = jwtUtil.generateAccessToken(claims);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtUtil.generateAccessToken(claims);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(token);
+    }
+
+    @Benchmark
+    public JwtClaims getAllClaimsFromToken() {
+        return jwtUtil.getAllClaimsFromToken(token);
+    }
+}
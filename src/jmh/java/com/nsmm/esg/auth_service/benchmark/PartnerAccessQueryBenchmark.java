@@ -0,0 +1,200 @@
+package com.nsmm.esg.auth_service.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 협력사 권한 조회 (본인 + 직속 하위 1단계) 쿼리 비교 벤치마크 - H2 인메모리, 협력사 약 10만 건
+ *
+ * - treePathLike: 기존 쿼리 (tree_path LIKE + LENGTH/REPLACE 슬래시 개수 비교 → 행마다 문자열 함수 계산)
+ * - parentIndex: 변경 쿼리 (기본키 조회 + parent_partner_id, created_at 인덱스 조회)
+ *
+ * 데이터: 본사 10개 × (1차 100 + 2차 1,000 + 3차 9,000), 1차/2차 협력사를 번갈아 조회
+ * 실행: ./gradlew jmh -PjmhInclude=PartnerAccessQueryBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PartnerAccessQueryBenchmark {
+
+    private static final int HEADQUARTERS = 10;
+    private static final int FIRST_LEVEL_PER_HQ = 100;
+    private static final int CHILDREN_PER_PARTNER = 10;
+    private static final int THIRD_LEVEL_PER_PARTNER = 9;
+
+    private static final String TREE_PATH_LIKE_SQL = "SELECT * FROM partners p WHERE "
+            + "(p.tree_path = ?) OR "
+            + "(p.tree_path LIKE CONCAT(?, 'L', ?, '-%') AND "
+            + "LENGTH(p.tree_path) - LENGTH(REPLACE(p.tree_path, '/', '')) = ?)";
+
+    private static final String SELF_SQL = "SELECT * FROM partners p WHERE p.partner_id = ?";
+
+    private static final String CHILDREN_SQL = "SELECT * FROM partners p WHERE p.parent_partner_id = ? "
+            + "ORDER BY p.created_at ASC";
+
+    private Connection connection;
+    private PreparedStatement treePathLike;
+    private PreparedStatement self;
+    private PreparedStatement children;
+    private final List<Target> targets = new ArrayList<>();
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:partner_access_benchmark;DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE partners ("
+                    + "partner_id BIGINT PRIMARY KEY, "
+                    + "partner_uuid VARCHAR(36) NOT NULL UNIQUE, "
+                    + "headquarters_id BIGINT NOT NULL, "
+                    + "parent_partner_id BIGINT, "
+                    + "hq_account_number VARCHAR(10) NOT NULL, "
+                    + "hierarchical_id VARCHAR(20) NOT NULL, "
+                    + "company_name VARCHAR(255) NOT NULL, "
+                    + "level INT NOT NULL, "
+                    + "tree_path VARCHAR(500) NOT NULL, "
+                    + "created_at TIMESTAMP NOT NULL)");
+            statement.execute("CREATE INDEX idx_parent_partner_created ON partners (parent_partner_id, created_at)");
+            statement.execute("CREATE INDEX idx_tree_path ON partners (tree_path)");
+            statement.execute("CREATE INDEX idx_level ON partners (level)");
+            statement.execute("CREATE INDEX idx_headquarters_id ON partners (headquarters_id)");
+        }
+        load();
+
+        treePathLike = connection.prepareStatement(TREE_PATH_LIKE_SQL);
+        self = connection.prepareStatement(SELF_SQL);
+        children = connection.prepareStatement(CHILDREN_SQL);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public void treePathLike(Blackhole blackhole) throws SQLException {
+        Target target = nextTarget();
+        treePathLike.setString(1, target.treePath);
+        treePathLike.setString(2, target.treePath);
+        treePathLike.setInt(3, target.level + 1);
+        treePathLike.setInt(4, slashCount(target.treePath) + 1);
+        consume(treePathLike, blackhole);
+    }
+
+    @Benchmark
+    public void parentIndex(Blackhole blackhole) throws SQLException {
+        Target target = nextTarget();
+        self.setLong(1, target.partnerId);
+        consume(self, blackhole);
+        children.setLong(1, target.partnerId);
+        consume(children, blackhole);
+    }
+
+    private Target nextTarget() {
+        Target target = targets.get(cursor);
+        cursor = (cursor + 1) % targets.size();
+        return target;
+    }
+
+    private static void consume(PreparedStatement statement, Blackhole blackhole) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                blackhole.consume(resultSet.getLong("partner_id"));
+                blackhole.consume(resultSet.getString("tree_path"));
+            }
+        }
+    }
+
+    private static int slashCount(String treePath) {
+        return treePath.length() - treePath.replace("/", "").length();
+    }
+
+    /**
+     * 본사별 1차 → 2차 → 3차 순으로 배치 삽입, 조회 대상은 1차/2차 협력사
+     */
+    private void load() throws SQLException {
+        String sql = "INSERT INTO partners (partner_id, partner_uuid, headquarters_id, parent_partner_id, "
+                + "hq_account_number, hierarchical_id, company_name, level, tree_path, created_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        LocalDateTime createdAt = LocalDateTime.of(2024, 12, 16, 0, 0);
+        long nextId = 1;
+
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(sql)) {
+            for (int hq = 1; hq <= HEADQUARTERS; hq++) {
+                String hqAccountNumber = String.valueOf(2412161700L + hq);
+                int secondSequence = 0;
+                int thirdSequence = 0;
+                for (int first = 1; first <= FIRST_LEVEL_PER_HQ; first++) {
+                    String firstId = hierarchicalId(1, first);
+                    String firstPath = "/" + hqAccountNumber + "/" + firstId + "/";
+                    long firstPartnerId = nextId++;
+                    add(insert, firstPartnerId, hq, null, hqAccountNumber, firstId, 1, firstPath, createdAt);
+                    targets.add(new Target(firstPartnerId, firstPath, 1));
+
+                    for (int second = 0; second < CHILDREN_PER_PARTNER; second++) {
+                        String secondId = hierarchicalId(2, ++secondSequence);
+                        String secondPath = firstPath + secondId + "/";
+                        long secondPartnerId = nextId++;
+                        add(insert, secondPartnerId, hq, firstPartnerId, hqAccountNumber, secondId, 2, secondPath,
+                                createdAt);
+                        targets.add(new Target(secondPartnerId, secondPath, 2));
+
+                        for (int third = 0; third < THIRD_LEVEL_PER_PARTNER; third++) {
+                            String thirdId = hierarchicalId(3, ++thirdSequence);
+                            add(insert, nextId++, hq, secondPartnerId, hqAccountNumber, thirdId, 3,
+                                    secondPath + thirdId + "/", createdAt);
+                        }
+                    }
+                    insert.executeBatch();
+                    createdAt = createdAt.plusMinutes(1);
+                }
+            }
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+    }
+
+    private static void add(PreparedStatement insert, long partnerId, long headquartersId, Long parentPartnerId,
+            String hqAccountNumber, String hierarchicalId, int level, String treePath, LocalDateTime createdAt)
+            throws SQLException {
+        insert.setLong(1, partnerId);
+        insert.setString(2, UUID.randomUUID().toString());
+        insert.setLong(3, headquartersId);
+        if (parentPartnerId == null) {
+            insert.setNull(4, java.sql.Types.BIGINT);
+        } else {
+            insert.setLong(4, parentPartnerId);
+        }
+        insert.setString(5, hqAccountNumber);
+        insert.setString(6, hierarchicalId);
+        insert.setString(7, "협력사 " + hierarchicalId);
+        insert.setInt(8, level);
+        insert.setString(9, treePath);
+        insert.setTimestamp(10, Timestamp.valueOf(createdAt.plusNanos(partnerId * 1000)));
+        insert.addBatch();
+    }
+
+    private static String hierarchicalId(int level, int sequence) {
+        return String.format("L%d-%03d", level, sequence);
+    }
+
+    private record Target(long partnerId, String treePath, int level) {
+    }
+}
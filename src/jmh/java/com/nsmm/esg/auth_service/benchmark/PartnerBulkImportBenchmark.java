@@ -0,0 +1,351 @@
+package com.nsmm.esg.auth_service.benchmark;
+
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 협력사 일괄 생성 벤치마크 - 행 단위 생성 vs 일괄 생성 (H2 인메모리, 협력사 1만 건, 결과 단위 rows/s)
+ *
+ * - perRow: 단건 API를 1만 번 호출하는 경로 (UUID 중복 조회, 상위 협력사 조회, 순번 UPDATE+SELECT,
+ *   IDENTITY INSERT, 클로저 INSERT 2회, 행마다 커밋)
+ * - batched: PartnerImportService 경로 (UUID IN 조회 1,000개 단위, 레벨별 순번 블록 1회,
+ *   partner:id 블록 100개 단위, INSERT 100행 배치, 클로저 INSERT ... SELECT 집합 처리, 커밋 1회)
+ *
+ * 비밀번호 해싱은 두 경로 모두 제외 (지연 해싱 표식 저장) - DB 왕복 비용만 비교
+ * 데이터: 1차 100개 + 2차 9,900개 (1차마다 99개)
+ * 연결 방식 (transport):
+ * - mem: 같은 JVM 안 H2 (왕복 비용 없음, SQL 실행 비용만)
+ * - tcp: 로컬 H2 TCP 서버 (문장마다 루프백 왕복 - 실제 DB 연결에 가까움)
+ * 실행: ./gradlew jmh -PjmhInclude=PartnerBulkImportBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(PartnerBulkImportBenchmark.ROWS)
+public class PartnerBulkImportBenchmark {
+
+    static final int ROWS = 10_000;
+
+    private static final int FIRST_LEVEL = 100;
+    private static final int BATCH_SIZE = 100;
+    private static final int IN_CHUNK_SIZE = 1000;
+    private static final long HEADQUARTERS_ID = 1L;
+    private static final String PASSWORD_MARKER = "{deferred}";
+
+    private static final String INSERT_COLUMNS = "uuid, headquarters_id, parent_partner_id, hierarchical_id, "
+            + "company_name, password, level, tree_path, created_at";
+
+    @Param({ "mem", "tcp" })
+    public String transport;
+
+    private Server server;
+    private Connection connection;
+    private List<Row> rows;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        String database = "mem:partner_bulk_import_benchmark_" + transport + ";DB_CLOSE_DELAY=-1";
+        if ("tcp".equals(transport)) {
+            server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+            connection = DriverManager.getConnection("jdbc:h2:tcp://localhost:" + server.getPort() + "/" + database);
+        } else {
+            connection = DriverManager.getConnection("jdbc:h2:" + database);
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE partners ("
+                    + "partner_id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                    + "uuid VARCHAR(36) NOT NULL UNIQUE, "
+                    + "headquarters_id BIGINT NOT NULL, "
+                    + "parent_partner_id BIGINT, "
+                    + "hierarchical_id VARCHAR(20) NOT NULL, "
+                    + "company_name VARCHAR(255) NOT NULL, "
+                    + "password VARCHAR(255) NOT NULL, "
+                    + "level INT NOT NULL, "
+                    + "tree_path VARCHAR(500) NOT NULL, "
+                    + "created_at TIMESTAMP NOT NULL)");
+            statement.execute("CREATE INDEX idx_parent_partner_created ON partners (parent_partner_id, created_at)");
+            statement.execute("CREATE TABLE partner_closure ("
+                    + "ancestor_id BIGINT NOT NULL, "
+                    + "descendant_id BIGINT NOT NULL, "
+                    + "headquarters_id BIGINT NOT NULL, "
+                    + "depth INT NOT NULL, "
+                    + "PRIMARY KEY (ancestor_id, descendant_id))");
+            statement.execute("CREATE INDEX idx_partner_closure_descendant ON partner_closure "
+                    + "(descendant_id, headquarters_id, depth)");
+            statement.execute("CREATE TABLE id_sequences ("
+                    + "sequence_key VARCHAR(100) PRIMARY KEY, "
+                    + "last_value BIGINT NOT NULL)");
+        }
+
+        rows = new ArrayList<>(ROWS);
+        List<Row> firstLevel = new ArrayList<>(FIRST_LEVEL);
+        for (int i = 0; i < FIRST_LEVEL; i++) {
+            Row row = new Row(i, UUID.randomUUID().toString(), null);
+            firstLevel.add(row);
+            rows.add(row);
+        }
+        for (int i = FIRST_LEVEL; i < ROWS; i++) {
+            rows.add(new Row(i, UUID.randomUUID().toString(), firstLevel.get(i % FIRST_LEVEL)));
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void truncate() throws SQLException {
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE TABLE partner_closure");
+            statement.execute("TRUNCATE TABLE partners RESTART IDENTITY");
+            statement.execute("DELETE FROM id_sequences");
+            statement.execute("INSERT INTO id_sequences VALUES ('partner:id', 0), ('partner:1:L1', 0), ('partner:1:L2', 0)");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @Benchmark
+    public int perRow() throws SQLException {
+        connection.setAutoCommit(false);
+        try (PreparedStatement exists = connection.prepareStatement("SELECT 1 FROM partners WHERE uuid = ?");
+             PreparedStatement parent = connection.prepareStatement(
+                     "SELECT partner_id, tree_path FROM partners WHERE uuid = ? AND headquarters_id = ?");
+             PreparedStatement advance = connection.prepareStatement(
+                     "UPDATE id_sequences SET last_value = last_value + 1 WHERE sequence_key = ?");
+             PreparedStatement lastValue = connection.prepareStatement(
+                     "SELECT last_value FROM id_sequences WHERE sequence_key = ?");
+             PreparedStatement insert = connection.prepareStatement(
+                     "INSERT INTO partners (" + INSERT_COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP)",
+                     Statement.RETURN_GENERATED_KEYS);
+             PreparedStatement closureSelf = connection.prepareStatement(selfClosureSql("= ?"));
+             PreparedStatement closureAncestors = connection.prepareStatement(ancestorClosureSql("= ?"))) {
+            for (Row row : rows) {
+                exists.setString(1, row.uuid);
+                try (ResultSet resultSet = exists.executeQuery()) {
+                    if (resultSet.next()) {
+                        throw new IllegalStateException("duplicate uuid");
+                    }
+                }
+
+                Long parentId = null;
+                String parentPath = "/1234567890/";
+                if (row.parent != null) {
+                    parent.setString(1, row.parent.uuid);
+                    parent.setLong(2, HEADQUARTERS_ID);
+                    try (ResultSet resultSet = parent.executeQuery()) {
+                        resultSet.next();
+                        parentId = resultSet.getLong(1);
+                        parentPath = resultSet.getString(2);
+                    }
+                }
+
+                int level = row.level();
+                String sequenceKey = "partner:" + HEADQUARTERS_ID + ":L" + level;
+                advance.setString(1, sequenceKey);
+                advance.executeUpdate();
+                lastValue.setString(1, sequenceKey);
+                long sequence;
+                try (ResultSet resultSet = lastValue.executeQuery()) {
+                    resultSet.next();
+                    sequence = resultSet.getLong(1);
+                }
+
+                bindInsert(insert, 1, row, parentId, parentPath, hierarchicalId(level, sequence));
+                insert.executeUpdate();
+                long partnerId;
+                try (ResultSet keys = insert.getGeneratedKeys()) {
+                    keys.next();
+                    partnerId = keys.getLong(1);
+                }
+
+                closureSelf.setLong(1, partnerId);
+                closureSelf.executeUpdate();
+                if (parentId != null) {
+                    closureAncestors.setLong(1, partnerId);
+                    closureAncestors.executeUpdate();
+                }
+                connection.commit();
+            }
+        }
+        return rows.size();
+    }
+
+    @Benchmark
+    public int batched() throws SQLException {
+        connection.setAutoCommit(false);
+
+        Set<String> uuids = new HashSet<>(rows.size() * 2);
+        for (Row row : rows) {
+            uuids.add(row.uuid);
+        }
+        List<String> uuidList = new ArrayList<>(uuids);
+        try (PreparedStatement existing = connection.prepareStatement(
+                "SELECT uuid FROM partners WHERE uuid IN (" + placeholders(IN_CHUNK_SIZE) + ")")) {
+            for (int from = 0; from < uuidList.size(); from += IN_CHUNK_SIZE) {
+                List<String> chunk = uuidList.subList(from, Math.min(from + IN_CHUNK_SIZE, uuidList.size()));
+                for (int i = 0; i < IN_CHUNK_SIZE; i++) {
+                    existing.setString(i + 1, chunk.get(Math.min(i, chunk.size() - 1)));
+                }
+                try (ResultSet resultSet = existing.executeQuery()) {
+                    if (resultSet.next()) {
+                        throw new IllegalStateException("duplicate uuid");
+                    }
+                }
+            }
+        }
+
+        long[] partnerIds = new long[rows.size()];
+        String[] treePaths = new String[rows.size()];
+        try (PreparedStatement advance = connection.prepareStatement(
+                     "UPDATE id_sequences SET last_value = last_value + ? WHERE sequence_key = ?");
+             PreparedStatement lastValue = connection.prepareStatement(
+                     "SELECT last_value FROM id_sequences WHERE sequence_key = ?");
+             PreparedStatement insert = connection.prepareStatement(
+                     "INSERT INTO partners (partner_id, " + INSERT_COLUMNS + ") "
+                             + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP)")) {
+            for (int level = 1; level <= 2; level++) {
+                int from = level == 1 ? 0 : FIRST_LEVEL;
+                int to = level == 1 ? FIRST_LEVEL : rows.size();
+                long firstSequence = reserve(advance, lastValue, "partner:" + HEADQUARTERS_ID + ":L" + level, to - from);
+
+                long nextPartnerId = 0;
+                long partnerIdLimit = 0;
+                for (int index = from; index < to; index++) {
+                    if (nextPartnerId == partnerIdLimit) {
+                        nextPartnerId = reserve(advance, lastValue, "partner:id", BATCH_SIZE);
+                        partnerIdLimit = nextPartnerId + BATCH_SIZE;
+                    }
+                    Row row = rows.get(index);
+                    long partnerId = nextPartnerId++;
+                    Long parentId = null;
+                    String parentPath = "/1234567890/";
+                    if (row.parent != null) {
+                        parentId = partnerIds[row.parent.index];
+                        parentPath = treePaths[row.parent.index];
+                    }
+                    String hierarchicalId = hierarchicalId(level, firstSequence + index - from);
+                    partnerIds[index] = partnerId;
+                    treePaths[index] = parentPath + hierarchicalId + "/";
+
+                    insert.setLong(1, partnerId);
+                    bindInsert(insert, 2, row, parentId, parentPath, hierarchicalId);
+                    insert.addBatch();
+                    if ((index - from + 1) % BATCH_SIZE == 0) {
+                        insert.executeBatch();
+                    }
+                }
+                insert.executeBatch();
+            }
+        }
+
+        try (PreparedStatement closureSelf = connection.prepareStatement(
+                     selfClosureSql("IN (" + placeholders(IN_CHUNK_SIZE) + ")"));
+             PreparedStatement closureAncestors = connection.prepareStatement(
+                     ancestorClosureSql("IN (" + placeholders(IN_CHUNK_SIZE) + ")"))) {
+            insertChunked(closureSelf, partnerIds, 0, partnerIds.length);
+            insertChunked(closureAncestors, partnerIds, FIRST_LEVEL, partnerIds.length);
+        }
+        connection.commit();
+        return rows.size();
+    }
+
+    /**
+     * 순번 블록 예약 - 첫 순번 반환 (IdSequenceService.reserve와 같은 UPDATE + SELECT)
+     */
+    private static long reserve(PreparedStatement advance, PreparedStatement lastValue, String sequenceKey, long size)
+            throws SQLException {
+        advance.setLong(1, size);
+        advance.setString(2, sequenceKey);
+        advance.executeUpdate();
+        lastValue.setString(1, sequenceKey);
+        try (ResultSet resultSet = lastValue.executeQuery()) {
+            resultSet.next();
+            return resultSet.getLong(1) - size + 1;
+        }
+    }
+
+    private static void insertChunked(PreparedStatement statement, long[] partnerIds, int from, int to)
+            throws SQLException {
+        for (int start = from; start < to; start += IN_CHUNK_SIZE) {
+            int end = Math.min(start + IN_CHUNK_SIZE, to);
+            for (int i = 0; i < IN_CHUNK_SIZE; i++) {
+                statement.setLong(i + 1, partnerIds[Math.min(start + i, end - 1)]);
+            }
+            statement.executeUpdate();
+        }
+    }
+
+    private static void bindInsert(PreparedStatement insert, int offset, Row row, Long parentId, String parentPath,
+            String hierarchicalId) throws SQLException {
+        insert.setString(offset, row.uuid);
+        insert.setLong(offset + 1, HEADQUARTERS_ID);
+        if (parentId == null) {
+            insert.setNull(offset + 2, java.sql.Types.BIGINT);
+        } else {
+            insert.setLong(offset + 2, parentId);
+        }
+        insert.setString(offset + 3, hierarchicalId);
+        insert.setString(offset + 4, "협력사 " + row.uuid.substring(0, 8));
+        insert.setString(offset + 5, PASSWORD_MARKER);
+        insert.setInt(offset + 6, row.level());
+        insert.setString(offset + 7, parentPath + hierarchicalId + "/");
+    }
+
+    private static String selfClosureSql(String partnerIdCondition) {
+        return "INSERT INTO partner_closure (ancestor_id, descendant_id, headquarters_id, depth) "
+                + "SELECT p.partner_id, p.partner_id, p.headquarters_id, 0 FROM partners p "
+                + "WHERE p.partner_id " + partnerIdCondition;
+    }
+
+    private static String ancestorClosureSql(String partnerIdCondition) {
+        return "INSERT INTO partner_closure (ancestor_id, descendant_id, headquarters_id, depth) "
+                + "SELECT c.ancestor_id, p.partner_id, p.headquarters_id, c.depth + 1 "
+                + "FROM partners p JOIN partner_closure c ON c.descendant_id = p.parent_partner_id "
+                + "WHERE p.partner_id " + partnerIdCondition;
+    }
+
+    private static String hierarchicalId(int level, long sequence) {
+        return String.format("L%d-%03d", level, sequence);
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static final class Row {
+        private final int index;
+        private final String uuid;
+        private final Row parent;
+
+        private Row(int index, String uuid, Row parent) {
+            this.index = index;
+            this.uuid = uuid;
+            this.parent = parent;
+        }
+
+        private int level() {
+            return parent == null ? 1 : 2;
+        }
+    }
+}
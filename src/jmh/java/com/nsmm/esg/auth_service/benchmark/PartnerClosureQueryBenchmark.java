@@ -0,0 +1,239 @@
+package com.nsmm.esg.auth_service.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 전체 하위/상위 협력사 조회 벤치마크 - 클로저 테이블 1회 조회 vs 단계별 반복 조회 (H2 인메모리)
+ *
+ * - descendants*: 1차 협력사의 전체 하위 (클로저 조회 vs parent_partner_id 기준 BFS, 노드마다 1회 조회)
+ * - ancestors*: 가장 깊은 협력사의 전체 상위 (클로저 조회 vs parent_partner_id를 따라 1단계씩 조회)
+ * - subtreeCount: 클로저 인덱스만으로 하위 협력사 수 계산
+ *
+ * 트리 모양 (shape):
+ * - deep: 13단계 이진 트리 (8,191개, 12단계 아래까지 존재)
+ * - wide: 1차 1개 → 2차 100개 → 3차 10,000개
+ * 실행: ./gradlew jmh -PjmhInclude=PartnerClosureQueryBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PartnerClosureQueryBenchmark {
+
+    private static final long HEADQUARTERS_ID = 1L;
+
+    private static final String CLOSURE_DESCENDANTS_SQL = "SELECT p.* FROM partner_closure c "
+            + "JOIN partners p ON p.partner_id = c.descendant_id "
+            + "WHERE c.ancestor_id = ? AND c.headquarters_id = ? AND c.depth > 0 ORDER BY c.depth, p.created_at";
+
+    private static final String CLOSURE_ANCESTORS_SQL = "SELECT p.* FROM partner_closure c "
+            + "JOIN partners p ON p.partner_id = c.ancestor_id "
+            + "WHERE c.descendant_id = ? AND c.headquarters_id = ? AND c.depth > 0 ORDER BY c.depth DESC";
+
+    private static final String CLOSURE_COUNT_SQL = "SELECT COUNT(*) FROM partner_closure c "
+            + "WHERE c.ancestor_id = ? AND c.headquarters_id = ? AND c.depth > 0";
+
+    private static final String CHILDREN_SQL = "SELECT * FROM partners p WHERE p.parent_partner_id = ? "
+            + "ORDER BY p.created_at";
+
+    private static final String PARTNER_SQL = "SELECT * FROM partners p WHERE p.partner_id = ?";
+
+    @Param({ "deep", "wide" })
+    public String shape;
+
+    private Connection connection;
+    private PreparedStatement closureDescendants;
+    private PreparedStatement closureAncestors;
+    private PreparedStatement closureCount;
+    private PreparedStatement children;
+    private PreparedStatement partner;
+    private long rootId;
+    private long deepestId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:partner_closure_benchmark_" + shape + ";DB_CLOSE_DELAY=-1");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE partners ("
+                    + "partner_id BIGINT PRIMARY KEY, "
+                    + "headquarters_id BIGINT NOT NULL, "
+                    + "parent_partner_id BIGINT, "
+                    + "hierarchical_id VARCHAR(20) NOT NULL, "
+                    + "company_name VARCHAR(255) NOT NULL, "
+                    + "level INT NOT NULL, "
+                    + "created_at TIMESTAMP NOT NULL)");
+            statement.execute("CREATE INDEX idx_parent_partner_created ON partners (parent_partner_id, created_at)");
+            statement.execute("CREATE TABLE partner_closure ("
+                    + "ancestor_id BIGINT NOT NULL, "
+                    + "descendant_id BIGINT NOT NULL, "
+                    + "headquarters_id BIGINT NOT NULL, "
+                    + "depth INT NOT NULL, "
+                    + "PRIMARY KEY (ancestor_id, descendant_id))");
+            statement.execute("CREATE INDEX idx_partner_closure_ancestor ON partner_closure "
+                    + "(ancestor_id, headquarters_id, depth)");
+            statement.execute("CREATE INDEX idx_partner_closure_descendant ON partner_closure "
+                    + "(descendant_id, headquarters_id, depth)");
+        }
+        if ("deep".equals(shape)) {
+            load(new int[] { 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2, 2 });
+        } else {
+            load(new int[] { 100, 100 });
+        }
+
+        closureDescendants = connection.prepareStatement(CLOSURE_DESCENDANTS_SQL);
+        closureAncestors = connection.prepareStatement(CLOSURE_ANCESTORS_SQL);
+        closureCount = connection.prepareStatement(CLOSURE_COUNT_SQL);
+        children = connection.prepareStatement(CHILDREN_SQL);
+        partner = connection.prepareStatement(PARTNER_SQL);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public int descendantsClosure(Blackhole blackhole) throws SQLException {
+        closureDescendants.setLong(1, rootId);
+        closureDescendants.setLong(2, HEADQUARTERS_ID);
+        return consume(closureDescendants, blackhole);
+    }
+
+    @Benchmark
+    public int descendantsRepeatedChildQueries(Blackhole blackhole) throws SQLException {
+        int count = 0;
+        Deque<Long> queue = new ArrayDeque<>();
+        queue.add(rootId);
+        while (!queue.isEmpty()) {
+            children.setLong(1, queue.poll());
+            try (ResultSet resultSet = children.executeQuery()) {
+                while (resultSet.next()) {
+                    queue.add(resultSet.getLong("partner_id"));
+                    blackhole.consume(resultSet.getString("company_name"));
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    @Benchmark
+    public int ancestorsClosure(Blackhole blackhole) throws SQLException {
+        closureAncestors.setLong(1, deepestId);
+        closureAncestors.setLong(2, HEADQUARTERS_ID);
+        return consume(closureAncestors, blackhole);
+    }
+
+    @Benchmark
+    public int ancestorsParentWalk(Blackhole blackhole) throws SQLException {
+        int count = 0;
+        long current = deepestId;
+        while (true) {
+            partner.setLong(1, current);
+            try (ResultSet resultSet = partner.executeQuery()) {
+                resultSet.next();
+                if (current != deepestId) {
+                    blackhole.consume(resultSet.getString("company_name"));
+                    count++;
+                }
+                long parentId = resultSet.getLong("parent_partner_id");
+                if (resultSet.wasNull()) {
+                    return count;
+                }
+                current = parentId;
+            }
+        }
+    }
+
+    @Benchmark
+    public long subtreeCount() throws SQLException {
+        closureCount.setLong(1, rootId);
+        closureCount.setLong(2, HEADQUARTERS_ID);
+        try (ResultSet resultSet = closureCount.executeQuery()) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private static int consume(PreparedStatement statement, Blackhole blackhole) throws SQLException {
+        int count = 0;
+        try (ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                blackhole.consume(resultSet.getString("company_name"));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 단계별 자식 수(fanOut)로 트리 생성 후 클로저는 서비스와 같은 방식(레벨 순 INSERT ... SELECT)으로 구성
+     */
+    private void load(int[] fanOut) throws SQLException {
+        connection.setAutoCommit(false);
+        long nextId = 1;
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO partners (partner_id, headquarters_id, parent_partner_id, hierarchical_id, company_name, "
+                        + "level, created_at) VALUES (?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP)")) {
+            rootId = nextId++;
+            add(insert, rootId, null, 1);
+            long[] previousLevel = { rootId };
+            for (int depth = 0; depth < fanOut.length; depth++) {
+                long[] currentLevel = new long[previousLevel.length * fanOut[depth]];
+                int index = 0;
+                for (long parentId : previousLevel) {
+                    for (int child = 0; child < fanOut[depth]; child++) {
+                        long partnerId = nextId++;
+                        add(insert, partnerId, parentId, depth + 2);
+                        currentLevel[index++] = partnerId;
+                    }
+                }
+                insert.executeBatch();
+                previousLevel = currentLevel;
+            }
+            insert.executeBatch();
+            deepestId = previousLevel[previousLevel.length - 1];
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO partner_closure (ancestor_id, descendant_id, headquarters_id, depth) "
+                    + "SELECT p.partner_id, p.partner_id, p.headquarters_id, 0 FROM partners p");
+            for (int level = 2; level <= fanOut.length + 1; level++) {
+                statement.execute("INSERT INTO partner_closure (ancestor_id, descendant_id, headquarters_id, depth) "
+                        + "SELECT c.ancestor_id, p.partner_id, p.headquarters_id, c.depth + 1 "
+                        + "FROM partners p JOIN partner_closure c ON c.descendant_id = p.parent_partner_id "
+                        + "WHERE p.level = " + level);
+            }
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+    }
+
+    private static void add(PreparedStatement insert, long partnerId, Long parentPartnerId, int level)
+            throws SQLException {
+        insert.setLong(1, partnerId);
+        insert.setLong(2, HEADQUARTERS_ID);
+        if (parentPartnerId == null) {
+            insert.setNull(3, java.sql.Types.BIGINT);
+        } else {
+            insert.setLong(3, parentPartnerId);
+        }
+        insert.setString(4, "L" + level + "-" + partnerId);
+        insert.setString(5, "협력사 " + partnerId);
+        insert.setInt(6, level);
+        insert.addBatch();
+    }
+}
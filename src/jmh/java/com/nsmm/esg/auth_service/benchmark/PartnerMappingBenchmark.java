@@ -0,0 +1,44 @@
+package com.nsmm.esg.auth_service.benchmark;
+
+import com.nsmm.esg.auth_service.dto.partner.PartnerResponse;
+import com.nsmm.esg.auth_service.entity.Partner;
+import com.nsmm.esg.auth_service.service.PartnerTreeService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 협력사 트리 경로 생성 및 응답 DTO 변환 벤치마크
+ *
+ * 측정 대상: PartnerTreeService.generateTreePath (1차/하위 협력사), PartnerResponse.from
+ * 실행: ./gradlew jmh -PjmhInclude=PartnerMappingBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PartnerMappingBenchmark {
+
+    private PartnerTreeService partnerTreeService;
+    private Partner partner;
+
+    @Setup
+    public void setUp() {
+        partnerTreeService = new PartnerTreeService();
+        partner = BenchmarkFixtures.partner();
+    }
+
+    @Benchmark
+    public String generateFirstLevelTreePath() {
+        return partnerTreeService.generateTreePath("2412161700", "L1-001", null);
+    }
+
+    @Benchmark
+    public String generateChildTreePath() {
+        return partnerTreeService.generateTreePath("2412161700", "L2-001", "/2412161700/L1-001/");
+    }
+
+    @Benchmark
+    public PartnerResponse partnerResponseFrom() {
+        return PartnerResponse.from(partner);
+    }
+}
@@ -0,0 +1,284 @@
+package com.nsmm.esg.auth_service.benchmark;
+
+import org.h2.tools.Server;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 하위 트리 이동 벤치마크 - 집합 UPDATE vs 행 단위 갱신 (H2, 1만 개 하위 트리)
+ *
+ * - setBased: PartnerService.movePartner 경로 (tree_path/level UPDATE 1회, 상위 변경 1회,
+ *   클로저 DELETE 1회 + INSERT ... SELECT 1회, 커밋 1회)
+ * - perRow: 수작업 이동 방식 (parent_partner_id로 하위를 1단계씩 순회하며 행마다 tree_path/level UPDATE,
+ *   클로저는 행마다 상위 경로 삭제 후 새 상위 경로 INSERT ... SELECT, 커밋 1회)
+ *
+ * 데이터: 1차 협력사 A, X / A 아래 이동 대상 B(+ 2차 99개 + 3차 9,900개 = 1만 개)와 같은 크기의 형제 하위 트리
+ * 호출마다 B를 A ↔ X로 번갈아 이동 (두 상위 모두 1차라 매번 같은 양을 갱신)
+ * 연결 방식 (transport): mem = 같은 JVM 안 H2, tcp = 로컬 H2 TCP 서버 (문장마다 루프백 왕복)
+ * 실행: ./gradlew jmh -PjmhInclude=PartnerSubtreeMoveBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PartnerSubtreeMoveBenchmark {
+
+    private static final long HEADQUARTERS_ID = 1L;
+    private static final String ROOT_PATH = "/1234567890/";
+    private static final int CHILDREN = 99;
+    private static final int GRANDCHILDREN = 100;
+
+    private static final String MOVE_SUBTREE_SQL = "UPDATE partners SET tree_path = CONCAT(?, SUBSTRING(tree_path, ?)), "
+            + "level = level + ? WHERE partner_id IN (SELECT descendant_id FROM partner_closure WHERE ancestor_id = ?)";
+
+    private static final String DELETE_ANCESTOR_PATHS_SQL = "DELETE FROM partner_closure WHERE ancestor_id IN (?) "
+            + "AND descendant_id IN (SELECT p.partner_id FROM partners p "
+            + "WHERE p.headquarters_id = ? AND p.tree_path LIKE CONCAT(?, '%'))";
+
+    private static final String INSERT_ANCESTOR_PATHS_SQL = "INSERT INTO partner_closure "
+            + "(ancestor_id, descendant_id, headquarters_id, depth) "
+            + "SELECT a.ancestor_id, s.descendant_id, s.headquarters_id, a.depth + s.depth + 1 "
+            + "FROM partner_closure a JOIN partner_closure s ON s.ancestor_id = ? WHERE a.descendant_id = ?";
+
+    @Param({ "mem", "tcp" })
+    public String transport;
+
+    private Server server;
+    private Connection connection;
+    private long nextId = 1;
+    private long firstParentId;
+    private long secondParentId;
+    private long subtreeRootId;
+    private boolean underFirst = true;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        String database = "mem:partner_subtree_move_benchmark_" + transport + ";DB_CLOSE_DELAY=-1";
+        if ("tcp".equals(transport)) {
+            server = Server.createTcpServer("-tcpPort", "0", "-ifNotExists").start();
+            connection = DriverManager.getConnection("jdbc:h2:tcp://localhost:" + server.getPort() + "/" + database);
+        } else {
+            connection = DriverManager.getConnection("jdbc:h2:" + database);
+        }
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE partners ("
+                    + "partner_id BIGINT PRIMARY KEY, "
+                    + "headquarters_id BIGINT NOT NULL, "
+                    + "parent_partner_id BIGINT, "
+                    + "hierarchical_id VARCHAR(20) NOT NULL, "
+                    + "level INT NOT NULL, "
+                    + "tree_path VARCHAR(500) NOT NULL, "
+                    + "created_at TIMESTAMP NOT NULL)");
+            statement.execute("CREATE INDEX idx_parent_partner_created ON partners (parent_partner_id, created_at)");
+            statement.execute("CREATE INDEX idx_tree_path ON partners (tree_path)");
+            statement.execute("CREATE TABLE partner_closure ("
+                    + "ancestor_id BIGINT NOT NULL, "
+                    + "descendant_id BIGINT NOT NULL, "
+                    + "headquarters_id BIGINT NOT NULL, "
+                    + "depth INT NOT NULL, "
+                    + "PRIMARY KEY (ancestor_id, descendant_id))");
+            statement.execute("CREATE INDEX idx_partner_closure_ancestor ON partner_closure "
+                    + "(ancestor_id, headquarters_id, depth)");
+            statement.execute("CREATE INDEX idx_partner_closure_descendant ON partner_closure "
+                    + "(descendant_id, headquarters_id, depth)");
+        }
+        load();
+        connection.setAutoCommit(false);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @Benchmark
+    public int setBased() throws SQLException {
+        long targetId = underFirst ? secondParentId : firstParentId;
+        String[] subtreeRoot = partnerPath(subtreeRootId);
+        String newPath = partnerPath(targetId)[0] + subtreeRoot[1] + "/";
+        int levelDelta = 0; // A, X 모두 1차
+
+        List<Long> previousAncestorIds = new ArrayList<>();
+        try (PreparedStatement ancestors = connection.prepareStatement(
+                "SELECT ancestor_id FROM partner_closure WHERE descendant_id = ? AND depth > 0 ORDER BY depth")) {
+            ancestors.setLong(1, subtreeRootId);
+            try (ResultSet resultSet = ancestors.executeQuery()) {
+                while (resultSet.next()) {
+                    previousAncestorIds.add(resultSet.getLong(1));
+                }
+            }
+        }
+
+        int moved;
+        try (PreparedStatement move = connection.prepareStatement(MOVE_SUBTREE_SQL);
+             PreparedStatement parent = connection.prepareStatement(
+                     "UPDATE partners SET parent_partner_id = ? WHERE partner_id = ?");
+             PreparedStatement delete = connection.prepareStatement(DELETE_ANCESTOR_PATHS_SQL);
+             PreparedStatement insert = connection.prepareStatement(INSERT_ANCESTOR_PATHS_SQL)) {
+            move.setString(1, newPath);
+            move.setInt(2, subtreeRoot[0].length() + 1);
+            move.setInt(3, levelDelta);
+            move.setLong(4, subtreeRootId);
+            moved = move.executeUpdate();
+
+            parent.setLong(1, targetId);
+            parent.setLong(2, subtreeRootId);
+            parent.executeUpdate();
+
+            // 이 트리에서 이동 전 상위는 1차 협력사 1개뿐
+            delete.setLong(1, previousAncestorIds.get(0));
+            delete.setLong(2, HEADQUARTERS_ID);
+            delete.setString(3, newPath);
+            delete.executeUpdate();
+
+            insert.setLong(1, subtreeRootId);
+            insert.setLong(2, targetId);
+            insert.executeUpdate();
+        }
+        connection.commit();
+        underFirst = !underFirst;
+        return moved;
+    }
+
+    @Benchmark
+    public int perRow() throws SQLException {
+        long targetId = underFirst ? secondParentId : firstParentId;
+        int moved = 0;
+        try (PreparedStatement children = connection.prepareStatement(
+                     "SELECT partner_id, hierarchical_id FROM partners WHERE parent_partner_id = ?");
+             PreparedStatement update = connection.prepareStatement(
+                     "UPDATE partners SET parent_partner_id = ?, tree_path = ?, level = ? WHERE partner_id = ?");
+             PreparedStatement deletePaths = connection.prepareStatement(
+                     "DELETE FROM partner_closure WHERE descendant_id = ? AND depth > 0");
+             PreparedStatement insertPaths = connection.prepareStatement(
+                     "INSERT INTO partner_closure (ancestor_id, descendant_id, headquarters_id, depth) "
+                             + "SELECT c.ancestor_id, ?, c.headquarters_id, c.depth + 1 "
+                             + "FROM partner_closure c WHERE c.descendant_id = ?")) {
+            String[] root = partnerPath(subtreeRootId);
+            String[] target = partnerPath(targetId);
+            Deque<Object[]> queue = new ArrayDeque<>();
+            queue.add(new Object[] { subtreeRootId, root[1], targetId, target[0], 2 });
+            while (!queue.isEmpty()) {
+                Object[] node = queue.poll();
+                long partnerId = (Long) node[0];
+                long parentId = (Long) node[2];
+                String treePath = node[3] + (String) node[1] + "/";
+                int level = (Integer) node[4];
+
+                update.setLong(1, parentId);
+                update.setString(2, treePath);
+                update.setInt(3, level);
+                update.setLong(4, partnerId);
+                update.executeUpdate();
+
+                deletePaths.setLong(1, partnerId);
+                deletePaths.executeUpdate();
+                insertPaths.setLong(1, partnerId);
+                insertPaths.setLong(2, parentId);
+                insertPaths.executeUpdate();
+                moved++;
+
+                children.setLong(1, partnerId);
+                try (ResultSet resultSet = children.executeQuery()) {
+                    while (resultSet.next()) {
+                        queue.add(new Object[] { resultSet.getLong(1), resultSet.getString(2), partnerId, treePath,
+                                level + 1 });
+                    }
+                }
+            }
+        }
+        connection.commit();
+        underFirst = !underFirst;
+        return moved;
+    }
+
+    /**
+     * [tree_path, hierarchical_id]
+     */
+    private String[] partnerPath(long partnerId) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT tree_path, hierarchical_id FROM partners WHERE partner_id = ?")) {
+            statement.setLong(1, partnerId);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return new String[] { resultSet.getString(1), resultSet.getString(2) };
+            }
+        }
+    }
+
+    /**
+     * A, X (1차) / A 아래 B와 형제 하위 트리 (각각 1만 개), 클로저는 서비스와 같은 방식으로 레벨 순 구성
+     */
+    private void load() throws SQLException {
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO partners (partner_id, headquarters_id, parent_partner_id, hierarchical_id, level, "
+                        + "tree_path, created_at) VALUES (?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP)")) {
+            firstParentId = add(insert, null, ROOT_PATH, 1);
+            secondParentId = add(insert, null, ROOT_PATH, 1);
+            String firstPath = ROOT_PATH + "L1-" + firstParentId + "/";
+            for (int subtree = 0; subtree < 2; subtree++) {
+                long rootId = add(insert, firstParentId, firstPath, 2);
+                if (subtree == 0) {
+                    subtreeRootId = rootId;
+                }
+                String rootPath = firstPath + "L2-" + rootId + "/";
+                for (int child = 0; child < CHILDREN; child++) {
+                    long childId = add(insert, rootId, rootPath, 3);
+                    String childPath = rootPath + "L3-" + childId + "/";
+                    for (int grandchild = 0; grandchild < GRANDCHILDREN; grandchild++) {
+                        add(insert, childId, childPath, 4);
+                    }
+                }
+                insert.executeBatch();
+            }
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("INSERT INTO partner_closure (ancestor_id, descendant_id, headquarters_id, depth) "
+                    + "SELECT p.partner_id, p.partner_id, p.headquarters_id, 0 FROM partners p");
+            for (int level = 2; level <= 4; level++) {
+                statement.execute("INSERT INTO partner_closure (ancestor_id, descendant_id, headquarters_id, depth) "
+                        + "SELECT c.ancestor_id, p.partner_id, p.headquarters_id, c.depth + 1 "
+                        + "FROM partners p JOIN partner_closure c ON c.descendant_id = p.parent_partner_id "
+                        + "WHERE p.level = " + level);
+            }
+        }
+        connection.commit();
+    }
+
+    private long add(PreparedStatement insert, Long parentPartnerId, String parentPath, int level)
+            throws SQLException {
+        long partnerId = nextId++;
+        String hierarchicalId = "L" + level + "-" + partnerId;
+        insert.setLong(1, partnerId);
+        insert.setLong(2, HEADQUARTERS_ID);
+        if (parentPartnerId == null) {
+            insert.setNull(3, java.sql.Types.BIGINT);
+        } else {
+            insert.setLong(3, parentPartnerId);
+        }
+        insert.setString(4, hierarchicalId);
+        insert.setInt(5, level);
+        insert.setString(6, parentPath + hierarchicalId + "/");
+        insert.addBatch();
+        return partnerId;
+    }
+}
@@ -0,0 +1,39 @@
+package com.nsmm.esg.auth_service.benchmark;
+
+import com.nsmm.esg.auth_service.util.PasswordUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PasswordUtil 비밀번호 암호화/검증 벤치마크 (BCrypt)
+ *
+ * 호출당 수십 ms 단위이므로 평균 시간으로 측정
+ * 실행: ./gradlew jmh -PjmhInclude=PasswordUtilBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PasswordUtilBenchmark {
+
+    private static final String RAW_PASSWORD = "L2-001";
+
+    private PasswordUtil passwordUtil;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        passwordUtil = new PasswordUtil();
+        encodedPassword = passwordUtil.encodePassword(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    public String encodePassword() {
+        return passwordUtil.encodePassword(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordUtil.matches(RAW_PASSWORD, encodedPassword);
+    }
+}
@@ -0,0 +1,57 @@
+package com.nsmm.esg.auth_service.benchmark;
+
+import com.nsmm.esg.auth_service.dto.JwtClaims;
+import com.nsmm.esg.auth_service.dto.TokenIntrospectionResponse;
+import com.nsmm.esg.auth_service.service.TokenVerificationService;
+import com.nsmm.esg.auth_service.util.JwtUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 일괄 검증(introspection) 배치 크기별 처리량 비교
+ *
+ * 측정 단위: 배치 1건 처리 (토큰당 처리량 = 결과 × batchSize)
+ * cacheEnabled=true: 같은 세션 반복 검증 (Gateway 일반 상황), false: 매번 서명 검증
+ * 실행: ./gradlew jmh -PjmhInclude=TokenIntrospectionBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class TokenIntrospectionBenchmark {
+
+    @Param({"1", "16", "256"})
+    private int batchSize;
+
+    @Param({"true", "false"})
+    private boolean cacheEnabled;
+
+    private TokenVerificationService tokenVerificationService;
+    private List<String> tokens;
+
+    @Setup
+    public void setUp() {
+        JwtUtil jwtUtil = BenchmarkFixtures.jwtUtil();
+        tokenVerificationService = BenchmarkFixtures.tokenVerificationService(jwtUtil, cacheEnabled);
+
+        // 세션마다 다른 토큰
+        tokens = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            JwtClaims claims = BenchmarkFixtures.partnerClaims();
+            claims.setPartnerId((long) i);
+            tokens.add(jwtUtil.generateAccessToken(claims));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        tokenVerificationService.shutdown();
+    }
+
+    @Benchmark
+    public List<TokenIntrospectionResponse> introspect() {
+        return tokenVerificationService.introspect(tokens);
+    }
+}
@@ -2,6 +2,7 @@ package com.nsmm.esg.auth_service.config;
 
 import com.nsmm.esg.auth_service.dto.ApiResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -11,6 +12,7 @@ import org.springframework.web.bind.annotation.ExceptionHandler;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * 전역 예외 처리기
@@ -67,6 +69,20 @@ public class GlobalExceptionHandler {
         .body(ApiResponse.error(ex.getMessage(), "BAD_REQUEST"));
   }
 
+  /**
+   * 비밀번호 해시 실행기 과부하 처리 (대기열 초과 → 429)
+   */
+  @ExceptionHandler(RejectedExecutionException.class)
+  public ResponseEntity<ApiResponse<Object>> handleRejectedExecutionException(
+      RejectedExecutionException ex) {
+
+    log.warn("요청 거부 (처리 용량 초과): {}", ex.getMessage());
+
+    return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+        .header(HttpHeaders.RETRY_AFTER, "1")
+        .body(ApiResponse.error(ex.getMessage(), "TOO_MANY_REQUESTS"));
+  }
+
   /**
    * 일반적인 RuntimeException 처리
    */
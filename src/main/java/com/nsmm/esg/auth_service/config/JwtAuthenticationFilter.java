@@ -1,7 +1,9 @@
 package com.nsmm.esg.auth_service.config;
 
 import com.nsmm.esg.auth_service.dto.JwtClaims;
-import com.nsmm.esg.auth_service.util.JwtUtil;
+import com.nsmm.esg.auth_service.service.TokenVerificationService;
+import com.nsmm.esg.auth_service.service.TokenVerificationService.Verification;
+import com.nsmm.esg.auth_service.service.VerifiedTokenCache.CachedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.Cookie;
@@ -10,7 +12,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -24,13 +26,14 @@ import java.util.List;
 /**
  * JWT 인증 필터 - 쿠키 기반 JWT 토큰 검증만 지원
  * 모든 요청에서 쿠키의 JWT 토큰을 검증하고 인증 정보를 설정
+ * 검증은 TokenVerificationService의 공통 경로 사용 (검증 캐시 → 서명 검증 → 폐기 확인)
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtUtil jwtUtil;
+    private final TokenVerificationService tokenVerificationService;
 
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request,
@@ -41,13 +44,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // 쿠키에서 JWT 토큰 추출
             String jwt = getJwtFromCookie(request);
 
-            if (StringUtils.hasText(jwt) && jwtUtil.validateToken(jwt)) {
-                // JWT에서 사용자 정보 추출
-                JwtClaims claims = jwtUtil.getAllClaimsFromToken(jwt);
+            // 검증 캐시 조회 → 없으면 JWT 검증 및 사용자 정보 추출 (단일 파싱)
+            CachedToken verified = StringUtils.hasText(jwt) ? resolveVerifiedToken(jwt) : null;
 
-                // 권한 설정
-                String role = "ROLE_" + claims.getUserType(); // ROLE_HEADQUARTERS 또는 ROLE_PARTNER
-                List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(role));
+            if (verified != null) {
+                JwtClaims claims = verified.getClaims();
+                List<GrantedAuthority> authorities = verified.getAuthorities();
 
                 // 인증 객체 생성
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(claims,
@@ -67,6 +69,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * 검증된 토큰 정보 조회 (유효하지 않거나 폐기된 토큰이면 null)
+     */
+    private CachedToken resolveVerifiedToken(String jwt) {
+        Verification verification = tokenVerificationService.verify(jwt);
+        return verification.isValid() ? verification.getVerifiedToken() : null;
+    }
+
     /**
      * 쿠키에서 JWT 토큰 추출
      */
@@ -101,6 +111,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 path.startsWith("/api/v1/partners/logout") ||
                 path.startsWith("/api/v1/partners/check-email") ||
                 path.startsWith("/api/v1/partners/check-uuid") ||
+                path.equals("/.well-known/jwks.json") ||
                 path.startsWith("/actuator/") ||
                 path.startsWith("/h2-console/") ||
                 path.startsWith("/swagger-ui/") ||
@@ -0,0 +1,35 @@
+package com.nsmm.esg.auth_service.config;
+
+import com.nsmm.esg.auth_service.util.PasswordEncoders;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * 비밀번호 인코더 설정
+ *
+ * - password.encoding.id: 새 해시 알고리즘 (bcrypt | pbkdf2 | argon2)
+ * - password.encoding.bcrypt-strength: BCrypt cost (0이면 기동 시 target-latency 기준 자동 보정)
+ *
+ * 설정보다 약한 기존 해시는 로그인 성공 시 현재 설정으로 재해시됨 (PasswordHashingService.rehashIfNeeded)
+ */
+@Configuration
+public class PasswordEncoderConfig {
+
+    /**
+     * 비밀번호 암호화 Bean
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder(
+            @Value("${password.encoding.id:bcrypt}") String idForEncode,
+            @Value("${password.encoding.bcrypt-strength:0}") int bcryptStrength,
+            @Value("${password.encoding.target-latency:100}") long targetLatencyMillis,
+            @Value("${password.encoding.min-strength:10}") int minStrength,
+            @Value("${password.encoding.max-strength:14}") int maxStrength) {
+        int strength = bcryptStrength > 0
+                ? bcryptStrength
+                : PasswordEncoders.calibrateBCryptStrength(targetLatencyMillis, minStrength, maxStrength);
+        return PasswordEncoders.delegating(idForEncode, strength);
+    }
+}
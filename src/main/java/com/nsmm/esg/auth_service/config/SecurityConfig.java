@@ -1,6 +1,6 @@
 package com.nsmm.esg.auth_service.config;
 
-import com.nsmm.esg.auth_service.util.JwtUtil;
+import com.nsmm.esg.auth_service.service.TokenVerificationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -9,8 +9,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
@@ -28,18 +26,10 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @RequiredArgsConstructor
 public class SecurityConfig {
 
-        private final JwtUtil jwtUtil;
+        private final TokenVerificationService tokenVerificationService;
         private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
         private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
 
-        /**
-         * 비밀번호 암호화 Bean
-         */
-        @Bean
-        public PasswordEncoder passwordEncoder() {
-                return new BCryptPasswordEncoder();
-        }
-
         /**
          * Security Filter Chain 설정
          */
@@ -57,25 +47,31 @@ public class SecurityConfig {
                                 .authorizeHttpRequests(auth -> auth
                                                 // === 공개 엔드포인트 (인증 불필요) ===
                                                 .requestMatchers(
-                                                                // 본사 회원가입/로그인/로그아웃
+                                                                // 본사 회원가입/로그인/로그아웃/토큰 갱신
                                                                 "/api/v1/auth/headquarters/register",
                                                                 "/api/v1/auth/headquarters/login",
                                                                 "/api/v1/auth/headquarters/logout",
+                                                                "/api/v1/auth/headquarters/refresh",
                                                                 "/api/v1/auth/headquarters/check-email",
                                                                 "/api/v1/auth/headquarters/check-uuid",
                                                                 "/api/v1/auth/headquarters/by-uuid/*",
                                                                 "/api/v1/auth/headquarters/next-account-number",
                                                                 "/api/v1/auth/headquarters/validate-account-number",
 
-                                                                // 협력사 로그인/로그아웃 및 공개 API
+                                                                // 협력사 로그인/로그아웃/토큰 갱신 및 공개 API
                                                                 "/api/v1/auth/partners/login",
                                                                 "/api/v1/auth/partners/logout",
+                                                                "/api/v1/auth/partners/refresh",
                                                                 "/api/v1/auth/partners/check-email",
                                                                 "/api/v1/auth/partners/check-uuid",
                                                                 "/api/v1/auth/partners/initial-password",
                                                                 
                                                                 // 내부 서비스 API (마이크로서비스 간 통신용)
                                                                 "/api/v1/auth/partners/internal/**",
+                                                                "/api/v1/auth/internal/**",
+
+                                                                // JWT 검증용 공개키 (JWKS)
+                                                                "/.well-known/jwks.json",
 
                                                                 // 시스템 관련
                                                                 "/actuator/**",
@@ -92,7 +88,10 @@ public class SecurityConfig {
                                                 .requestMatchers(
                                                                 // 1차 협력사 생성 및 관리 (본사만 가능)
                                                                 "/api/v1/auth/partners/first-level",
-                                                                "/api/v1/auth/partners/unchanged-password")
+                                                                "/api/v1/auth/partners/unchanged-password",
+                                                                // 협력사 일괄 생성 / 하위 트리 이동
+                                                                "/api/v1/auth/partners/bulk",
+                                                                "/api/v1/auth/partners/{partnerId}/parent")
                                                 .hasRole("HEADQUARTERS")
 
                                                 // === 협력사 전용 엔드포인트 ===
@@ -140,7 +139,7 @@ public class SecurityConfig {
          */
         @Bean
         public JwtAuthenticationFilter jwtAuthenticationFilter() {
-                return new JwtAuthenticationFilter(jwtUtil);
+                return new JwtAuthenticationFilter(tokenVerificationService);
         }
 
 }
\ No newline at end of file
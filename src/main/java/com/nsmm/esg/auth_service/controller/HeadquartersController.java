@@ -3,6 +3,8 @@ package com.nsmm.esg.auth_service.controller;
 
 import com.nsmm.esg.auth_service.dto.ApiResponse;
 import com.nsmm.esg.auth_service.dto.JwtClaims;
+import com.nsmm.esg.auth_service.dto.LogoutRequest;
+import com.nsmm.esg.auth_service.dto.RefreshTokenRequest;
 import com.nsmm.esg.auth_service.dto.TokenResponse;
 import com.nsmm.esg.auth_service.dto.headquarters.HeadquartersLoginRequest;
 import com.nsmm.esg.auth_service.dto.headquarters.HeadquartersSignupRequest;
@@ -11,6 +13,10 @@ import com.nsmm.esg.auth_service.dto.headquarters.HeadquartersResponse;
 import com.nsmm.esg.auth_service.entity.Headquarters;
 import com.nsmm.esg.auth_service.service.AuthMetricsService;
 import com.nsmm.esg.auth_service.service.HeadquartersService;
+import com.nsmm.esg.auth_service.service.LoginConcurrencyLimiter;
+import com.nsmm.esg.auth_service.service.LoginRateLimiter;
+import com.nsmm.esg.auth_service.service.RefreshTokenService;
+import com.nsmm.esg.auth_service.service.TokenRevocationService;
 import com.nsmm.esg.auth_service.util.JwtUtil;
 import com.nsmm.esg.auth_service.util.SecurityUtil;
 import io.micrometer.core.annotation.Counted;
@@ -20,16 +26,23 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.RejectedExecutionException;
+
 /**
  * 본사 관리 컨트롤러
  * 
@@ -48,9 +61,13 @@ import org.springframework.web.bind.annotation.*;
 public class HeadquartersController {
 
         private final HeadquartersService headquartersService;
+        private final RefreshTokenService refreshTokenService;
+        private final TokenRevocationService tokenRevocationService;
         private final JwtUtil jwtUtil;
         private final SecurityUtil securityUtil;
         private final AuthMetricsService authMetricsService;
+        private final LoginRateLimiter loginRateLimiter;
+        private final LoginConcurrencyLimiter loginConcurrencyLimiter;
 
         // JWT 쿠키 설정값 주입
         @Value("${jwt.cookie.secure:false}")
@@ -109,9 +126,31 @@ public class HeadquartersController {
         @Counted(value = "headquarters_login_attempts", description = "본사 로그인 시도 횟수")
         public ResponseEntity<ApiResponse<TokenResponse>> login(
                         @Valid @RequestBody HeadquartersLoginRequest request,
+                        HttpServletRequest httpRequest,
                         HttpServletResponse response) {
 
                 log.info("본사 로그인 요청: 이메일={}", request.getEmail());
+
+                // 시도 횟수 제한 (계정 + IP) - DB 조회/비밀번호 검증 전에 거부
+                long retryAfterSeconds = loginRateLimiter.tryAcquireHeadquartersLogin(
+                                request.getEmail(), httpRequest.getRemoteAddr());
+                if (retryAfterSeconds > 0) {
+                        authMetricsService.incrementLoginAttempts("HEADQUARTERS", "rate_limited");
+                        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                                        .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                                        .body(ApiResponse.error("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.",
+                                                        "TOO_MANY_LOGIN_ATTEMPTS"));
+                }
+
+                // 동시 처리 한도 (지연 시간 기반 자동 조정) - 초과 시 대기 없이 즉시 거부
+                LoginConcurrencyLimiter.Permit permit = loginConcurrencyLimiter.tryAcquire();
+                if (permit == null) {
+                        authMetricsService.incrementLoginAttempts("HEADQUARTERS", "shed");
+                        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                        .header(HttpHeaders.RETRY_AFTER, "1")
+                                        .body(ApiResponse.error("로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.",
+                                                        "LOGIN_OVERLOADED"));
+                }
                 
                 Timer.Sample sample = authMetricsService.startLoginTimer();
 
@@ -120,19 +159,12 @@ public class HeadquartersController {
                         Headquarters headquarters = headquartersService.login(request);
 
                         // JWT 클레임 생성
-                        JwtClaims claims = JwtClaims.builder()
-                                        .accountNumber(headquarters.getHqAccountNumber())
-                                        .companyName(headquarters.getCompanyName())
-                                        .userType("HEADQUARTERS")
-                                        .level(null) // 본사는 레벨 없음
-                                        .treePath(null) // 본사는 트리 경로 없음
-                                        .headquartersId(headquarters.getHeadquartersId())
-                                        .partnerId(null) // 본사는 협력사 ID 없음
-                                        .build();
-
-                        // 토큰 생성
+                        JwtClaims claims = createJwtClaims(headquarters);
+
+                        // 토큰 생성 (Refresh Token은 새 토큰 패밀리로 발급)
                         String accessToken = jwtUtil.generateAccessToken(claims);
-                        String refreshToken = jwtUtil.generateRefreshToken(headquarters.getHqAccountNumber());
+                        String refreshToken = refreshTokenService.issue("HEADQUARTERS",
+                                        headquarters.getHeadquartersId(), headquarters.getHqAccountNumber());
 
                         // JWT 쿠키 설정
                         setJwtCookie(response, accessToken);
@@ -151,22 +183,31 @@ public class HeadquartersController {
 
                         // 로그인 성공 메트릭 기록
                         authMetricsService.incrementLoginAttempts("HEADQUARTERS", "success");
-                        authMetricsService.recordLoginDuration(sample, "HEADQUARTERS", "success");
+                        permit.onSuccess(authMetricsService.recordLoginDuration(sample, "HEADQUARTERS", "success"));
                         authMetricsService.incrementJwtOperations("issued", "access");
                         authMetricsService.incrementJwtOperations("issued", "refresh");
                         authMetricsService.incrementActiveHeadquartersUsers();
 
                         return ResponseEntity.ok(ApiResponse.success(tokenResponse, "로그인이 성공적으로 완료되었습니다."));
+                } catch (RejectedExecutionException e) {
+                        log.warn("본사 로그인 거부 (비밀번호 해시 대기열 초과)");
+                        authMetricsService.recordLoginDuration(sample, "HEADQUARTERS", "rejected");
+                        permit.onDropped();
+                        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                                        .header(HttpHeaders.RETRY_AFTER, "1")
+                                        .body(ApiResponse.error(e.getMessage(), "TOO_MANY_REQUESTS"));
                 } catch (Exception e) {
                         log.warn("본사 로그인 실패: {}", e.getMessage());
                         
                         // 로그인 실패 메트릭 기록
                         authMetricsService.incrementLoginAttempts("HEADQUARTERS", "failure");
-                        authMetricsService.recordLoginDuration(sample, "HEADQUARTERS", "failure");
+                        permit.onFailure(authMetricsService.recordLoginDuration(sample, "HEADQUARTERS", "failure"));
                         authMetricsService.incrementAuthFailures("invalid_credentials");
                         
                         return ResponseEntity.badRequest()
                                         .body(ApiResponse.error(e.getMessage(), "LOGIN_FAILED"));
+                } finally {
+                        permit.release();
                 }
         }
 
@@ -175,12 +216,23 @@ public class HeadquartersController {
          * JWT 쿠키 삭제
          */
         @PostMapping("/logout")
-        @Operation(summary = "본사 로그아웃", description = "JWT 쿠키 삭제")
+        @Operation(summary = "본사 로그아웃", description = "JWT 쿠키 삭제 및 토큰 폐기")
         @Counted(value = "headquarters_logout_attempts", description = "본사 로그아웃 시도 횟수")
-        public ResponseEntity<ApiResponse<String>> logout(HttpServletResponse response) {
+        public ResponseEntity<ApiResponse<String>> logout(
+                        @CookieValue(name = "jwt", required = false) String jwtCookie,
+                        @RequestBody(required = false) LogoutRequest request,
+                        HttpServletResponse response) {
 
                 log.info("본사 로그아웃 요청");
 
+                // Access Token 폐기 (쿠키 우선, 없으면 요청 본문) 및 Refresh Token 패밀리 폐기
+                String accessToken = StringUtils.hasText(jwtCookie) ? jwtCookie
+                                : request != null ? request.getAccessToken() : null;
+                tokenRevocationService.revokeAccessToken(accessToken);
+                if (request != null) {
+                        refreshTokenService.revoke(request.getRefreshToken());
+                }
+
                 // JWT 쿠키 삭제
                 clearJwtCookie(response);
                 
@@ -191,6 +243,50 @@ public class HeadquartersController {
                 return ResponseEntity.ok(ApiResponse.success("로그아웃 완료", "로그아웃이 성공적으로 완료되었습니다."));
         }
 
+        /**
+         * 본사 토큰 갱신
+         * Refresh Token → 새 Access Token 발급 + Refresh Token 교체 (비밀번호 검증 없음, PK 조회 1회)
+         */
+        @PostMapping("/refresh")
+        @Operation(summary = "본사 토큰 갱신", description = "Refresh Token으로 Access Token을 재발급하고 Refresh Token을 교체합니다")
+        @Counted(value = "headquarters_token_refresh_attempts", description = "본사 토큰 갱신 시도 횟수")
+        public ResponseEntity<ApiResponse<TokenResponse>> refresh(
+                        @Valid @RequestBody RefreshTokenRequest request,
+                        HttpServletResponse response) {
+
+                log.info("본사 토큰 갱신 요청");
+
+                try {
+                        // Refresh Token 교체 (재사용 감지 시 토큰 패밀리 폐기)
+                        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(
+                                        request.getRefreshToken(), "HEADQUARTERS");
+
+                        // 계정 상태 확인 (PK 조회)
+                        Headquarters headquarters = headquartersService.getCurrentUser(rotation.getEntityId());
+
+                        String accessToken = jwtUtil.generateAccessToken(createJwtClaims(headquarters));
+                        setJwtCookie(response, accessToken);
+
+                        TokenResponse tokenResponse = TokenResponse.of(
+                                        accessToken,
+                                        rotation.getRefreshToken(),
+                                        jwtUtil.getAccessTokenExpiration(),
+                                        headquarters.getHqAccountNumber(),
+                                        headquarters.getCompanyName(),
+                                        "HEADQUARTERS",
+                                        null);
+
+                        authMetricsService.incrementJwtOperations("refreshed", "access");
+                        authMetricsService.incrementJwtOperations("rotated", "refresh");
+
+                        return ResponseEntity.ok(ApiResponse.success(tokenResponse, "토큰이 갱신되었습니다."));
+                } catch (BadCredentialsException | IllegalArgumentException | IllegalStateException e) {
+                        log.warn("본사 토큰 갱신 실패: {}", e.getMessage());
+                        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                                        .body(ApiResponse.error(e.getMessage(), "TOKEN_REFRESH_FAILED"));
+                }
+        }
+
         /**
          * 현재 로그인한 본사 사용자 정보 조회
          * JWT 토큰을 기반으로 현재 로그인한 본사 사용자의 정보를 반환합니다.
@@ -330,6 +426,21 @@ public class HeadquartersController {
                 return ResponseEntity.ok(ApiResponse.success(isValid, message));
         }
 
+        /**
+         * 본사 JWT 클레임 생성
+         */
+        private JwtClaims createJwtClaims(Headquarters headquarters) {
+                return JwtClaims.builder()
+                                .accountNumber(headquarters.getHqAccountNumber())
+                                .companyName(headquarters.getCompanyName())
+                                .userType("HEADQUARTERS")
+                                .level(null) // 본사는 레벨 없음
+                                .treePath(null) // 본사는 트리 경로 없음
+                                .headquartersId(headquarters.getHeadquartersId())
+                                .partnerId(null) // 본사는 협력사 ID 없음
+                                .build();
+        }
+
         /**
          * JWT 토큰을 HttpOnly 쿠키에 설정
          */
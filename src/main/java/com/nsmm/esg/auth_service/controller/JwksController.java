@@ -0,0 +1,49 @@
+package com.nsmm.esg.auth_service.controller;
+
+import com.nsmm.esg.auth_service.util.JwtKeyProvider;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JWKS(JSON Web Key Set) 공개 컨트롤러
+ *
+ * 다른 마이크로서비스가 ES256 공개키를 받아 토큰을 로컬에서 검증하도록 제공
+ * (auth-service로의 검증 호출 불필요)
+ * 응답은 RFC 7517 형식 그대로 반환 (ApiResponse로 감싸지 않음)
+ */
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "JWKS", description = "JWT 검증용 공개키 API")
+public class JwksController {
+
+        private final JwtKeyProvider jwtKeyProvider;
+
+        @Value("${jwt.jwks.cache-max-age:3600}")
+        private long cacheMaxAgeSeconds;
+
+        /**
+         * 공개키 목록 조회
+         */
+        @GetMapping("/.well-known/jwks.json")
+        @Operation(summary = "JWKS 조회", description = "JWT 서명 검증용 공개키(JWK Set)를 반환합니다")
+        public ResponseEntity<Map<String, List<Map<String, Object>>>> getJwks() {
+
+                log.debug("JWKS 조회 요청");
+
+                return ResponseEntity.ok()
+                                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(cacheMaxAgeSeconds)).cachePublic())
+                                .body(Map.of("keys", jwtKeyProvider.getPublicJwks()));
+        }
+}
@@ -1,17 +1,31 @@
 package com.nsmm.esg.auth_service.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.nsmm.esg.auth_service.dto.ApiResponse;
 import com.nsmm.esg.auth_service.dto.JwtClaims;
+import com.nsmm.esg.auth_service.dto.LogoutRequest;
+import com.nsmm.esg.auth_service.dto.RefreshTokenRequest;
 import com.nsmm.esg.auth_service.dto.TokenResponse;
 import com.nsmm.esg.auth_service.dto.partner.PartnerCreateRequest;
 import com.nsmm.esg.auth_service.dto.partner.PartnerCreateResponse;
+import com.nsmm.esg.auth_service.dto.partner.PartnerImportResponse;
+import com.nsmm.esg.auth_service.dto.partner.PartnerImportResult;
+import com.nsmm.esg.auth_service.dto.partner.PartnerMoveRequest;
+import com.nsmm.esg.auth_service.dto.partner.PartnerMoveResponse;
 import com.nsmm.esg.auth_service.dto.partner.PartnerLoginRequest;
+import com.nsmm.esg.auth_service.dto.partner.PartnerPageResponse;
 import com.nsmm.esg.auth_service.dto.partner.PartnerResponse;
 import com.nsmm.esg.auth_service.entity.Headquarters;
 import com.nsmm.esg.auth_service.entity.Partner;
 import com.nsmm.esg.auth_service.service.AuthMetricsService;
 import com.nsmm.esg.auth_service.service.HeadquartersService;
+import com.nsmm.esg.auth_service.service.LoginConcurrencyLimiter;
+import com.nsmm.esg.auth_service.service.LoginRateLimiter;
+import com.nsmm.esg.auth_service.service.PartnerClosureService;
+import com.nsmm.esg.auth_service.service.PartnerImportService;
 import com.nsmm.esg.auth_service.service.PartnerService;
+import com.nsmm.esg.auth_service.service.RefreshTokenService;
+import com.nsmm.esg.auth_service.service.TokenRevocationService;
 import com.nsmm.esg.auth_service.util.JwtUtil;
 import com.nsmm.esg.auth_service.util.SecurityUtil;
 import io.micrometer.core.annotation.Counted;
@@ -21,18 +35,34 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 
 /**
  * 협력사 관리 컨트롤러
@@ -51,11 +81,20 @@ import java.util.List;
 @Tag(name = "협력사 관리", description = "계층형 협력사 생성, 로그인, 관리 API")
 public class PartnerController {
 
+        private static final int STREAM_BUFFER_SIZE = 8192;
+
         private final PartnerService partnerService;
+        private final PartnerClosureService partnerClosureService;
+        private final PartnerImportService partnerImportService;
         private final HeadquartersService headquartersService;
+        private final RefreshTokenService refreshTokenService;
+        private final TokenRevocationService tokenRevocationService;
         private final JwtUtil jwtUtil;
         private final SecurityUtil securityUtil;
         private final AuthMetricsService authMetricsService;
+        private final LoginRateLimiter loginRateLimiter;
+        private final LoginConcurrencyLimiter loginConcurrencyLimiter;
+        private final ObjectMapper objectMapper;
 
         // JWT 쿠키 설정값 주입
         @Value("${jwt.cookie.secure:false}")
@@ -140,6 +179,12 @@ public class PartnerController {
                         authMetricsService.recordPartnerCreationDuration(sample, "unknown", "failure");
                         return ResponseEntity.badRequest()
                                         .body(ApiResponse.error(e.getMessage(), "CREATE_FAILED"));
+                } catch (RejectedExecutionException e) {
+                        log.warn("DART API 기반 협력사 생성 거부 (비밀번호 해시 대기열 초과)");
+                        authMetricsService.recordPartnerCreationDuration(sample, "unknown", "rejected");
+                        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                                        .header(HttpHeaders.RETRY_AFTER, "1")
+                                        .body(ApiResponse.error(e.getMessage(), "TOO_MANY_REQUESTS"));
                 } catch (Exception e) {
                         log.error("DART API 기반 협력사 생성 중 오류 발생", e);
                         authMetricsService.recordPartnerCreationDuration(sample, "unknown", "failure");
@@ -148,6 +193,31 @@ public class PartnerController {
                 }
         }
 
+        /**
+         * 협력사 일괄 생성 (JSON 배열)
+         * 행마다 create-by-uuid와 같은 요청 형식, parentUuid로 같은 요청 안의 다른 행도 지정 가능
+         */
+        @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+        @Operation(summary = "협력사 일괄 생성 (JSON)", description = "협력사 생성 요청 배열(최대 10,000건)을 한 번에 처리하고 행별 결과를 반환합니다")
+        @PreAuthorize("hasRole('HEADQUARTERS')")
+        @SecurityRequirement(name = "JWT")
+        public ResponseEntity<ApiResponse<PartnerImportResponse>> importPartners(
+                        @RequestBody List<PartnerCreateRequest> requests) {
+                return importResponse(() -> requests);
+        }
+
+        /**
+         * 협력사 일괄 생성 (CSV)
+         * 첫 줄 헤더: uuid, contactPerson, companyName (필수) / address, parentUuid, phone (선택)
+         */
+        @PostMapping(value = "/bulk", consumes = "text/csv")
+        @Operation(summary = "협력사 일괄 생성 (CSV)", description = "CSV(헤더 포함, 최대 10,000행)를 읽는 대로 변환해 일괄 생성하고 행별 결과를 반환합니다")
+        @PreAuthorize("hasRole('HEADQUARTERS')")
+        @SecurityRequirement(name = "JWT")
+        public ResponseEntity<ApiResponse<PartnerImportResponse>> importPartnersCsv(Reader body) {
+                return importResponse(() -> partnerImportService.parseCsv(body));
+        }
+
         /**
          * 협력사 로그인
          * 전체 계정번호 + 이메일 + 비밀번호
@@ -159,11 +229,33 @@ public class PartnerController {
         @Counted(value = "partner_login_attempts", description = "협력사 로그인 시도 횟수")
         public ResponseEntity<ApiResponse<TokenResponse>> login(
                         @Valid @RequestBody PartnerLoginRequest request,
+                        HttpServletRequest httpRequest,
                         HttpServletResponse response) {
 
                 log.info("협력사 로그인 요청: 본사계정번호={}, 협력사아이디={}",
                                 request.getHqAccountNumber(), request.getPartnerCode());
 
+                // 시도 횟수 제한 (계정 + IP) - DB 조회/비밀번호 검증 전에 거부
+                long retryAfterSeconds = loginRateLimiter.tryAcquirePartnerLogin(
+                                request.getHqAccountNumber(), request.getPartnerCode(), httpRequest.getRemoteAddr());
+                if (retryAfterSeconds > 0) {
+                        authMetricsService.incrementLoginAttempts("PARTNER", "rate_limited");
+                        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                                        .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                                        .body(ApiResponse.error("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.",
+                                                        "TOO_MANY_LOGIN_ATTEMPTS"));
+                }
+
+                // 동시 처리 한도 (지연 시간 기반 자동 조정) - 초과 시 대기 없이 즉시 거부
+                LoginConcurrencyLimiter.Permit permit = loginConcurrencyLimiter.tryAcquire();
+                if (permit == null) {
+                        authMetricsService.incrementLoginAttempts("PARTNER", "shed");
+                        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                                        .header(HttpHeaders.RETRY_AFTER, "1")
+                                        .body(ApiResponse.error("로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.",
+                                                        "LOGIN_OVERLOADED"));
+                }
+
                 Timer.Sample sample = authMetricsService.startLoginTimer();
 
                 try {
@@ -174,19 +266,12 @@ public class PartnerController {
                                         request.getPassword());
 
                         // JWT 클레임 생성
-                        JwtClaims claims = JwtClaims.builder()
-                                        .accountNumber(partner.getFullAccountNumber())
-                                        .companyName(partner.getCompanyName())
-                                        .userType("PARTNER")
-                                        .level(partner.getLevel())
-                                        .treePath(partner.getTreePath())
-                                        .headquartersId(partner.getHeadquarters().getHeadquartersId())
-                                        .partnerId(partner.getPartnerId())
-                                        .build();
-
-                        // 토큰 생성
+                        JwtClaims claims = createJwtClaims(partner);
+
+                        // 토큰 생성 (Refresh Token은 새 토큰 패밀리로 발급)
                         String accessToken = jwtUtil.generateAccessToken(claims);
-                        String refreshToken = jwtUtil.generateRefreshToken(partner.getFullAccountNumber());
+                        String refreshToken = refreshTokenService.issue("PARTNER",
+                                        partner.getPartnerId(), partner.getFullAccountNumber());
 
                         // JWT 쿠키 설정
                         setJwtCookie(response, accessToken);
@@ -207,7 +292,7 @@ public class PartnerController {
 
                         // 협력사 로그인 성공 메트릭 기록
                         authMetricsService.incrementLoginAttempts("PARTNER", "success");
-                        authMetricsService.recordLoginDuration(sample, "PARTNER", "success");
+                        permit.onSuccess(authMetricsService.recordLoginDuration(sample, "PARTNER", "success"));
                         authMetricsService.incrementJwtOperations("issued", "access");
                         authMetricsService.incrementJwtOperations("issued", "refresh");
                         authMetricsService.incrementActivePartnerUsers();
@@ -218,16 +303,25 @@ public class PartnerController {
                         }
 
                         return ResponseEntity.ok(ApiResponse.success(tokenResponse, "로그인이 성공적으로 완료되었습니다."));
+                } catch (RejectedExecutionException e) {
+                        log.warn("협력사 로그인 거부 (비밀번호 해시 대기열 초과)");
+                        authMetricsService.recordLoginDuration(sample, "PARTNER", "rejected");
+                        permit.onDropped();
+                        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                                        .header(HttpHeaders.RETRY_AFTER, "1")
+                                        .body(ApiResponse.error(e.getMessage(), "TOO_MANY_REQUESTS"));
                 } catch (Exception e) {
                         log.warn("협력사 로그인 실패: {}", e.getMessage());
                         
                         // 협력사 로그인 실패 메트릭 기록
                         authMetricsService.incrementLoginAttempts("PARTNER", "failure");
-                        authMetricsService.recordLoginDuration(sample, "PARTNER", "failure");
+                        permit.onFailure(authMetricsService.recordLoginDuration(sample, "PARTNER", "failure"));
                         authMetricsService.incrementAuthFailures("invalid_credentials");
                         
                         return ResponseEntity.badRequest()
                                         .body(ApiResponse.error(e.getMessage(), "LOGIN_FAILED"));
+                } finally {
+                        permit.release();
                 }
         }
 
@@ -311,45 +405,24 @@ public class PartnerController {
 
                 try {
                         String userType = securityUtil.getCurrentUserType();
-                        List<Partner> partners;
+                        Long headquartersId = securityUtil.getCurrentHeadquartersId();
+                        List<PartnerResponse> responses = new java.util.ArrayList<>();
 
                         if ("HEADQUARTERS".equals(userType)) {
                                 // 본사: 본사 자신 + 모든 협력사 접근 가능
-                                Long headquartersId = securityUtil.getCurrentHeadquartersId();
-                                
-                                // 모든 협력사 조회
-                                partners = partnerService.findAccessiblePartners("HEADQUARTERS", headquartersId, null,
-                                                null);
-                                
-                                // 본사 정보를 PartnerResponse로 변환하여 추가
                                 Headquarters headquarters = headquartersService.findById(headquartersId)
                                                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 본사입니다: " + headquartersId));
-                                
-                                PartnerResponse headquartersAsPartner = headquartersService.convertToPartnerResponse(headquarters);
-                                
-                                // 응답 리스트 생성 (본사를 맨 앞에 배치)
-                                List<PartnerResponse> responses = new java.util.ArrayList<>();
-                                responses.add(headquartersAsPartner);
-                                responses.addAll(partners.stream()
-                                                .map(PartnerResponse::from)
-                                                .toList());
-
-                                return ResponseEntity.ok(ApiResponse.success(responses,
-                                                "접근 가능한 협력사 목록이 조회되었습니다. (총 " + responses.size() + "개)"));
+
+                                // 본사 정보를 PartnerResponse로 변환하여 맨 앞에 배치
+                                responses.add(headquartersService.convertToPartnerResponse(headquarters));
+                                responses.addAll(partnerService.findAccessiblePartners("HEADQUARTERS", headquartersId, null));
                         } else {
                                 // 협력사: 본인 + 직속하위 1단계만 접근 가능
                                 Long currentPartnerId = securityUtil.getCurrentEntityId();
-                                Partner currentPartner = partnerService.findById(currentPartnerId)
-                                                .orElseThrow(() -> new IllegalArgumentException(
-                                                                "존재하지 않는 협력사입니다: " + currentPartnerId));
-                                partners = partnerService.findAccessiblePartners("PARTNER", currentPartnerId,
-                                                currentPartner.getTreePath(), currentPartner.getLevel());
+                                responses.addAll(partnerService.findAccessiblePartners("PARTNER", headquartersId,
+                                                currentPartnerId));
                         }
 
-                        List<PartnerResponse> responses = partners.stream()
-                                        .map(PartnerResponse::from)
-                                        .toList();
-
                         return ResponseEntity.ok(ApiResponse.success(responses,
                                         "접근 가능한 협력사 목록이 조회되었습니다. (총 " + responses.size() + "개)"));
                 } catch (Exception e) {
@@ -375,11 +448,7 @@ public class PartnerController {
                         Long headquartersId = securityUtil.getCurrentHeadquartersId();
 
                         // 1차 협력사 목록 조회
-                        List<Partner> partners = partnerService.findFirstLevelPartners(headquartersId);
-
-                        List<PartnerResponse> responses = partners.stream()
-                                        .map(PartnerResponse::from)
-                                        .toList();
+                        List<PartnerResponse> responses = partnerService.findFirstLevelPartners(headquartersId);
 
                         return ResponseEntity.ok(ApiResponse.success(responses,
                                         "1차 협력사 목록이 조회되었습니다. (총 " + responses.size() + "개)"));
@@ -403,17 +472,9 @@ public class PartnerController {
                 log.info("직접 하위 협력사 목록 조회 요청: 상위ID={}", parentId);
 
                 try {
-                        // 상위 협력사 조회
-                        Partner parent = partnerService.findById(parentId)
-                                        .orElseThrow(() -> new IllegalArgumentException(
-                                                        "존재하지 않는 협력사입니다: " + parentId));
-
-                        // 직접 하위 협력사 목록 조회
-                        List<Partner> children = partnerService.findDirectChildren(parent.getPartnerId());
-
-                        List<PartnerResponse> responses = children.stream()
-                                        .map(PartnerResponse::from)
-                                        .toList();
+                        // 직접 하위 협력사 목록 조회 (상위 협력사가 없으면 IllegalArgumentException)
+                        List<PartnerResponse> responses = partnerService.findDirectChildren(
+                                        securityUtil.getCurrentHeadquartersId(), parentId);
 
                         return ResponseEntity.ok(ApiResponse.success(responses,
                                         "직접 하위 협력사 목록이 조회되었습니다. (총 " + responses.size() + "개)"));
@@ -428,6 +489,121 @@ public class PartnerController {
                 }
         }
 
+        /**
+         * 전체 하위 협력사 목록 조회 (클로저 테이블)
+         */
+        @GetMapping("/{partnerId}/descendants")
+        @Operation(summary = "전체 하위 협력사 목록 조회", description = "특정 협력사의 모든 하위 협력사를 가까운 단계부터 조회합니다 (maxDepth 지정 시 해당 단계까지)")
+        @PreAuthorize("hasRole('HEADQUARTERS') or (hasRole('PARTNER') and @securityUtil.getCurrentEntityId() == #partnerId)")
+        @SecurityRequirement(name = "JWT")
+        public ResponseEntity<ApiResponse<List<PartnerResponse>>> getDescendants(
+                        @PathVariable Long partnerId,
+                        @RequestParam(required = false) Integer maxDepth) {
+
+                log.info("전체 하위 협력사 목록 조회 요청: 협력사ID={}, maxDepth={}", partnerId, maxDepth);
+
+                try {
+                        List<PartnerResponse> responses = partnerClosureService.findDescendants(
+                                        securityUtil.getCurrentHeadquartersId(), partnerId, maxDepth);
+
+                        return ResponseEntity.ok(ApiResponse.success(responses,
+                                        "전체 하위 협력사 목록이 조회되었습니다. (총 " + responses.size() + "개)"));
+                } catch (IllegalArgumentException e) {
+                        log.warn("전체 하위 협력사 목록 조회 실패: {}", e.getMessage());
+                        return ResponseEntity.badRequest()
+                                        .body(ApiResponse.error(e.getMessage(), "PARTNER_NOT_FOUND"));
+                } catch (Exception e) {
+                        log.error("전체 하위 협력사 목록 조회 중 오류 발생", e);
+                        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                                        .body(ApiResponse.error("서버 오류가 발생했습니다.", "INTERNAL_ERROR"));
+                }
+        }
+
+        /**
+         * 전체 상위 협력사 목록 조회 (클로저 테이블)
+         */
+        @GetMapping("/{partnerId}/ancestors")
+        @Operation(summary = "전체 상위 협력사 목록 조회", description = "특정 협력사의 모든 상위 협력사를 1차 협력사부터 조회합니다")
+        @PreAuthorize("hasRole('HEADQUARTERS') or (hasRole('PARTNER') and @securityUtil.getCurrentEntityId() == #partnerId)")
+        @SecurityRequirement(name = "JWT")
+        public ResponseEntity<ApiResponse<List<PartnerResponse>>> getAncestors(@PathVariable Long partnerId) {
+
+                log.info("전체 상위 협력사 목록 조회 요청: 협력사ID={}", partnerId);
+
+                try {
+                        List<PartnerResponse> responses = partnerClosureService.findAncestors(
+                                        securityUtil.getCurrentHeadquartersId(), partnerId);
+
+                        return ResponseEntity.ok(ApiResponse.success(responses,
+                                        "전체 상위 협력사 목록이 조회되었습니다. (총 " + responses.size() + "개)"));
+                } catch (IllegalArgumentException e) {
+                        log.warn("전체 상위 협력사 목록 조회 실패: {}", e.getMessage());
+                        return ResponseEntity.badRequest()
+                                        .body(ApiResponse.error(e.getMessage(), "PARTNER_NOT_FOUND"));
+                } catch (Exception e) {
+                        log.error("전체 상위 협력사 목록 조회 중 오류 발생", e);
+                        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                                        .body(ApiResponse.error("서버 오류가 발생했습니다.", "INTERNAL_ERROR"));
+                }
+        }
+
+        /**
+         * 전체 하위 협력사 수 조회 (클로저 테이블)
+         */
+        @GetMapping("/{partnerId}/subtree-count")
+        @Operation(summary = "전체 하위 협력사 수 조회", description = "특정 협력사의 모든 하위 협력사 수를 조회합니다")
+        @PreAuthorize("hasRole('HEADQUARTERS') or (hasRole('PARTNER') and @securityUtil.getCurrentEntityId() == #partnerId)")
+        @SecurityRequirement(name = "JWT")
+        public ResponseEntity<ApiResponse<Long>> getSubtreeCount(@PathVariable Long partnerId) {
+
+                log.info("전체 하위 협력사 수 조회 요청: 협력사ID={}", partnerId);
+
+                try {
+                        long count = partnerClosureService.countDescendants(
+                                        securityUtil.getCurrentHeadquartersId(), partnerId);
+
+                        return ResponseEntity.ok(ApiResponse.success(count, "전체 하위 협력사 수가 조회되었습니다."));
+                } catch (IllegalArgumentException e) {
+                        log.warn("전체 하위 협력사 수 조회 실패: {}", e.getMessage());
+                        return ResponseEntity.badRequest()
+                                        .body(ApiResponse.error(e.getMessage(), "PARTNER_NOT_FOUND"));
+                } catch (Exception e) {
+                        log.error("전체 하위 협력사 수 조회 중 오류 발생", e);
+                        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                                        .body(ApiResponse.error("서버 오류가 발생했습니다.", "INTERNAL_ERROR"));
+                }
+        }
+
+        /**
+         * 협력사 이동 (상위 협력사 변경, 하위 협력사 전체 함께 이동)
+         */
+        @PutMapping("/{partnerId}/parent")
+        @Operation(summary = "협력사 이동", description = "협력사를 다른 상위 협력사 아래(또는 1차)로 옮기고 하위 협력사 전체의 트리 경로와 레벨을 함께 갱신합니다. 계층적 아이디(로그인 계정)는 바뀌지 않습니다")
+        @PreAuthorize("hasRole('HEADQUARTERS')")
+        @SecurityRequirement(name = "JWT")
+        public ResponseEntity<ApiResponse<PartnerMoveResponse>> movePartner(
+                        @PathVariable Long partnerId,
+                        @RequestBody PartnerMoveRequest request) {
+
+                log.info("협력사 이동 요청: 협력사ID={}, 새상위ID={}", partnerId, request.getParentPartnerId());
+
+                try {
+                        PartnerMoveResponse response = partnerService.movePartner(
+                                        securityUtil.getCurrentHeadquartersId(), partnerId, request.getParentPartnerId());
+
+                        return ResponseEntity.ok(ApiResponse.success(response,
+                                        "협력사가 이동되었습니다. (갱신 " + response.getMovedPartners() + "개)"));
+                } catch (IllegalArgumentException e) {
+                        log.warn("협력사 이동 실패: {}", e.getMessage());
+                        return ResponseEntity.badRequest()
+                                        .body(ApiResponse.error(e.getMessage(), "INVALID_MOVE_REQUEST"));
+                } catch (Exception e) {
+                        log.error("협력사 이동 중 오류 발생", e);
+                        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                                        .body(ApiResponse.error("서버 오류가 발생했습니다.", "INTERNAL_ERROR"));
+                }
+        }
+
         /**
          * 비밀번호 미변경 협력사 목록 조회
          */
@@ -444,11 +620,7 @@ public class PartnerController {
                         Long headquartersId = securityUtil.getCurrentHeadquartersId();
 
                         // 비밀번호 미변경 협력사 목록 조회
-                        List<Partner> partners = partnerService.findUnchangedPasswordPartners(headquartersId);
-
-                        List<PartnerResponse> responses = partners.stream()
-                                        .map(PartnerResponse::from)
-                                        .toList();
+                        List<PartnerResponse> responses = partnerService.findUnchangedPasswordPartners(headquartersId);
 
                         return ResponseEntity.ok(ApiResponse.success(responses,
                                         "비밀번호 미변경 협력사 목록이 조회되었습니다. (총 " + responses.size() + "개)"));
@@ -459,16 +631,111 @@ public class PartnerController {
                 }
         }
 
+        /**
+         * 본사 전체 협력사 페이지 조회 (키셋 커서)
+         */
+        @GetMapping("/accessible/page")
+        @Operation(summary = "전체 협력사 페이지 조회", description = "본사의 전체 협력사를 레벨, 생성 순으로 페이지 단위 조회합니다 (cursor: 이전 응답의 nextCursor)")
+        @PreAuthorize("hasRole('HEADQUARTERS')")
+        @SecurityRequirement(name = "JWT")
+        public ResponseEntity<ApiResponse<PartnerPageResponse>> getAllPartnersPage(
+                        @RequestParam(required = false) String cursor,
+                        @RequestParam(required = false) Integer size) {
+                return pageResponse("전체 협력사", () -> partnerService.findAllPartnersPage(
+                                securityUtil.getCurrentHeadquartersId(), cursor, size));
+        }
+
+        /**
+         * 1차 협력사 페이지 조회 (키셋 커서)
+         */
+        @GetMapping("/first-level/page")
+        @Operation(summary = "1차 협력사 페이지 조회", description = "본사의 1차 협력사를 생성 순으로 페이지 단위 조회합니다")
+        @PreAuthorize("hasRole('HEADQUARTERS')")
+        @SecurityRequirement(name = "JWT")
+        public ResponseEntity<ApiResponse<PartnerPageResponse>> getFirstLevelPartnersPage(
+                        @RequestParam(required = false) String cursor,
+                        @RequestParam(required = false) Integer size) {
+                return pageResponse("1차 협력사", () -> partnerService.findFirstLevelPartnersPage(
+                                securityUtil.getCurrentHeadquartersId(), cursor, size));
+        }
+
+        /**
+         * 비밀번호 미변경 협력사 페이지 조회 (키셋 커서)
+         */
+        @GetMapping("/unchanged-password/page")
+        @Operation(summary = "비밀번호 미변경 협력사 페이지 조회", description = "비밀번호를 아직 변경하지 않은 협력사를 페이지 단위 조회합니다")
+        @PreAuthorize("hasRole('HEADQUARTERS')")
+        @SecurityRequirement(name = "JWT")
+        public ResponseEntity<ApiResponse<PartnerPageResponse>> getUnchangedPasswordPartnersPage(
+                        @RequestParam(required = false) String cursor,
+                        @RequestParam(required = false) Integer size) {
+                return pageResponse("비밀번호 미변경 협력사", () -> partnerService.findUnchangedPasswordPartnersPage(
+                                securityUtil.getCurrentHeadquartersId(), cursor, size));
+        }
+
+        /**
+         * 본사 전체 협력사 스트리밍 조회 (NDJSON 또는 JSON 배열)
+         */
+        @GetMapping("/accessible/stream")
+        @Operation(summary = "전체 협력사 스트리밍 조회", description = "본사의 전체 협력사를 DB에서 읽는 대로 응답에 기록합니다 (format: ndjson | json)")
+        @PreAuthorize("hasRole('HEADQUARTERS')")
+        @SecurityRequirement(name = "JWT")
+        public ResponseEntity<StreamingResponseBody> streamAllPartners(
+                        @RequestParam(defaultValue = "ndjson") String format) {
+                Long headquartersId = securityUtil.getCurrentHeadquartersId();
+                return streamResponse("전체 협력사", format,
+                                consumer -> partnerService.streamAllPartners(headquartersId, consumer));
+        }
+
+        /**
+         * 1차 협력사 스트리밍 조회
+         */
+        @GetMapping("/first-level/stream")
+        @Operation(summary = "1차 협력사 스트리밍 조회", description = "본사의 1차 협력사를 DB에서 읽는 대로 응답에 기록합니다 (format: ndjson | json)")
+        @PreAuthorize("hasRole('HEADQUARTERS')")
+        @SecurityRequirement(name = "JWT")
+        public ResponseEntity<StreamingResponseBody> streamFirstLevelPartners(
+                        @RequestParam(defaultValue = "ndjson") String format) {
+                Long headquartersId = securityUtil.getCurrentHeadquartersId();
+                return streamResponse("1차 협력사", format,
+                                consumer -> partnerService.streamFirstLevelPartners(headquartersId, consumer));
+        }
+
+        /**
+         * 비밀번호 미변경 협력사 스트리밍 조회
+         */
+        @GetMapping("/unchanged-password/stream")
+        @Operation(summary = "비밀번호 미변경 협력사 스트리밍 조회", description = "비밀번호 미변경 협력사를 DB에서 읽는 대로 응답에 기록합니다 (format: ndjson | json)")
+        @PreAuthorize("hasRole('HEADQUARTERS')")
+        @SecurityRequirement(name = "JWT")
+        public ResponseEntity<StreamingResponseBody> streamUnchangedPasswordPartners(
+                        @RequestParam(defaultValue = "ndjson") String format) {
+                Long headquartersId = securityUtil.getCurrentHeadquartersId();
+                return streamResponse("비밀번호 미변경 협력사", format,
+                                consumer -> partnerService.streamUnchangedPasswordPartners(headquartersId, consumer));
+        }
+
         /**
          * 협력사 로그아웃
          */
         @PostMapping("/logout")
-        @Operation(summary = "협력사 로그아웃", description = "JWT 쿠키를 삭제하여 로그아웃 처리")
+        @Operation(summary = "협력사 로그아웃", description = "JWT 쿠키 삭제 및 토큰 폐기")
         @Counted(value = "partner_logout_attempts", description = "협력사 로그아웃 시도 횟수")
-        public ResponseEntity<ApiResponse<String>> logout(HttpServletResponse response) {
+        public ResponseEntity<ApiResponse<String>> logout(
+                        @CookieValue(name = "jwt", required = false) String jwtCookie,
+                        @RequestBody(required = false) LogoutRequest request,
+                        HttpServletResponse response) {
 
                 log.info("협력사 로그아웃 요청");
 
+                // Access Token 폐기 (쿠키 우선, 없으면 요청 본문) 및 Refresh Token 패밀리 폐기
+                String accessToken = StringUtils.hasText(jwtCookie) ? jwtCookie
+                                : request != null ? request.getAccessToken() : null;
+                tokenRevocationService.revokeAccessToken(accessToken);
+                if (request != null) {
+                        refreshTokenService.revoke(request.getRefreshToken());
+                }
+
                 // JWT 쿠키 삭제
                 clearJwtCookie(response);
                 
@@ -479,6 +746,51 @@ public class PartnerController {
                 return ResponseEntity.ok(ApiResponse.success("로그아웃 완료", "로그아웃이 성공적으로 완료되었습니다."));
         }
 
+        /**
+         * 협력사 토큰 갱신
+         * Refresh Token → 새 Access Token 발급 + Refresh Token 교체 (비밀번호 검증 없음, PK 조회 1회)
+         */
+        @PostMapping("/refresh")
+        @Operation(summary = "협력사 토큰 갱신", description = "Refresh Token으로 Access Token을 재발급하고 Refresh Token을 교체합니다")
+        @Counted(value = "partner_token_refresh_attempts", description = "협력사 토큰 갱신 시도 횟수")
+        public ResponseEntity<ApiResponse<TokenResponse>> refresh(
+                        @Valid @RequestBody RefreshTokenRequest request,
+                        HttpServletResponse response) {
+
+                log.info("협력사 토큰 갱신 요청");
+
+                try {
+                        // Refresh Token 교체 (재사용 감지 시 토큰 패밀리 폐기)
+                        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(
+                                        request.getRefreshToken(), "PARTNER");
+
+                        // 계정 상태 확인 (PK 조회)
+                        Partner partner = partnerService.getCurrentUser(rotation.getEntityId());
+
+                        String accessToken = jwtUtil.generateAccessToken(createJwtClaims(partner));
+                        setJwtCookie(response, accessToken);
+
+                        TokenResponse tokenResponse = TokenResponse.ofPartner(
+                                        accessToken,
+                                        rotation.getRefreshToken(),
+                                        jwtUtil.getAccessTokenExpiration(),
+                                        partner.getFullAccountNumber(),
+                                        partner.getCompanyName(),
+                                        "PARTNER",
+                                        partner.getLevel(),
+                                        partner.getPasswordChanged());
+
+                        authMetricsService.incrementJwtOperations("refreshed", "access");
+                        authMetricsService.incrementJwtOperations("rotated", "refresh");
+
+                        return ResponseEntity.ok(ApiResponse.success(tokenResponse, "토큰이 갱신되었습니다."));
+                } catch (BadCredentialsException | IllegalArgumentException | IllegalStateException e) {
+                        log.warn("협력사 토큰 갱신 실패: {}", e.getMessage());
+                        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                                        .body(ApiResponse.error(e.getMessage(), "TOKEN_REFRESH_FAILED"));
+                }
+        }
+
         /**
          * 현재 로그인한 협력사 사용자 정보 조회
          * JWT 토큰을 기반으로 현재 로그인한 협력사 사용자의 정보를 반환합니다.
@@ -572,6 +884,21 @@ public class PartnerController {
                 }
         }
 
+        /**
+         * 협력사 JWT 클레임 생성
+         */
+        private JwtClaims createJwtClaims(Partner partner) {
+                return JwtClaims.builder()
+                                .accountNumber(partner.getFullAccountNumber())
+                                .companyName(partner.getCompanyName())
+                                .userType("PARTNER")
+                                .level(partner.getLevel())
+                                .treePath(partner.getTreePath())
+                                .headquartersId(partner.getHeadquarters().getHeadquartersId())
+                                .partnerId(partner.getPartnerId())
+                                .build();
+        }
+
         /**
          * JWT 토큰을 HttpOnly 쿠키에 설정
          */
@@ -597,4 +924,118 @@ public class PartnerController {
                 response.addCookie(jwtCookie);
                 log.debug("JWT 쿠키 삭제 완료");
         }
-}
\ No newline at end of file
+
+        /**
+         * 페이지 조회 공통 처리 (잘못된 커서/크기 → 400 INVALID_PAGE_REQUEST)
+         */
+        private ResponseEntity<ApiResponse<PartnerPageResponse>> pageResponse(String target,
+                        Supplier<PartnerPageResponse> query) {
+                log.info("{} 페이지 조회 요청", target);
+
+                try {
+                        PartnerPageResponse page = query.get();
+                        return ResponseEntity.ok(ApiResponse.success(page,
+                                        target + " 페이지가 조회되었습니다. (" + page.getItems().size() + "개)"));
+                } catch (IllegalArgumentException e) {
+                        log.warn("{} 페이지 조회 실패: {}", target, e.getMessage());
+                        return ResponseEntity.badRequest()
+                                        .body(ApiResponse.error(e.getMessage(), "INVALID_PAGE_REQUEST"));
+                } catch (Exception e) {
+                        log.error("{} 페이지 조회 중 오류 발생", target, e);
+                        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                                        .body(ApiResponse.error("서버 오류가 발생했습니다.", "INTERNAL_ERROR"));
+                }
+        }
+
+        /**
+         * 일괄 생성 공통 처리 (행별 실패는 200 응답의 results에 포함)
+         */
+        private ResponseEntity<ApiResponse<PartnerImportResponse>> importResponse(ImportSource source) {
+                try {
+                        Long headquartersId = securityUtil.getCurrentHeadquartersId();
+                        List<PartnerCreateRequest> requests = source.read();
+                        log.info("협력사 일괄 생성 요청: 본사ID={}, 행={}", headquartersId, requests.size());
+
+                        PartnerImportResponse response = partnerImportService.importPartners(headquartersId, requests);
+
+                        for (PartnerImportResult result : response.getResults()) {
+                                if (PartnerImportResult.CREATED.equals(result.getStatus())) {
+                                        authMetricsService.incrementPartnerCreations(result.getLevel().toString(),
+                                                        "HEADQUARTERS");
+                                        authMetricsService.incrementUserRegistrations("PARTNER");
+                                }
+                        }
+
+                        return ResponseEntity.ok(ApiResponse.success(response,
+                                        "협력사 일괄 생성이 완료되었습니다. (생성 " + response.getCreated() + "개, 실패 "
+                                                        + response.getFailed() + "개)"));
+                } catch (IllegalArgumentException e) {
+                        log.warn("협력사 일괄 생성 실패: {}", e.getMessage());
+                        return ResponseEntity.badRequest()
+                                        .body(ApiResponse.error(e.getMessage(), "INVALID_IMPORT_REQUEST"));
+                } catch (DataIntegrityViolationException e) {
+                        log.warn("협력사 일괄 생성 충돌 (동시 생성된 UUID)", e);
+                        return ResponseEntity.status(HttpStatus.CONFLICT)
+                                        .body(ApiResponse.error("동시에 생성된 협력사와 UUID가 충돌했습니다. 다시 시도해주세요.",
+                                                        "IMPORT_CONFLICT"));
+                } catch (Exception e) {
+                        log.error("협력사 일괄 생성 중 오류 발생", e);
+                        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                                        .body(ApiResponse.error("서버 오류가 발생했습니다.", "INTERNAL_ERROR"));
+                }
+        }
+
+        @FunctionalInterface
+        private interface ImportSource {
+                List<PartnerCreateRequest> read() throws IOException;
+        }
+
+        /**
+         * 스트리밍 응답 공통 처리
+         * 행마다 직렬화해 버퍼에 기록하므로 힙 사용량이 목록 크기와 무관
+         * 응답 시작 후 오류는 상태 코드를 바꿀 수 없으므로 로그만 남기고 연결 종료
+         */
+        private ResponseEntity<StreamingResponseBody> streamResponse(String target, String format,
+                        ToLongFunction<Consumer<PartnerResponse>> source) {
+                boolean jsonArray = "json".equalsIgnoreCase(format);
+                log.info("{} 스트리밍 조회 요청: format={}", target, jsonArray ? "json" : "ndjson");
+
+                StreamingResponseBody body = outputStream -> {
+                        OutputStream out = new BufferedOutputStream(outputStream, STREAM_BUFFER_SIZE);
+                        boolean[] first = { true };
+                        try {
+                                if (jsonArray) {
+                                        out.write('[');
+                                }
+                                long count = source.applyAsLong(partner -> {
+                                        try {
+                                                if (jsonArray && !first[0]) {
+                                                        out.write(',');
+                                                }
+                                                out.write(objectMapper.writeValueAsBytes(partner));
+                                                if (!jsonArray) {
+                                                        out.write('\n');
+                                                }
+                                                first[0] = false;
+                                        } catch (IOException e) {
+                                                throw new UncheckedIOException(e);
+                                        }
+                                });
+                                if (jsonArray) {
+                                        out.write(']');
+                                }
+                                out.flush();
+                                log.info("{} 스트리밍 조회 완료: {}개", target, count);
+                        } catch (UncheckedIOException e) {
+                                log.warn("{} 스트리밍 중 연결 종료: {}", target, e.getCause().getMessage());
+                        } catch (RuntimeException e) {
+                                log.error("{} 스트리밍 중 오류 발생", target, e);
+                                throw e;
+                        }
+                };
+
+                return ResponseEntity.ok()
+                                .contentType(jsonArray ? MediaType.APPLICATION_JSON : MediaType.APPLICATION_NDJSON)
+                                .body(body);
+        }
+}
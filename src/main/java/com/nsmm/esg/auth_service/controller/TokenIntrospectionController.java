@@ -0,0 +1,64 @@
+package com.nsmm.esg.auth_service.controller;
+
+import com.nsmm.esg.auth_service.dto.ApiResponse;
+import com.nsmm.esg.auth_service.dto.TokenIntrospectionRequest;
+import com.nsmm.esg.auth_service.dto.TokenIntrospectionResponse;
+import com.nsmm.esg.auth_service.service.TokenVerificationService;
+import io.micrometer.core.annotation.Timed;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 토큰 일괄 검증 컨트롤러 (내부 서비스 전용)
+ *
+ * API Gateway가 여러 세션의 Access Token을 한 번의 호출로 검증
+ * JwtAuthenticationFilter와 같은 검증 경로(검증 캐시 → 서명 검증 → 폐기 확인) 사용
+ */
+@RestController
+@RequestMapping("/api/v1/auth/internal")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "내부 토큰 검증", description = "API Gateway용 토큰 일괄 검증 API")
+public class TokenIntrospectionController {
+
+        private final TokenVerificationService tokenVerificationService;
+
+        /**
+         * Access Token 일괄 검증 (내부 서비스 전용, 인증 불필요)
+         * 토큰별 유효 여부/상태/클레임을 요청 순서대로 반환
+         */
+        @PostMapping("/introspect")
+        @Operation(summary = "토큰 일괄 검증 (내부 서비스용)", description = "여러 Access Token의 유효 여부와 클레임을 한 번에 반환합니다. 인증 불필요.")
+        @Timed(value = "token_introspection_duration", description = "토큰 일괄 검증 처리 시간")
+        public ResponseEntity<ApiResponse<List<TokenIntrospectionResponse>>> introspect(
+                        @Valid @RequestBody TokenIntrospectionRequest request) {
+
+                log.debug("토큰 일괄 검증 요청: {}건", request.getTokens().size());
+
+                try {
+                        List<TokenIntrospectionResponse> results = tokenVerificationService
+                                        .introspect(request.getTokens());
+
+                        return ResponseEntity.ok(ApiResponse.success(results, "토큰 검증이 완료되었습니다."));
+                } catch (IllegalArgumentException e) {
+                        log.warn("토큰 일괄 검증 실패: {}", e.getMessage());
+                        return ResponseEntity.badRequest()
+                                        .body(ApiResponse.error(e.getMessage(), "BATCH_TOO_LARGE"));
+                } catch (Exception e) {
+                        log.error("토큰 일괄 검증 중 오류 발생", e);
+                        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                                        .body(ApiResponse.error("서버 오류가 발생했습니다.", "INTERNAL_ERROR"));
+                }
+        }
+}
@@ -26,4 +26,5 @@ public class JwtClaims {
   private String treePath; // 협력사인 경우 트리 경로 (/1/2/5/)
   private Long headquartersId; // 본사 ID (항상 존재)
   private Long partnerId; // 협력사인 경우에만 존재, 본사인 경우 null
+  private String tokenId; // 토큰 ID (jti), 토큰 폐기 확인용 - 발급 시 자동 생성
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.nsmm.esg.auth_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Refresh Token 클레임 정보 DTO
+ *
+ * 특징: 토큰 패밀리(familyId)와 토큰 ID(jti)로 교체/재사용 여부 판별
+ * 용도: Refresh Token 갱신 API
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class RefreshTokenClaims {
+
+  private final String accountNumber; // 계정 번호 (sub)
+  private final String userType; // "HEADQUARTERS" 또는 "PARTNER"
+  private final Long entityId; // 본사 ID 또는 협력사 ID (PK 조회용)
+  private final String familyId; // 로그인 1회당 생성되는 토큰 패밀리 ID
+  private final String tokenId; // 토큰 ID (jti), 교체 시마다 새로 발급
+}
@@ -1,5 +1,6 @@
 package com.nsmm.esg.auth_service.dto;
 
+import jakarta.validation.constraints.NotBlank;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -19,5 +20,6 @@ import lombok.Setter;
 @AllArgsConstructor
 public class RefreshTokenRequest {
 
+  @NotBlank(message = "Refresh Token은 필수입니다")
   private String refreshToken; // Refresh Token (7일)
 }
\ No newline at end of file
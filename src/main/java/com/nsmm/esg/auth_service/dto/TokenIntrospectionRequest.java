@@ -0,0 +1,27 @@
+package com.nsmm.esg.auth_service.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * 토큰 일괄 검증(introspection) 요청 DTO
+ *
+ * 특징: API Gateway가 여러 세션의 Access Token을 한 번에 검증 요청
+ * 용도: 내부 서비스 전용 일괄 검증 API
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenIntrospectionRequest {
+
+  @NotEmpty(message = "검증할 토큰 목록은 필수입니다")
+  private List<String> tokens; // 검증할 Access Token 목록 (응답은 같은 순서)
+}
@@ -0,0 +1,48 @@
+package com.nsmm.esg.auth_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * 토큰 검증(introspection) 결과 DTO
+ *
+ * 특징: 토큰별 유효 여부, 상태, 클레임 반환 (요청 순서와 동일)
+ * 용도: 내부 서비스 전용 일괄 검증 API 응답 항목
+ */
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenIntrospectionResponse {
+
+  private boolean active; // 유효 여부
+  private String status; // VALID, EXPIRED, MALFORMED, REVOKED
+  private JwtClaims claims; // 유효한 경우에만 존재
+  private Long expiresAt; // 토큰 만료 시각 (epoch 밀리초, 유효한 경우에만 존재)
+
+  /**
+   * 유효한 토큰 결과 생성
+   */
+  public static TokenIntrospectionResponse active(JwtClaims claims, long expiresAt) {
+    return TokenIntrospectionResponse.builder()
+        .active(true)
+        .status(TokenVerificationResult.Status.VALID.name())
+        .claims(claims)
+        .expiresAt(expiresAt)
+        .build();
+  }
+
+  /**
+   * 유효하지 않은 토큰 결과 생성
+   */
+  public static TokenIntrospectionResponse inactive(TokenVerificationResult.Status status) {
+    return TokenIntrospectionResponse.builder()
+        .active(false)
+        .status(status.name())
+        .build();
+  }
+}
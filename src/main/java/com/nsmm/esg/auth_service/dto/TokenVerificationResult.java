@@ -0,0 +1,100 @@
+package com.nsmm.esg.auth_service.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * JWT 토큰 검증 결과 DTO
+ *
+ * 특징: 파싱과 서명 검증을 한 번만 수행한 결과 (유효 / 만료 / 형식 오류), 거부 시 사유 포함
+ * 용도: JwtAuthenticationFilter 인증 처리, 예외 대신 상태값으로 분기
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TokenVerificationResult {
+
+  private static final TokenVerificationResult REVOKED = new TokenVerificationResult(Status.REVOKED, null, null, null);
+  private static final Map<RejectionReason, TokenVerificationResult> REJECTED = createRejectedResults();
+
+  private final Status status; // 검증 상태
+  private final JwtClaims claims; // 유효한 경우에만 존재
+  private final Date expiration; // 유효한 경우에만 존재 (exp 클레임)
+  private final RejectionReason rejectionReason; // 만료/형식 오류인 경우에만 존재 (메트릭 태그)
+
+  /**
+   * 검증 상태 열거형
+   * VALID: 유효, EXPIRED: 만료, MALFORMED: 형식 오류 또는 서명 불일치, REVOKED: 로그아웃으로 폐기
+   */
+  public enum Status {
+    VALID, EXPIRED, MALFORMED, REVOKED
+  }
+
+  /**
+   * 거부 사유 열거형 (auth_jwt_rejections_total의 reason 태그)
+   * EMPTY: 빈 토큰, MALFORMED: 구조/인코딩 오류, EXPIRED: 만료, BAD_SIGNATURE: 서명 불일치 또는 알 수 없는 키,
+   * UNSUPPORTED: 지원하지 않는 형식/알고리즘, WRONG_TOKEN_TYPE: Refresh Token을 Access Token으로 사용, INVALID: 기타
+   */
+  public enum RejectionReason {
+    EMPTY, MALFORMED, EXPIRED, BAD_SIGNATURE, UNSUPPORTED, WRONG_TOKEN_TYPE, INVALID;
+
+    public String tag() {
+      return name().toLowerCase();
+    }
+  }
+
+  /**
+   * 유효한 토큰 결과 생성
+   */
+  public static TokenVerificationResult valid(JwtClaims claims, Date expiration) {
+    return new TokenVerificationResult(Status.VALID, claims, expiration, null);
+  }
+
+  /**
+   * 만료된 토큰 결과 반환
+   */
+  public static TokenVerificationResult expired() {
+    return REJECTED.get(RejectionReason.EXPIRED);
+  }
+
+  /**
+   * 형식 오류/서명 불일치 토큰 결과 반환
+   */
+  public static TokenVerificationResult malformed() {
+    return REJECTED.get(RejectionReason.MALFORMED);
+  }
+
+  /**
+   * 거부 사유별 결과 반환 (EXPIRED 외에는 모두 MALFORMED 상태)
+   */
+  public static TokenVerificationResult rejected(RejectionReason reason) {
+    return REJECTED.get(reason);
+  }
+
+  /**
+   * 폐기된 토큰 결과 반환
+   */
+  public static TokenVerificationResult revoked() {
+    return REVOKED;
+  }
+
+  /**
+   * 유효한 토큰인지 확인
+   */
+  public boolean isValid() {
+    return status == Status.VALID;
+  }
+
+  private static Map<RejectionReason, TokenVerificationResult> createRejectedResults() {
+    Map<RejectionReason, TokenVerificationResult> results = new EnumMap<>(RejectionReason.class);
+    for (RejectionReason reason : RejectionReason.values()) {
+      Status status = reason == RejectionReason.EXPIRED ? Status.EXPIRED : Status.MALFORMED;
+      results.put(reason, new TokenVerificationResult(status, null, null, reason));
+    }
+    return results;
+  }
+}
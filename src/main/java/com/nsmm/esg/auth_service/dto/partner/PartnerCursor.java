@@ -0,0 +1,57 @@
+package com.nsmm.esg.auth_service.dto.partner;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 협력사 목록 키셋 커서 (레벨, 생성 일시, 협력사 ID)
+ *
+ * 마지막으로 반환한 협력사의 정렬 키를 Base64URL 문자열로 전달
+ * 다음 페이지는 이 키보다 큰 행부터 인덱스 범위 조회 (OFFSET 없음)
+ */
+@Getter
+@AllArgsConstructor
+public class PartnerCursor {
+
+  // 첫 페이지 (모든 레벨이 1 이상이므로 level 0이면 전체가 커서 이후)
+  public static final PartnerCursor FIRST = new PartnerCursor(0, LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+
+  private final int level;
+  private final LocalDateTime createdAt;
+  private final long partnerId;
+
+  public static PartnerCursor after(PartnerResponse partner) {
+    return new PartnerCursor(partner.getLevel(), partner.getCreatedAt(), partner.getPartnerId());
+  }
+
+  public String encode() {
+    String raw = level + "|" + createdAt + "|" + partnerId;
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /**
+   * 커서 문자열 해석 (null/빈 값이면 첫 페이지)
+   *
+   * @throws IllegalArgumentException 형식이 올바르지 않은 경우
+   */
+  public static PartnerCursor decode(String cursor) {
+    if (cursor == null || cursor.isBlank()) {
+      return FIRST;
+    }
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      String[] parts = raw.split("\\|");
+      if (parts.length != 3) {
+        throw new IllegalArgumentException("잘못된 커서입니다.");
+      }
+      return new PartnerCursor(Integer.parseInt(parts[0]), LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+    } catch (IllegalArgumentException | DateTimeParseException e) {
+      throw new IllegalArgumentException("잘못된 커서입니다.", e);
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package com.nsmm.esg.auth_service.dto.partner;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 협력사 일괄 생성 응답 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "협력사 일괄 생성 응답")
+public class PartnerImportResponse {
+
+  @Schema(description = "요청 행 수", example = "100")
+  private int total;
+
+  @Schema(description = "생성된 협력사 수", example = "98")
+  private int created;
+
+  @Schema(description = "실패한 행 수", example = "2")
+  private int failed;
+
+  @Schema(description = "행별 결과 (요청 순서)")
+  private List<PartnerImportResult> results;
+}
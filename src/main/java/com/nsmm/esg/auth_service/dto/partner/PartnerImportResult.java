@@ -0,0 +1,67 @@
+package com.nsmm.esg.auth_service.dto.partner;
+
+import com.nsmm.esg.auth_service.entity.Partner;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 협력사 일괄 생성 행별 결과 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "협력사 일괄 생성 행별 결과")
+public class PartnerImportResult {
+
+  public static final String CREATED = "CREATED";
+  public static final String FAILED = "FAILED";
+
+  @Schema(description = "요청 행 번호 (1부터)", example = "1")
+  private int row;
+
+  @Schema(description = "요청 UUID", example = "123e4567-e89b-12d3-a456-426614174000")
+  private String uuid;
+
+  @Schema(description = "처리 결과 (CREATED | FAILED)", example = "CREATED")
+  private String status;
+
+  @Schema(description = "협력사 ID (생성된 경우)", example = "1")
+  private Long partnerId;
+
+  @Schema(description = "계층적 아이디 (생성된 경우, 초기 비밀번호와 동일)", example = "L1-001")
+  private String hierarchicalId;
+
+  @Schema(description = "전체 계정번호 (생성된 경우)", example = "2412161700-L1-001")
+  private String fullAccountNumber;
+
+  @Schema(description = "협력사 레벨 (생성된 경우)", example = "1")
+  private Integer level;
+
+  @Schema(description = "실패 사유 (실패한 경우)", example = "이미 존재하는 UUID입니다.")
+  private String error;
+
+  public static PartnerImportResult created(int row, Partner partner) {
+    return PartnerImportResult.builder()
+        .row(row)
+        .uuid(partner.getUuid())
+        .status(CREATED)
+        .partnerId(partner.getPartnerId())
+        .hierarchicalId(partner.getHierarchicalId())
+        .fullAccountNumber(partner.getFullAccountNumber())
+        .level(partner.getLevel())
+        .build();
+  }
+
+  public static PartnerImportResult failed(int row, String uuid, String error) {
+    return PartnerImportResult.builder()
+        .row(row)
+        .uuid(uuid)
+        .status(FAILED)
+        .error(error)
+        .build();
+  }
+}
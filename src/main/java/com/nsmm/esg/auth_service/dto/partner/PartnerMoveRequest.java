@@ -0,0 +1,21 @@
+package com.nsmm.esg.auth_service.dto.partner;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 협력사 이동(상위 협력사 변경) 요청 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "협력사 이동 요청")
+public class PartnerMoveRequest {
+
+  @Schema(description = "새 상위 협력사 ID (null이면 1차 협력사로 이동)", example = "12")
+  private Long parentPartnerId;
+}
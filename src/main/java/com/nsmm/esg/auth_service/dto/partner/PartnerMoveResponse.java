@@ -0,0 +1,27 @@
+package com.nsmm.esg.auth_service.dto.partner;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 협력사 이동 응답 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "협력사 이동 응답")
+public class PartnerMoveResponse {
+
+  @Schema(description = "이동 후 협력사 정보")
+  private PartnerResponse partner;
+
+  @Schema(description = "이전 상위 협력사 ID (1차 협력사였으면 null)", example = "7")
+  private Long previousParentPartnerId;
+
+  @Schema(description = "경로/레벨이 갱신된 협력사 수 (본인 포함)", example = "1250")
+  private int movedPartners;
+}
@@ -0,0 +1,29 @@
+package com.nsmm.esg.auth_service.dto.partner;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 협력사 목록 페이지 응답 DTO (키셋 커서 페이지네이션)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "협력사 목록 페이지 응답")
+public class PartnerPageResponse {
+
+  @Schema(description = "협력사 목록 (레벨, 생성 일시, 협력사 ID 순)")
+  private List<PartnerResponse> items;
+
+  @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)")
+  private String nextCursor;
+
+  @Schema(description = "다음 페이지 존재 여부")
+  private boolean hasNext;
+}
@@ -77,6 +77,35 @@ public class PartnerResponse {
   @Schema(description = "직속 하위 레벨 (권한 제어용)")
   private Integer directChildLevel;
 
+  /**
+   * JPQL 생성자 프로젝션용 (PartnerRepository.RESPONSE_SELECT와 인자 순서 일치)
+   * 본사/상위 협력사 이름을 조인 1회로 함께 읽어 연관 엔티티 지연 로딩 없이 응답 구성
+   */
+  public PartnerResponse(Long partnerId, String uuid, String hqAccountNumber, String hierarchicalId,
+      String companyName, Integer level, String treePath, Partner.PartnerStatus status, Boolean passwordChanged,
+      LocalDateTime createdAt, LocalDateTime updatedAt, Long parentPartnerId, String parentPartnerName,
+      Long headquartersId, String headquartersName) {
+    this.partnerId = partnerId;
+    this.uuid = uuid;
+    this.hqAccountNumber = hqAccountNumber;
+    this.hierarchicalId = hierarchicalId;
+    this.fullAccountNumber = hqAccountNumber + "-" + hierarchicalId;
+    this.accountNumber = this.fullAccountNumber; // 프론트엔드 호환용
+    this.companyName = companyName;
+    this.userType = "PARTNER"; // 협력사 타입 고정
+    this.level = level;
+    this.treePath = treePath;
+    this.status = status.name();
+    this.passwordChanged = passwordChanged;
+    this.createdAt = createdAt;
+    this.updatedAt = updatedAt;
+    this.parentPartnerId = parentPartnerId;
+    this.parentPartnerName = parentPartnerName;
+    this.headquartersId = headquartersId;
+    this.headquartersName = headquartersName;
+    this.directChildLevel = level + 1;
+  }
+
   /**
    * Entity를 Response DTO로 변환
    */
@@ -73,6 +73,10 @@ public class Headquarters {
     @Builder.Default
     private CompanyStatus status = CompanyStatus.ACTIVE; // 회사 상태
 
+    @Column(name = "partner_tree_version", nullable = false, updatable = false)
+    @Builder.Default
+    private Long partnerTreeVersion = 0L; // 소속 협력사 트리 버전 (협력사 트리 인덱스 갱신 감지용, 쿼리로만 증가)
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt; // 생성 일시
@@ -108,6 +112,7 @@ public class Headquarters {
                 .phone(phone != null ? phone : this.phone)
                 .address(address != null ? address : this.address)
                 .status(this.status)
+                .partnerTreeVersion(this.partnerTreeVersion)
                 .createdAt(this.createdAt)
                 .updatedAt(this.updatedAt)
                 .build();
@@ -135,6 +140,7 @@ public class Headquarters {
                 .phone(this.phone)
                 .address(this.address)
                 .status(this.status)
+                .partnerTreeVersion(this.partnerTreeVersion)
                 .createdAt(this.createdAt)
                 .updatedAt(this.updatedAt)
                 .build();
@@ -162,6 +168,7 @@ public class Headquarters {
                 .phone(this.phone)
                 .address(this.address)
                 .status(newStatus)
+                .partnerTreeVersion(this.partnerTreeVersion)
                 .createdAt(this.createdAt)
                 .updatedAt(this.updatedAt)
                 .build();
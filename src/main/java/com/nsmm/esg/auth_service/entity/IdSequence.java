@@ -0,0 +1,33 @@
+package com.nsmm.esg.auth_service.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 식별자 순번 카운터 (id_sequences)
+ *
+ * 키별 마지막 발급 순번을 한 행에 보관하고 UPDATE 한 문장으로 증가시켜 발급
+ * - partner:{본사ID}:L{레벨} → 협력사 계층적 아이디 순번
+ * - hq:{yyMMdd} → 본사 계정번호 일자별 순번
+ * - partner:id → 협력사 기본키 (Partner @TableGenerator, pooled-lo 블록 단위 예약)
+ *
+ * 행 잠금은 발급한 트랜잭션의 커밋까지 유지 (협력사 기본키는 Hibernate가 별도 트랜잭션에서 블록 단위로 예약)
+ */
+@Entity
+@Table(name = "id_sequences")
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IdSequence {
+
+    @Id
+    @Column(name = "sequence_key", length = 64)
+    private String sequenceKey; // 순번 키 (partner:{본사ID}:L{레벨}, hq:{yyMMdd}, partner:id)
+
+    @Column(name = "last_value", nullable = false)
+    private Long lastValue; // 마지막으로 발급(예약)된 순번
+}
@@ -30,11 +30,12 @@ import java.util.List;
 @Entity
 @Table(name = "partners", indexes = {
         @Index(name = "idx_partner_uuid", columnList = "partner_uuid"),
-        @Index(name = "idx_parent_partner_id", columnList = "parent_partner_id"),
+        @Index(name = "idx_parent_partner_created", columnList = "parent_partner_id, created_at"),
         @Index(name = "idx_tree_path", columnList = "tree_path"),
         @Index(name = "idx_level", columnList = "level"),
-        @Index(name = "idx_headquarters_id", columnList = "headquarters_id"),
-        @Index(name = "idx_hq_account_hierarchical", columnList = "hq_account_number,hierarchical_id")
+        @Index(name = "idx_partner_hq_level_created", columnList = "headquarters_id, level, created_at, partner_id")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_hq_account_hierarchical", columnNames = { "hq_account_number", "hierarchical_id" })
 })
 @Getter
 @Builder
@@ -43,8 +44,14 @@ import java.util.List;
 @EntityListeners(AuditingEntityListener.class)
 public class Partner {
 
+    // 기본키 순번 카운터 (id_sequences 행, pooled-lo로 ID_ALLOCATION_SIZE개씩 예약 → INSERT JDBC 배치 가능)
+    public static final String ID_SEQUENCE_KEY = "partner:id";
+    public static final int ID_ALLOCATION_SIZE = 100;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "partner_id_generator")
+    @TableGenerator(name = "partner_id_generator", table = "id_sequences", pkColumnName = "sequence_key",
+            valueColumnName = "last_value", pkColumnValue = ID_SEQUENCE_KEY, allocationSize = ID_ALLOCATION_SIZE)
     @Column(name = "partner_id")
     private Long partnerId; // 협력사 고유 식별자
 
@@ -188,6 +195,34 @@ public class Partner {
                 .build();
     }
 
+    /**
+     * 비밀번호 해시 교체 (불변성 보장)
+     * 알고리즘/cost 업그레이드용 - 비밀번호 자체는 같으므로 변경 여부(passwordChanged)는 유지
+     */
+    public Partner rehashPassword(String newEncodedPassword) {
+        if (newEncodedPassword == null || newEncodedPassword.trim().isEmpty()) {
+            throw new IllegalArgumentException("비밀번호는 null이거나 빈 문자열일 수 없습니다.");
+        }
+
+        return Partner.builder()
+                .partnerId(this.partnerId)
+                .uuid(this.uuid)
+                .headquarters(this.headquarters)
+                .parentPartner(this.parentPartner)
+                .childPartners(this.childPartners)
+                .hqAccountNumber(this.hqAccountNumber)
+                .hierarchicalId(this.hierarchicalId)
+                .companyName(this.companyName)
+                .password(newEncodedPassword)
+                .level(this.level)
+                .treePath(this.treePath)
+                .status(this.status)
+                .passwordChanged(this.passwordChanged)
+                .createdAt(this.createdAt)
+                .updatedAt(this.updatedAt)
+                .build();
+    }
+
     /**
      * 상태 변경 (불변성 보장)
      */
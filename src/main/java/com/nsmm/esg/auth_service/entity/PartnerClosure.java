@@ -0,0 +1,63 @@
+package com.nsmm.esg.auth_service.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * 협력사 계층 클로저 테이블 (partner_closure)
+ *
+ * 협력사마다 자기 자신(depth 0)과 모든 상위 협력사(depth 1 = 직속 상위, 2 = 그 상위 ...)에 대한 행을 보관
+ * - 전체 하위: ancestor_id = :id AND depth > 0 (인덱스 범위 조회 1회)
+ * - 전체 상위: descendant_id = :id AND depth > 0
+ * - 본사 ID를 함께 저장해 본사 범위 확인을 같은 인덱스에서 처리
+ *
+ * 행 변경 경로
+ * - 생성 (단건/일괄): INSERT ... SELECT로 자기 자신 행과 상위의 경로 행 + 1 추가
+ * - 하위 트리 이동: 하위 트리 내부 행은 유지하고, 하위 트리 전체와 이전 상위 사이 행을 삭제한 뒤
+ *   새 상위의 경로 행 × 하위 트리 행으로 다시 추가 (deleteSubtreeAncestorPaths / insertSubtreeAncestorPaths)
+ * - 재구성: 기동 시 누락이 있거나 요청 시 partners 기준으로 전체 재작성
+ */
+@Entity
+@Table(name = "partner_closure", indexes = {
+        @Index(name = "idx_partner_closure_ancestor", columnList = "ancestor_id, headquarters_id, depth"),
+        @Index(name = "idx_partner_closure_descendant", columnList = "descendant_id, headquarters_id, depth")
+})
+@IdClass(PartnerClosure.PartnerClosureId.class)
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PartnerClosure {
+
+    @Id
+    @Column(name = "ancestor_id")
+    private Long ancestorId; // 상위 협력사 ID (자기 자신 포함)
+
+    @Id
+    @Column(name = "descendant_id")
+    private Long descendantId; // 하위 협력사 ID
+
+    @Column(name = "headquarters_id", nullable = false)
+    private Long headquartersId; // 소속 본사 ID
+
+    @Column(name = "depth", nullable = false)
+    private Integer depth; // 상하위 간 거리 (0 = 자기 자신)
+
+    /**
+     * 복합 기본키 (ancestor_id, descendant_id)
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class PartnerClosureId implements Serializable {
+        private Long ancestorId;
+        private Long descendantId;
+    }
+}
@@ -1,11 +1,15 @@
 package com.nsmm.esg.auth_service.repository;
 
 import com.nsmm.esg.auth_service.entity.Headquarters;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -55,6 +59,43 @@ public interface HeadquartersRepository extends JpaRepository<Headquarters, Long
     @Query("SELECT COUNT(h) FROM Headquarters h WHERE h.hqAccountNumber LIKE CONCAT(:pattern, '%')")
     long countByHqAccountNumberStartingWith(@Param("pattern") String pattern);
 
+    /**
+     * 특정 패턴으로 시작하는 가장 큰 계정번호 조회
+     * 일자별 순번 카운터 최초 생성 시 사용 (카운터 도입 전 생성된 계정번호 이후부터 발급)
+     */
+    @Query("SELECT MAX(h.hqAccountNumber) FROM Headquarters h WHERE h.hqAccountNumber LIKE CONCAT(:pattern, '%')")
+    Optional<String> findMaxHqAccountNumberStartingWith(@Param("pattern") String pattern);
+
+    /**
+     * 본사 조회 + 행 잠금 (협력사 생성/일괄 생성/하위 트리 이동을 본사 단위로 직렬화)
+     * 상위 협력사의 경로를 읽은 뒤 커밋 전에 다른 트랜잭션의 이동이 끼어들지 않도록 트리 변경 시작 시 호출
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT h FROM Headquarters h WHERE h.headquartersId = :headquartersId")
+    Optional<Headquarters> findByIdForUpdate(@Param("headquartersId") Long headquartersId);
+
+    /**
+     * 전체 본사 행 잠금 (기본키 순서 - 본사 하나만 잠그는 트리 변경과 교착 없음)
+     * 클로저 테이블 전체 재구성 동안 모든 협력사 생성/이동을 막고, 여러 인스턴스의 동시 재구성을 직렬화
+     */
+    @Query(value = "SELECT headquarters_id FROM headquarters ORDER BY headquarters_id FOR UPDATE", nativeQuery = true)
+    List<Long> lockAllForUpdate();
+
+    /**
+     * 협력사 트리 버전 조회 (협력사 트리 인덱스 갱신 여부 확인용, 기본키 조회)
+     */
+    @Query("SELECT h.partnerTreeVersion FROM Headquarters h WHERE h.headquartersId = :headquartersId")
+    Optional<Long> findPartnerTreeVersion(@Param("headquartersId") Long headquartersId);
+
+    /**
+     * 협력사 트리 버전 증가 (협력사 생성/변경과 같은 트랜잭션에서 호출)
+     * 엔티티 저장 시 덮어쓰지 않도록 컬럼은 updatable=false이며 이 쿼리로만 변경
+     */
+    @Modifying
+    @Query(value = "UPDATE headquarters SET partner_tree_version = partner_tree_version + 1 WHERE headquarters_id = :headquartersId",
+            nativeQuery = true)
+    int incrementPartnerTreeVersion(@Param("headquartersId") Long headquartersId);
+
     /**
      * 본사 개수 조회 (순번 생성용)
      */
@@ -0,0 +1,39 @@
+package com.nsmm.esg.auth_service.repository;
+
+import com.nsmm.esg.auth_service.entity.IdSequence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * 식별자 순번 카운터 데이터 액세스 레이어
+ */
+@Repository
+public interface IdSequenceRepository extends JpaRepository<IdSequence, String> {
+
+    /**
+     * 순번 증가 (원자적 UPDATE - 행 잠금은 호출 측 트랜잭션 종료 시까지 유지)
+     *
+     * @return 갱신된 행 수 (0이면 카운터 행 없음)
+     */
+    @Modifying
+    @Query("UPDATE IdSequence s SET s.lastValue = s.lastValue + :count WHERE s.sequenceKey = :sequenceKey")
+    int advance(@Param("sequenceKey") String sequenceKey, @Param("count") long count);
+
+    /**
+     * 마지막 발급 순번을 value 이상으로 올림 (이미 크면 변경 없음)
+     */
+    @Modifying
+    @Query("UPDATE IdSequence s SET s.lastValue = :value WHERE s.sequenceKey = :sequenceKey AND s.lastValue < :value")
+    int raise(@Param("sequenceKey") String sequenceKey, @Param("value") long value);
+
+    /**
+     * 마지막 발급 순번 조회 (advance와 같은 트랜잭션에서 호출)
+     */
+    @Query("SELECT s.lastValue FROM IdSequence s WHERE s.sequenceKey = :sequenceKey")
+    Optional<Long> findLastValue(@Param("sequenceKey") String sequenceKey);
+}
@@ -0,0 +1,163 @@
+package com.nsmm.esg.auth_service.repository;
+
+import com.nsmm.esg.auth_service.dto.partner.PartnerResponse;
+import com.nsmm.esg.auth_service.entity.PartnerClosure;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 협력사 계층 클로저 테이블 데이터 액세스 레이어
+ *
+ * 조회는 모두 (ancestor_id | descendant_id, headquarters_id, depth) 인덱스 범위 조회 1회
+ * 목록은 PartnerRepository의 응답 프로젝션으로 반환 (본사/상위 협력사 이름까지 같은 쿼리에서 조회)
+ */
+@Repository
+public interface PartnerClosureRepository extends JpaRepository<PartnerClosure, PartnerClosure.PartnerClosureId> {
+
+    /**
+     * 자기 자신 행 추가 (depth 0)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO partner_closure (ancestor_id, descendant_id, headquarters_id, depth) " +
+            "SELECT p.partner_id, p.partner_id, p.headquarters_id, 0 FROM partners p WHERE p.partner_id = :partnerId",
+            nativeQuery = true)
+    int insertSelf(@Param("partnerId") Long partnerId);
+
+    /**
+     * 상위 협력사 경로 행 추가 (직속 상위의 모든 상위 경로 + 1)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO partner_closure (ancestor_id, descendant_id, headquarters_id, depth) " +
+            "SELECT c.ancestor_id, p.partner_id, p.headquarters_id, c.depth + 1 " +
+            "FROM partners p JOIN partner_closure c ON c.descendant_id = p.parent_partner_id " +
+            "WHERE p.partner_id = :partnerId",
+            nativeQuery = true)
+    int insertAncestorPaths(@Param("partnerId") Long partnerId);
+
+    /**
+     * 일괄 생성: 자기 자신 행 추가
+     */
+    @Modifying
+    @Query(value = "INSERT INTO partner_closure (ancestor_id, descendant_id, headquarters_id, depth) " +
+            "SELECT p.partner_id, p.partner_id, p.headquarters_id, 0 FROM partners p WHERE p.partner_id IN (:partnerIds)",
+            nativeQuery = true)
+    int insertSelfRows(@Param("partnerIds") Collection<Long> partnerIds);
+
+    /**
+     * 일괄 생성: 상위 협력사 경로 행 추가 (상위 협력사의 경로가 먼저 채워져 있어야 하므로 레벨 순으로 호출)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO partner_closure (ancestor_id, descendant_id, headquarters_id, depth) " +
+            "SELECT c.ancestor_id, p.partner_id, p.headquarters_id, c.depth + 1 " +
+            "FROM partners p JOIN partner_closure c ON c.descendant_id = p.parent_partner_id " +
+            "WHERE p.partner_id IN (:partnerIds)",
+            nativeQuery = true)
+    int insertAncestorPathsFor(@Param("partnerIds") Collection<Long> partnerIds);
+
+    /**
+     * 하위 트리 이동 1단계: 하위 트리 전체와 기존 상위 협력사들 사이의 행 삭제 (하위 트리 내부 행은 유지)
+     * 하위 트리는 partners의 tree_path 접두사(이동 후 경로)로 선택 - MySQL은 DELETE 대상 테이블을 서브쿼리에서 참조할 수 없음
+     */
+    @Modifying
+    @Query(value = "DELETE FROM partner_closure WHERE ancestor_id IN (:previousAncestorIds) " +
+            "AND descendant_id IN (SELECT p.partner_id FROM partners p " +
+            "WHERE p.headquarters_id = :headquartersId AND p.tree_path LIKE CONCAT(:subtreePath, '%'))",
+            nativeQuery = true)
+    int deleteSubtreeAncestorPaths(@Param("headquartersId") Long headquartersId,
+            @Param("previousAncestorIds") Collection<Long> previousAncestorIds,
+            @Param("subtreePath") String subtreePath);
+
+    /**
+     * 하위 트리 이동 2단계: 새 상위 협력사의 모든 상위 경로 × 하위 트리 전체 행 추가
+     */
+    @Modifying
+    @Query(value = "INSERT INTO partner_closure (ancestor_id, descendant_id, headquarters_id, depth) " +
+            "SELECT a.ancestor_id, s.descendant_id, s.headquarters_id, a.depth + s.depth + 1 " +
+            "FROM partner_closure a JOIN partner_closure s ON s.ancestor_id = :partnerId " +
+            "WHERE a.descendant_id = :parentPartnerId",
+            nativeQuery = true)
+    int insertSubtreeAncestorPaths(@Param("partnerId") Long partnerId, @Param("parentPartnerId") Long parentPartnerId);
+
+    /**
+     * 상위 협력사 ID 목록 (직속 상위부터)
+     */
+    @Query("SELECT c.ancestorId FROM PartnerClosure c WHERE c.descendantId = :partnerId AND c.depth > 0 " +
+            "ORDER BY c.depth ASC")
+    List<Long> findAncestorIds(@Param("partnerId") Long partnerId);
+
+    /**
+     * ancestorId가 descendantId의 상위이거나 같은 협력사인지 (이동 시 순환 확인)
+     */
+    @Query("SELECT COUNT(c) > 0 FROM PartnerClosure c WHERE c.ancestorId = :ancestorId AND c.descendantId = :descendantId")
+    boolean isSelfOrAncestor(@Param("ancestorId") Long ancestorId, @Param("descendantId") Long descendantId);
+
+    /**
+     * 전체 하위 협력사 (가까운 단계부터, 같은 단계는 생성 순)
+     */
+    @Query(PartnerRepository.RESPONSE_SELECT + "FROM PartnerClosure c JOIN Partner p ON p.partnerId = c.descendantId " +
+            PartnerRepository.RESPONSE_JOINS +
+            "WHERE c.ancestorId = :partnerId AND c.headquartersId = :headquartersId " +
+            "AND c.depth BETWEEN 1 AND :maxDepth ORDER BY c.depth ASC, p.createdAt ASC")
+    List<PartnerResponse> findDescendants(@Param("headquartersId") Long headquartersId,
+            @Param("partnerId") Long partnerId,
+            @Param("maxDepth") Integer maxDepth);
+
+    /**
+     * 전체 상위 협력사 (1차 협력사부터)
+     */
+    @Query(PartnerRepository.RESPONSE_SELECT + "FROM PartnerClosure c JOIN Partner p ON p.partnerId = c.ancestorId " +
+            PartnerRepository.RESPONSE_JOINS +
+            "WHERE c.descendantId = :partnerId AND c.headquartersId = :headquartersId AND c.depth > 0 " +
+            "ORDER BY c.depth DESC")
+    List<PartnerResponse> findAncestors(@Param("headquartersId") Long headquartersId, @Param("partnerId") Long partnerId);
+
+    /**
+     * 전체 하위 협력사 수 (인덱스만 조회)
+     */
+    @Query("SELECT COUNT(c) FROM PartnerClosure c " +
+            "WHERE c.ancestorId = :partnerId AND c.headquartersId = :headquartersId AND c.depth > 0")
+    long countDescendants(@Param("headquartersId") Long headquartersId, @Param("partnerId") Long partnerId);
+
+    /**
+     * 협력사 존재 여부 (자기 자신 행, 본사 범위 확인)
+     */
+    @Query("SELECT COUNT(c) > 0 FROM PartnerClosure c " +
+            "WHERE c.ancestorId = :partnerId AND c.descendantId = :partnerId AND c.headquartersId = :headquartersId")
+    boolean existsPartner(@Param("headquartersId") Long headquartersId, @Param("partnerId") Long partnerId);
+
+    /**
+     * 자기 자신 행 수 (클로저가 채워진 협력사 수 - 누락 확인용)
+     */
+    @Query("SELECT COUNT(c) FROM PartnerClosure c WHERE c.depth = 0")
+    long countSelfRows();
+
+    /**
+     * 전체 재구성 1단계: 모든 협력사의 자기 자신 행
+     */
+    @Modifying
+    @Query(value = "INSERT INTO partner_closure (ancestor_id, descendant_id, headquarters_id, depth) " +
+            "SELECT p.partner_id, p.partner_id, p.headquarters_id, 0 FROM partners p",
+            nativeQuery = true)
+    int insertAllSelfRows();
+
+    /**
+     * 전체 재구성 2단계: 레벨 순으로 호출 (상위 레벨 경로가 먼저 채워져 있어야 함)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO partner_closure (ancestor_id, descendant_id, headquarters_id, depth) " +
+            "SELECT c.ancestor_id, p.partner_id, p.headquarters_id, c.depth + 1 " +
+            "FROM partners p JOIN partner_closure c ON c.descendant_id = p.parent_partner_id " +
+            "WHERE p.level = :level",
+            nativeQuery = true)
+    int insertAncestorPathsForLevel(@Param("level") Integer level);
+
+    @Modifying
+    @Query(value = "DELETE FROM partner_closure", nativeQuery = true)
+    int deleteAllRows();
+}
@@ -1,13 +1,23 @@
 package com.nsmm.esg.auth_service.repository;
 
+import com.nsmm.esg.auth_service.dto.partner.PartnerResponse;
 import com.nsmm.esg.auth_service.entity.Partner;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 /**
  * 협력사 데이터 액세스 레이어
@@ -21,6 +31,21 @@ import java.util.Optional;
 @Repository
 public interface PartnerRepository extends JpaRepository<Partner, Long> {
 
+       // 목록 응답 생성자 프로젝션 (본사/상위 협력사 이름을 조인으로 함께 조회 → 행마다 지연 로딩 없음)
+       // 별칭: p 협력사, h 본사, pp 상위 협력사 (PartnerResponse 프로젝션 생성자와 인자 순서 일치)
+       String RESPONSE_SELECT = "SELECT new com.nsmm.esg.auth_service.dto.partner.PartnerResponse(" +
+                     "p.partnerId, p.uuid, p.hqAccountNumber, p.hierarchicalId, p.companyName, p.level, p.treePath, " +
+                     "p.status, p.passwordChanged, p.createdAt, p.updatedAt, pp.partnerId, pp.companyName, " +
+                     "h.headquartersId, h.companyName) ";
+
+       String RESPONSE_JOINS = "JOIN p.headquarters h LEFT JOIN p.parentPartner pp ";
+
+       String RESPONSE_FROM = "FROM Partner p " + RESPONSE_JOINS;
+
+       // 키셋 조건: (level, createdAt, partnerId) > (:level, :createdAt, :partnerId)
+       String KEYSET_AFTER = "(p.level > :level OR (p.level = :level AND (p.createdAt > :createdAt OR " +
+                     "(p.createdAt = :createdAt AND p.partnerId > :partnerId))))";
+
        /**
         * UUID로 협력사 조회
         */
@@ -38,46 +63,163 @@ public interface PartnerRepository extends JpaRepository<Partner, Long> {
        Optional<Partner> findByHqAccountNumberAndHierarchicalId(String hqAccountNumber, String hierarchicalId);
 
        /**
-        * 본사별 1차 협력사 조회 (parentPartner가 null인 협력사)
+        * 협력사 응답 조회 (ID)
         */
-       @Query("SELECT p FROM Partner p WHERE p.headquarters.headquartersId = :headquartersId AND p.parentPartner IS NULL ORDER BY p.createdAt ASC")
-       List<Partner> findFirstLevelPartnersByHeadquarters(@Param("headquartersId") Long headquartersId);
+       @Query(RESPONSE_SELECT + RESPONSE_FROM + "WHERE p.partnerId = :partnerId")
+       Optional<PartnerResponse> findResponseById(@Param("partnerId") Long partnerId);
 
        /**
-        * 특정 협력사의 직접 하위 협력사 조회
+        * 본사별 1차 협력사 조회 (parentPartner가 null인 협력사)
         */
-       @Query("SELECT p FROM Partner p WHERE p.parentPartner.partnerId = :parentPartnerId ORDER BY p.createdAt ASC")
-       List<Partner> findDirectChildrenByParentId(@Param("parentPartnerId") Long parentPartnerId);
+       @Query(RESPONSE_SELECT + RESPONSE_FROM +
+                     "WHERE p.headquarters.headquartersId = :headquartersId AND p.parentPartner IS NULL " +
+                     "ORDER BY p.createdAt ASC, p.partnerId ASC")
+       List<PartnerResponse> findFirstLevelPartnersByHeadquarters(@Param("headquartersId") Long headquartersId);
 
        /**
-        * 권한 제어: 본인 + 직속 하위 1단계만 조회
-        * 예: 1차 협력사가 조회하면 본인(L1-001) + 2차(L1-001/L2-*)만 반환
+        * 특정 협력사의 직접 하위 협력사 조회
+        * 권한 제어(본인 + 직속 하위 1단계)의 하위 조회로도 사용 - idx_parent_partner_created (parent_partner_id, created_at)로
+        * 조건과 정렬을 모두 인덱스에서 처리
         */
-       @Query("SELECT p FROM Partner p WHERE " +
-                     "(p.treePath = :currentTreePath) OR " +
-                     "(p.treePath LIKE CONCAT(:currentTreePath, 'L', :directChildLevel, '-%') AND " +
-                     "LENGTH(p.treePath) - LENGTH(REPLACE(p.treePath, '/', '')) = :expectedSlashCount)")
-       List<Partner> findAccessiblePartners(@Param("currentTreePath") String currentTreePath,
-                     @Param("directChildLevel") Integer directChildLevel,
-                     @Param("expectedSlashCount") Integer expectedSlashCount);
+       @Query(RESPONSE_SELECT + RESPONSE_FROM +
+                     "WHERE p.parentPartner.partnerId = :parentPartnerId ORDER BY p.createdAt ASC, p.partnerId ASC")
+       List<PartnerResponse> findDirectChildrenByParentId(@Param("parentPartnerId") Long parentPartnerId);
 
 
        /**
         * 비밀번호 미변경 협력사 조회
         */
-       @Query("SELECT p FROM Partner p WHERE p.headquarters.headquartersId = :headquartersId AND p.passwordChanged = false ORDER BY p.createdAt ASC")
-       List<Partner> findUnchangedPasswordPartners(@Param("headquartersId") Long headquartersId);
+       @Query(RESPONSE_SELECT + RESPONSE_FROM +
+                     "WHERE p.headquarters.headquartersId = :headquartersId AND p.passwordChanged = false " +
+                     "ORDER BY p.createdAt ASC, p.partnerId ASC")
+       List<PartnerResponse> findUnchangedPasswordPartners(@Param("headquartersId") Long headquartersId);
 
 
        /**
         * 본사가 모든 협력사 조회
         */
-       @Query("SELECT p FROM Partner p WHERE p.headquarters.headquartersId = :headquartersId ORDER BY p.level ASC, p.createdAt ASC")
-       List<Partner> findAllPartnersByHeadquarters(@Param("headquartersId") Long headquartersId);
+       @Query(RESPONSE_SELECT + RESPONSE_FROM + "WHERE p.headquarters.headquartersId = :headquartersId " +
+                     "ORDER BY p.level ASC, p.createdAt ASC, p.partnerId ASC")
+       List<PartnerResponse> findAllPartnersByHeadquarters(@Param("headquartersId") Long headquartersId);
 
 
        /**
-        * 특정 본사 + 레벨에서 다음 순번 계산용
+        * 본사 전체 협력사 키셋 페이지 (레벨, 생성 일시, 협력사 ID 순으로 커서 이후 limit건)
+        * idx_partner_hq_level_created (headquarters_id, level, created_at, partner_id)로 범위 조회
+        */
+       @Query(RESPONSE_SELECT + RESPONSE_FROM +
+                     "WHERE p.headquarters.headquartersId = :headquartersId AND " + KEYSET_AFTER +
+                     " ORDER BY p.level ASC, p.createdAt ASC, p.partnerId ASC")
+       List<PartnerResponse> findPartnersPageByHeadquarters(@Param("headquartersId") Long headquartersId,
+                     @Param("level") Integer level,
+                     @Param("createdAt") LocalDateTime createdAt,
+                     @Param("partnerId") Long partnerId,
+                     Limit limit);
+
+       /**
+        * 본사 1차 협력사 키셋 페이지
+        */
+       @Query(RESPONSE_SELECT + RESPONSE_FROM +
+                     "WHERE p.headquarters.headquartersId = :headquartersId AND p.level = 1 AND " + KEYSET_AFTER +
+                     " ORDER BY p.level ASC, p.createdAt ASC, p.partnerId ASC")
+       List<PartnerResponse> findFirstLevelPartnersPageByHeadquarters(@Param("headquartersId") Long headquartersId,
+                     @Param("level") Integer level,
+                     @Param("createdAt") LocalDateTime createdAt,
+                     @Param("partnerId") Long partnerId,
+                     Limit limit);
+
+       /**
+        * 비밀번호 미변경 협력사 키셋 페이지
+        */
+       @Query(RESPONSE_SELECT + RESPONSE_FROM +
+                     "WHERE p.headquarters.headquartersId = :headquartersId AND p.passwordChanged = false AND " +
+                     KEYSET_AFTER + " ORDER BY p.level ASC, p.createdAt ASC, p.partnerId ASC")
+       List<PartnerResponse> findUnchangedPasswordPartnersPageByHeadquarters(@Param("headquartersId") Long headquartersId,
+                     @Param("level") Integer level,
+                     @Param("createdAt") LocalDateTime createdAt,
+                     @Param("partnerId") Long partnerId,
+                     Limit limit);
+
+       /**
+        * 본사 전체 협력사 스트림 (트랜잭션 안에서 소비, 읽는 대로 응답에 기록)
+        * DTO 프로젝션이라 영속성 컨텍스트에 엔티티가 쌓이지 않음
+        */
+       @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+       @Query(RESPONSE_SELECT + RESPONSE_FROM + "WHERE p.headquarters.headquartersId = :headquartersId " +
+                     "ORDER BY p.level ASC, p.createdAt ASC, p.partnerId ASC")
+       Stream<PartnerResponse> streamAllPartnersByHeadquarters(@Param("headquartersId") Long headquartersId);
+
+       /**
+        * 본사 1차 협력사 스트림
+        */
+       @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+       @Query(RESPONSE_SELECT + RESPONSE_FROM +
+                     "WHERE p.headquarters.headquartersId = :headquartersId AND p.level = 1 " +
+                     "ORDER BY p.createdAt ASC, p.partnerId ASC")
+       Stream<PartnerResponse> streamFirstLevelPartnersByHeadquarters(@Param("headquartersId") Long headquartersId);
+
+       /**
+        * 비밀번호 미변경 협력사 스트림
+        */
+       @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+       @Query(RESPONSE_SELECT + RESPONSE_FROM +
+                     "WHERE p.headquarters.headquartersId = :headquartersId AND p.passwordChanged = false " +
+                     "ORDER BY p.level ASC, p.createdAt ASC, p.partnerId ASC")
+       Stream<PartnerResponse> streamUnchangedPasswordPartnersByHeadquarters(@Param("headquartersId") Long headquartersId);
+
+       /**
+        * 이미 존재하는 UUID 목록 (일괄 생성 시 중복 확인, 한 번의 IN 조회)
+        */
+       @Query("SELECT p.uuid FROM Partner p WHERE p.uuid IN :uuids")
+       List<String> findExistingUuids(@Param("uuids") Collection<String> uuids);
+
+       /**
+        * 본사 소속 협력사 UUID 일괄 조회 (일괄 생성 시 상위 협력사 확인)
+        */
+       @Query("SELECT p FROM Partner p WHERE p.headquarters.headquartersId = :headquartersId AND p.uuid IN :uuids")
+       List<Partner> findByHeadquartersAndUuidIn(@Param("headquartersId") Long headquartersId,
+                     @Param("uuids") Collection<String> uuids);
+
+       /**
+        * 하위 트리 이동: 이동 협력사와 전체 하위의 tree_path 앞부분(oldPrefixLength 길이)을 newPrefix로 교체하고
+        * 레벨을 levelDelta만큼 조정 (UPDATE 1회)
+        * 대상은 클로저 테이블에서 선택 - MySQL은 UPDATE 대상 테이블을 서브쿼리에서 다시 참조할 수 없음
+        */
+       @Modifying(flushAutomatically = true, clearAutomatically = true)
+       @Query("UPDATE Partner p SET p.treePath = CONCAT(:newPrefix, SUBSTRING(p.treePath, :oldPrefixLength + 1)), " +
+                     "p.level = p.level + :levelDelta, p.updatedAt = :updatedAt " +
+                     "WHERE p.partnerId IN (SELECT c.descendantId FROM PartnerClosure c WHERE c.ancestorId = :partnerId)")
+       int moveSubtree(@Param("partnerId") Long partnerId,
+                     @Param("oldPrefixLength") int oldPrefixLength,
+                     @Param("newPrefix") String newPrefix,
+                     @Param("levelDelta") int levelDelta,
+                     @Param("updatedAt") LocalDateTime updatedAt);
+
+       /**
+        * 상위 협력사 변경 (1차로 이동하면 parentPartnerId = null)
+        */
+       @Modifying(flushAutomatically = true, clearAutomatically = true)
+       @Query(value = "UPDATE partners SET parent_partner_id = :parentPartnerId WHERE partner_id = :partnerId",
+                     nativeQuery = true)
+       int updateParent(@Param("partnerId") Long partnerId, @Param("parentPartnerId") Long parentPartnerId);
+
+       /**
+        * 가장 큰 협력사 ID (기본키 순번 카운터 초기화용)
+        */
+       @Query("SELECT COALESCE(MAX(p.partnerId), 0) FROM Partner p")
+       long findMaxPartnerId();
+
+       /**
+        * 특정 본사의 접두사(L{레벨}-)로 시작하는 계층적 아이디 목록 (순번 카운터 초기화용)
+        * 레벨 컬럼으로 찾지 않음 - 하위 트리 이동 후에는 레벨이 바뀌어도 아이디는 그대로
+        */
+       @Query("SELECT p.hierarchicalId FROM Partner p WHERE p.headquarters.headquartersId = :headquartersId " +
+                     "AND p.hierarchicalId LIKE CONCAT(:prefix, '%')")
+       List<String> findHierarchicalIdsByHeadquartersAndPrefix(@Param("headquartersId") Long headquartersId,
+                     @Param("prefix") String prefix);
+
+       /**
+        * 특정 본사 + 레벨의 협력사 수
         */
        @Query("SELECT COUNT(p) FROM Partner p WHERE p.headquarters.headquartersId = :headquartersId AND p.level = :level")
        long countByHeadquartersAndLevel(@Param("headquartersId") Long headquartersId, @Param("level") Integer level);
@@ -1,13 +1,19 @@
 package com.nsmm.esg.auth_service.service;
 
+import com.nsmm.esg.auth_service.dto.TokenVerificationResult.RejectionReason;
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
 import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * 인증 서비스 메트릭 수집 서비스
@@ -29,6 +35,17 @@ public class AuthMetricsService {
     private final AtomicInteger activeHeadquartersUsers = new AtomicInteger(0);
     private final AtomicInteger activePartnerUsers = new AtomicInteger(0);
 
+    // 요청마다 기록되는 카운터 (매번 builder 조회를 피하기 위해 미리 등록)
+    private final Counter tokenCacheHits;
+    private final Counter tokenCacheMisses;
+    private final Counter revocationBloomNegatives;
+    private final Counter revocationFalsePositives;
+    private final Counter revocationHits;
+    private final Map<RejectionReason, Counter> jwtRejections = new EnumMap<>(RejectionReason.class);
+    private final Timer passwordHashingWait;
+    private final Timer passwordEncodeDuration;
+    private final Timer passwordMatchesDuration;
+
     public AuthMetricsService(MeterRegistry meterRegistry) {
         this.meterRegistry = meterRegistry;
 
@@ -41,6 +58,36 @@ public class AuthMetricsService {
                 .description("현재 활성 협력사 사용자 세션 수")
                 .register(meterRegistry);
 
+        // 검증 토큰 캐시 hit/miss 카운터
+        this.tokenCacheHits = Counter.builder("auth_token_cache_requests_total")
+                .description("검증 토큰 캐시 조회 횟수")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.tokenCacheMisses = Counter.builder("auth_token_cache_requests_total")
+                .description("검증 토큰 캐시 조회 횟수")
+                .tag("result", "miss")
+                .register(meterRegistry);
+
+        // 토큰 폐기 확인 결과 카운터 (bloom_negative / false_positive / revoked)
+        this.revocationBloomNegatives = revocationCheckCounter("bloom_negative");
+        this.revocationFalsePositives = revocationCheckCounter("false_positive");
+        this.revocationHits = revocationCheckCounter("revoked");
+
+        // JWT 거부 사유별 카운터 (만료/형식 오류/서명 불일치 등)
+        for (RejectionReason reason : RejectionReason.values()) {
+            jwtRejections.put(reason, Counter.builder("auth_jwt_rejections_total")
+                    .description("JWT 토큰 검증 거부 횟수")
+                    .tag("reason", reason.tag())
+                    .register(meterRegistry));
+        }
+
+        // 비밀번호 해시 실행기 대기/처리 시간
+        this.passwordHashingWait = Timer.builder("auth_password_hashing_wait")
+                .description("비밀번호 해시 작업 대기열 대기 시간")
+                .register(meterRegistry);
+        this.passwordEncodeDuration = passwordHashingTimer("encode");
+        this.passwordMatchesDuration = passwordHashingTimer("matches");
+
         log.info("AuthMetricsService 초기화 완료 - 메트릭 수집 시작");
     }
 
@@ -66,13 +113,17 @@ public class AuthMetricsService {
         return Timer.start(meterRegistry);
     }
 
-    public void recordLoginDuration(Timer.Sample sample, String userType, String result) {
-        sample.stop(Timer.builder("auth_login_duration_seconds")
+    /**
+     * @return 기록된 처리 시간 (나노초) - 로그인 동시성 제한의 지연 시간 신호로 사용
+     */
+    public long recordLoginDuration(Timer.Sample sample, String userType, String result) {
+        long durationNanos = sample.stop(Timer.builder("auth_login_duration_seconds")
                 .description("로그인 처리 시간")
                 .tag("user_type", userType.toLowerCase())
                 .tag("result", result.toLowerCase())
                 .register(meterRegistry));
         log.debug("로그인 처리시간 메트릭 기록: userType={}, result={}", userType, result);
+        return durationNanos;
     }
 
     // ===== 회원가입 관련 메트릭 =====
@@ -134,6 +185,114 @@ public class AuthMetricsService {
         log.debug("JWT 토큰 운영 메트릭 기록: operation={}, tokenType={}", operation, tokenType);
     }
 
+    /**
+     * JWT 거부 사유 기록 (만료 쿠키가 몰리는 경우에도 로그 대신 메트릭으로 집계)
+     */
+    public void recordJwtRejection(RejectionReason reason) {
+        jwtRejections.get(reason).increment();
+    }
+
+    /**
+     * 토큰 일괄 검증 배치 크기 기록
+     */
+    public void recordIntrospectionBatch(int batchSize) {
+        DistributionSummary.builder("auth_token_introspection_batch_size")
+                .description("토큰 일괄 검증 요청당 토큰 수")
+                .register(meterRegistry)
+                .record(batchSize);
+    }
+
+    /**
+     * Refresh Token 패밀리 수 게이지 등록
+     */
+    public void registerRefreshTokenFamilyGauge(Supplier<Number> sizeSupplier) {
+        Gauge.builder("auth_refresh_token_families", sizeSupplier)
+                .description("활성 Refresh Token 패밀리 수")
+                .register(meterRegistry);
+    }
+
+    // ===== 검증 토큰 캐시 관련 메트릭 =====
+
+    /**
+     * 검증 토큰 캐시 조회 결과 기록 (hit / miss)
+     * 매 요청마다 호출되므로 미리 등록한 카운터 사용
+     */
+    public void recordTokenCacheAccess(boolean hit) {
+        (hit ? tokenCacheHits : tokenCacheMisses).increment();
+    }
+
+    /**
+     * 검증 토큰 캐시 제거 카운터 증가
+     */
+    public void incrementTokenCacheEvictions(String cause) {
+        Counter.builder("auth_token_cache_evictions_total")
+                .description("검증 토큰 캐시 제거 횟수")
+                .tag("cause", cause.toLowerCase())
+                .register(meterRegistry)
+                .increment();
+        log.debug("검증 토큰 캐시 제거 메트릭 기록: cause={}", cause);
+    }
+
+    /**
+     * 검증 토큰 캐시 크기 게이지 등록
+     */
+    public void registerTokenCacheSizeGauge(Supplier<Number> sizeSupplier) {
+        Gauge.builder("auth_token_cache_entries", sizeSupplier)
+                .description("검증 토큰 캐시 항목 수")
+                .register(meterRegistry);
+    }
+
+    // ===== 토큰 폐기 관련 메트릭 =====
+
+    /**
+     * 토큰 폐기 확인 결과 기록 (bloom_negative / false_positive / revoked)
+     * 매 요청마다 호출되므로 미리 등록한 카운터 사용
+     */
+    public void recordRevocationCheck(String result) {
+        switch (result) {
+            case "bloom_negative" -> revocationBloomNegatives.increment();
+            case "false_positive" -> revocationFalsePositives.increment();
+            case "revoked" -> revocationHits.increment();
+            default -> log.warn("알 수 없는 토큰 폐기 확인 결과: {}", result);
+        }
+    }
+
+    /**
+     * 토큰 폐기 카운터 증가
+     */
+    public void incrementTokenRevocations(String tokenType) {
+        Counter.builder("auth_token_revocations_total")
+                .description("토큰 폐기 횟수")
+                .tag("token_type", tokenType.toLowerCase())
+                .register(meterRegistry)
+                .increment();
+        log.debug("토큰 폐기 메트릭 기록: tokenType={}", tokenType);
+    }
+
+    /**
+     * 토큰 폐기 목록 게이지 등록 (항목 수, 추정 메모리, Bloom 필터 추정 오탐률)
+     */
+    public void registerTokenRevocationGauges(Supplier<Number> entriesSupplier,
+            Supplier<Number> memoryBytesSupplier, Supplier<Number> falsePositiveRateSupplier) {
+        Gauge.builder("auth_token_revocation_entries", entriesSupplier)
+                .description("폐기된 토큰 수 (만료 전)")
+                .register(meterRegistry);
+        Gauge.builder("auth_token_revocation_memory_bytes", memoryBytesSupplier)
+                .description("토큰 폐기 목록 추정 메모리 사용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("auth_token_revocation_bloom_false_positive_rate", falsePositiveRateSupplier)
+                .description("폐기 목록 Bloom 필터 추정 오탐률")
+                .register(meterRegistry);
+    }
+
+    private Counter revocationCheckCounter(String result) {
+        return Counter.builder("auth_token_revocation_checks_total")
+                .description("토큰 폐기 확인 횟수")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
     // ===== 보안 관련 메트릭 =====
 
     /**
@@ -160,6 +319,97 @@ public class AuthMetricsService {
         log.debug("비밀번호 이벤트 메트릭 기록: event={}", event);
     }
 
+    // ===== 비밀번호 해시 실행기 관련 메트릭 =====
+
+    /**
+     * 비밀번호 해시 실행기 게이지 등록 (대기열 깊이, 실행 중 작업 수)
+     */
+    public void registerPasswordHashingGauges(Supplier<Number> queueDepthSupplier, Supplier<Number> activeSupplier) {
+        Gauge.builder("auth_password_hashing_queue_depth", queueDepthSupplier)
+                .description("비밀번호 해시 대기열 깊이")
+                .register(meterRegistry);
+        Gauge.builder("auth_password_hashing_active", activeSupplier)
+                .description("실행 중인 비밀번호 해시 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 협력사 트리 인덱스 게이지 등록 (본사 수, 노드 수, 추정 메모리)
+     */
+    public void registerPartnerTreeIndexGauges(Supplier<Number> treesSupplier, Supplier<Number> nodesSupplier,
+            Supplier<Number> bytesSupplier) {
+        Gauge.builder("auth_partner_tree_index_trees", treesSupplier)
+                .description("메모리에 로드된 본사별 협력사 트리 수")
+                .register(meterRegistry);
+        Gauge.builder("auth_partner_tree_index_nodes", nodesSupplier)
+                .description("협력사 트리 인덱스의 전체 노드 수")
+                .register(meterRegistry);
+        Gauge.builder("auth_partner_tree_index_bytes", bytesSupplier)
+                .description("협력사 트리 인덱스 추정 메모리 사용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 협력사 트리 인덱스 로드 카운터 증가 (miss: 최초 로드, stale: DB 버전 불일치로 재로드)
+     */
+    public void incrementPartnerTreeIndexLoads(String reason) {
+        Counter.builder("auth_partner_tree_index_loads_total")
+                .description("협력사 트리 인덱스 로드 횟수")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * 로그인 동시성 제한 게이지 등록 (현재 한도, 처리 중 요청 수, 누적 거부 수)
+     */
+    public void registerLoginConcurrencyGauges(Supplier<Number> limitSupplier, Supplier<Number> inFlightSupplier,
+            Supplier<Number> shedSupplier) {
+        Gauge.builder("auth_login_concurrency_limit", limitSupplier)
+                .description("로그인 동시 처리 한도 (지연 시간 기반 자동 조정)")
+                .register(meterRegistry);
+        Gauge.builder("auth_login_concurrency_in_flight", inFlightSupplier)
+                .description("처리 중인 로그인 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("auth_login_shed_count", shedSupplier)
+                .description("동시성 한도 초과로 즉시 거부된 로그인 요청 수 (누적)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 비밀번호 해시 대기 시간 기록
+     */
+    public void recordPasswordHashingWait(long waitedNanos) {
+        passwordHashingWait.record(waitedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 비밀번호 해시 처리 시간 기록 (encode / matches)
+     */
+    public void recordPasswordHashingDuration(String operation, long durationNanos) {
+        Timer timer = "encode".equals(operation) ? passwordEncodeDuration : passwordMatchesDuration;
+        timer.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 비밀번호 해시 거부 카운터 증가 (queue_full / wait_timeout)
+     */
+    public void incrementPasswordHashingRejections(String reason) {
+        Counter.builder("auth_password_hashing_rejections_total")
+                .description("비밀번호 해시 실행기 거부 횟수")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private Timer passwordHashingTimer(String operation) {
+        return Timer.builder("auth_password_hashing_duration")
+                .description("비밀번호 해시 처리 시간")
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+
     // ===== 협력사 관련 메트릭 =====
 
     /**
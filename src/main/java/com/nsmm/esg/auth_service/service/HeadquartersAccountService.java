@@ -5,7 +5,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
+import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 
 /**
@@ -29,6 +29,7 @@ import java.time.format.DateTimeFormatter;
 public class HeadquartersAccountService {
 
   private final HeadquartersRepository headquartersRepository;
+  private final IdSequenceService idSequenceService;
 
   // 계정번호 생성 규칙
   private static final int ACCOUNT_NUMBER_LENGTH = 10; // 계정번호 총 길이
@@ -37,22 +38,22 @@ public class HeadquartersAccountService {
   private static final int MIN_SEQUENCE = 1700; // 최소 순번
   private static final int MAX_SEQUENCE = 1799; // 최대 순번
   private static final int DAILY_CAPACITY = MAX_SEQUENCE - MIN_SEQUENCE + 1; // 일일 최대 생성 수
+  private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyMMdd");
 
   /**
    * 새로운 본사 계정번호 생성
    * 형식: YYMMDD + 17XX (예: 2412161700)
+   * 일자별 id_sequences 카운터(hq:{YYMMDD})에서 순번 발급 → 동시 가입도 중복 없음
    */
   public String generateAccountNumber() {
     log.info("새로운 본사 계정번호 생성 시작");
 
     // 현재 날짜 기준 기본 패턴 생성 (20 제거하여 6자리)
-    String today = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyMMdd"));
+    String today = today();
 
-    // 오늘 날짜로 생성된 본사 수 조회
-    long todayCount = getTodayHeadquartersCount(today);
-
-    // 순번 생성 (1700부터 시작)
-    int sequence = MIN_SEQUENCE + (int) todayCount;
+    // 순번 발급 (1700부터 시작)
+    long issued = idSequenceService.next(sequenceKey(today), () -> findIssuedCount(today));
+    long sequence = MIN_SEQUENCE - 1 + issued;
 
     // 최대 순번 확인
     if (sequence > MAX_SEQUENCE) {
@@ -60,28 +61,26 @@ public class HeadquartersAccountService {
           String.format("일일 본사 생성 한도(%d개)를 초과했습니다.", DAILY_CAPACITY));
     }
 
-    String accountNumber = String.format("%s%d", today, sequence);
-
-    // 중복 확인 및 조정
-    while (headquartersRepository.existsByHqAccountNumber(accountNumber)) {
-      sequence++;
-      if (sequence > MAX_SEQUENCE) {
-        throw new IllegalStateException(
-            String.format("일일 본사 생성 한도(%d개)를 초과했습니다.", DAILY_CAPACITY));
-      }
-      accountNumber = String.format("%s%d", today, sequence);
-    }
-
+    String accountNumber = today + sequence;
     log.info("본사 계정번호 생성 완료: {}", accountNumber);
     return accountNumber;
   }
 
   /**
-   * 오늘 날짜 기준으로 생성된 본사 수 조회
+   * 카운터 도입 전 오늘 생성된 계정번호 수 (가장 큰 순번 기준, 카운터 행 최초 생성 시 1회)
    */
-  private long getTodayHeadquartersCount(String datePattern) {
-    // 해당 날짜로 시작하는 계정번호를 가진 본사 수 조회
-    return headquartersRepository.countByHqAccountNumberStartingWith(datePattern);
+  private long findIssuedCount(String datePattern) {
+    return headquartersRepository.findMaxHqAccountNumberStartingWith(datePattern)
+        .map(accountNumber -> (long) (extractSequence(accountNumber) - MIN_SEQUENCE + 1))
+        .orElse(0L);
+  }
+
+  private static String today() {
+    return LocalDate.now().format(DATE_FORMAT);
+  }
+
+  private static String sequenceKey(String datePattern) {
+    return "hq:" + datePattern;
   }
 
   /**
@@ -129,17 +128,17 @@ public class HeadquartersAccountService {
   }
 
   /**
-   * 다음 사용 가능한 계정번호 미리 확인
+   * 다음 사용 가능한 계정번호 미리 확인 (발급하지 않음)
+   * 카운터 행 한 건만 조회 - 동시 가입이 있으면 실제 발급 번호와 다를 수 있음
+   * 오늘 카운터 행이 아직 없으면 발급과 같이 오늘 생성된 가장 큰 계정번호 기준
    */
   public String getNextAvailableAccountNumber() {
-    try {
-      return generateAccountNumber();
-    } catch (Exception e) {
-      log.warn("다음 계정번호 생성 실패: {}", e.getMessage());
+    String today = today();
+    long sequence = MIN_SEQUENCE + idSequenceService.peek(sequenceKey(today), () -> findIssuedCount(today));
+    if (sequence > MAX_SEQUENCE) {
+      log.warn("다음 계정번호 없음: 일일 본사 생성 한도({}개) 소진", DAILY_CAPACITY);
       return null;
     }
+    return today + sequence;
   }
-
-
-
-}
\ No newline at end of file
+}
@@ -5,7 +5,6 @@ import com.nsmm.esg.auth_service.dto.headquarters.HeadquartersLoginRequest;
 import com.nsmm.esg.auth_service.dto.partner.PartnerResponse;
 import com.nsmm.esg.auth_service.entity.Headquarters;
 import com.nsmm.esg.auth_service.repository.HeadquartersRepository;
-import com.nsmm.esg.auth_service.util.PasswordUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.BadCredentialsException;
@@ -32,8 +31,9 @@ import java.util.UUID;
 public class HeadquartersService {
 
     private final HeadquartersRepository headquartersRepository;
-    private final PasswordUtil passwordUtil;
+    private final PasswordHashingService passwordHashingService;
     private final HeadquartersAccountService headquartersAccountService;
+    private final PartnerTreeIndex partnerTreeIndex;
 
     /**
      * 본사 회원가입
@@ -53,13 +53,13 @@ public class HeadquartersService {
         String uuid = generateUniqueUuid();
         log.info("생성된 본사 UUID: {}", uuid);
 
+        // 비밀번호 암호화 (계정번호 발급 전 - 일자별 카운터 행 잠금이 해싱 동안 유지되지 않도록)
+        String encodedPassword = passwordHashingService.encodePassword(registrationDto.getPassword());
+
         // 새로운 본사 계정번호 생성
         String hqAccountNumber = headquartersAccountService.generateAccountNumber();
         log.info("생성된 본사 계정번호: {}", hqAccountNumber);
 
-        // 비밀번호 암호화
-        String encodedPassword = passwordUtil.encodePassword(registrationDto.getPassword());
-
         // 본사 엔티티 생성
         Headquarters headquarters = Headquarters.builder()
                 .uuid(uuid)
@@ -85,7 +85,9 @@ public class HeadquartersService {
 
     /**
      * 본사 로그인 (이메일 + 비밀번호)
+     * 저장된 해시가 현재 설정보다 약하면 로그인 성공 시 재해시하여 저장
      */
+    @Transactional
     public Headquarters login(HeadquartersLoginRequest loginDto) {
         log.info("본사 로그인 요청: 이메일={}", loginDto.getEmail());
 
@@ -99,10 +101,17 @@ public class HeadquartersService {
         }
 
         // 비밀번호 검증
-        if (!passwordUtil.matches(loginDto.getPassword(), headquarters.getPassword())) {
+        if (!passwordHashingService.matches(loginDto.getPassword(), headquarters.getPassword())) {
             throw new BadCredentialsException("비밀번호가 일치하지 않습니다.");
         }
 
+        // 해시 업그레이드 (알고리즘/cost 변경 반영)
+        String rehashed = passwordHashingService.rehashIfNeeded(loginDto.getPassword(), headquarters.getPassword());
+        if (rehashed != null) {
+            headquarters = headquartersRepository.save(headquarters.changePassword(rehashed));
+            log.info("본사 비밀번호 해시 업그레이드: ID={}", headquarters.getHeadquartersId());
+        }
+
         log.info("본사 로그인 성공: ID={}, 계정번호={}",
                 headquarters.getHeadquartersId(), headquarters.getHqAccountNumber());
 
@@ -140,6 +149,7 @@ public class HeadquartersService {
                 companyName, name, department, position, phone, address);
 
         Headquarters savedHeadquarters = headquartersRepository.save(updatedHeadquarters);
+        partnerTreeIndex.onHeadquartersChanged(savedHeadquarters.getHeadquartersId()); // 본사명이 협력사 응답에 포함
         log.info("본사 정보 수정 완료: ID={}", savedHeadquarters.getHeadquartersId());
 
         return savedHeadquarters;
@@ -156,12 +166,12 @@ public class HeadquartersService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 본사입니다: " + id));
 
         // 기존 비밀번호 확인
-        if (!passwordUtil.matches(oldPassword, headquarters.getPassword())) {
+        if (!passwordHashingService.matches(oldPassword, headquarters.getPassword())) {
             throw new BadCredentialsException("기존 비밀번호가 일치하지 않습니다.");
         }
 
         // 새 비밀번호 암호화
-        String encodedNewPassword = passwordUtil.encodePassword(newPassword);
+        String encodedNewPassword = passwordHashingService.encodePassword(newPassword);
 
         // 비밀번호 변경 (불변성 보장)
         Headquarters updatedHeadquarters = headquarters.changePassword(encodedNewPassword);
@@ -0,0 +1,171 @@
+package com.nsmm.esg.auth_service.service;
+
+import com.nsmm.esg.auth_service.repository.IdSequenceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 식별자 순번 발급 서비스 (id_sequences 카운터 행 기반)
+ *
+ * 주요 기능:
+ * - 키별 순번 발급: UPDATE 한 문장으로 증가 → 동시 요청도 서로 다른 순번 (카운트 조회 없음, O(1))
+ * - 블록 예약: 한 번의 UPDATE로 N개 순번을 예약하고 메모리에서 하나씩 사용 (대량 생성용)
+ * - 카운터 행이 없으면 기존 데이터의 마지막 순번으로 초기화하여 생성
+ *
+ * 발급은 호출 측 트랜잭션(같은 커넥션)에서 실행 → 요청당 커넥션 1개 (풀 크기와 무관하게 교착 없음)
+ * 카운터 행 잠금은 호출 측 커밋까지 유지되므로 발급 후에는 DB 작업만 하고 해싱 등 느린 작업은 발급 전에 수행
+ * 호출 측 트랜잭션이 롤백되면 발급한 순번도 함께 롤백됨 (중복 불가)
+ */
+@Service
+@Slf4j
+public class IdSequenceService {
+
+    private static final int MAX_ATTEMPTS = 3;
+    private static final String INSERT_COUNTER = "INSERT INTO id_sequences (sequence_key, last_value) VALUES (?, ?)";
+
+    private final IdSequenceRepository idSequenceRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    public IdSequenceService(IdSequenceRepository idSequenceRepository, JdbcTemplate jdbcTemplate) {
+        this.idSequenceRepository = idSequenceRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 다음 순번 발급
+     *
+     * @param initialValue 카운터 행이 없을 때의 마지막 순번 (기존 데이터 기준, 최초 1회만 호출)
+     */
+    @Transactional
+    public long next(String sequenceKey, LongSupplier initialValue) {
+        return reserve(sequenceKey, 1, initialValue).next();
+    }
+
+    /**
+     * 마지막 발급 순번 조회 (발급하지 않음)
+     * 카운터 행이 있으면 한 건만 조회하므로 미리보기 용도로 반복 호출해도 부담 없음
+     *
+     * @param initialValue 카운터 행이 없을 때의 마지막 순번 (next와 같은 기준 → 첫 발급 번호와 일치)
+     */
+    public long peek(String sequenceKey, LongSupplier initialValue) {
+        return idSequenceRepository.findLastValue(sequenceKey).orElseGet(initialValue::getAsLong);
+    }
+
+    /**
+     * 마지막 발급 순번을 minimum 이상으로 맞춤 (카운터 행이 없으면 minimum으로 생성)
+     * 카운터 밖에서 발급된 기존 식별자와 겹치지 않도록 기동 시 호출
+     */
+    @Transactional
+    public void raiseTo(String sequenceKey, long minimum) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            idSequenceRepository.raise(sequenceKey, minimum);
+            if (idSequenceRepository.findLastValue(sequenceKey).isPresent()) {
+                return;
+            }
+            createCounter(sequenceKey, () -> minimum);
+        }
+        throw new IllegalStateException("순번 카운터 초기화에 실패했습니다: " + sequenceKey);
+    }
+
+    /**
+     * 순번 블록 예약 (size개 연속 순번)
+     */
+    @Transactional
+    public SequenceBlock reserve(String sequenceKey, int size, LongSupplier initialValue) {
+        if (size < 1) {
+            throw new IllegalArgumentException("예약할 순번 수는 1 이상이어야 합니다: " + size);
+        }
+
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            Long lastValue = advance(sequenceKey, size);
+            if (lastValue != null) {
+                return new SequenceBlock(lastValue - size + 1, lastValue);
+            }
+            createCounter(sequenceKey, initialValue);
+        }
+        throw new IllegalStateException("순번 발급에 실패했습니다: " + sequenceKey);
+    }
+
+    private Long advance(String sequenceKey, int size) {
+        if (idSequenceRepository.advance(sequenceKey, size) == 0) {
+            return null;
+        }
+        return idSequenceRepository.findLastValue(sequenceKey)
+                .orElseThrow(() -> new IllegalStateException("순번 카운터 조회 실패: " + sequenceKey));
+    }
+
+    /**
+     * 카운터 행 생성 - 다른 요청이 먼저 생성했으면 무시하고 advance 재시도
+     * 호출 측 커넥션에 세이브포인트를 두고 JDBC로 INSERT → 기본키 중복 시 이 문장만 롤백되고 트랜잭션은 유지
+     * (JPA 쿼리로 실패하면 Hibernate가 트랜잭션 전체를 rollback-only로 표시)
+     */
+    private void createCounter(String sequenceKey, LongSupplier initialValue) {
+        long lastValue = initialValue.getAsLong();
+        Boolean created = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection -> {
+            Savepoint savepoint = connection.setSavepoint();
+            try (PreparedStatement insert = connection.prepareStatement(INSERT_COUNTER)) {
+                insert.setString(1, sequenceKey);
+                insert.setLong(2, lastValue);
+                insert.executeUpdate();
+                connection.releaseSavepoint(savepoint);
+                return true;
+            } catch (SQLException e) {
+                if (!isDuplicateKey(e)) {
+                    throw e;
+                }
+                connection.rollback(savepoint);
+                return false;
+            }
+        });
+        if (Boolean.TRUE.equals(created)) {
+            log.info("순번 카운터 생성: key={}", sequenceKey);
+        } else {
+            log.debug("순번 카운터 동시 생성 감지 - 재시도: key={}", sequenceKey);
+        }
+    }
+
+    /**
+     * 무결성 제약 위반 (SQLSTATE 23xxx - MySQL 23000, H2 23505)
+     */
+    private static boolean isDuplicateKey(SQLException e) {
+        return e.getSQLState() != null && e.getSQLState().startsWith("23");
+    }
+
+    /**
+     * 예약된 순번 블록 [first, last] (스레드 안전)
+     */
+    public static final class SequenceBlock {
+        private final AtomicLong cursor;
+        private final long last;
+
+        private SequenceBlock(long first, long last) {
+            this.cursor = new AtomicLong(first);
+            this.last = last;
+        }
+
+        /**
+         * 블록에서 다음 순번 사용 (소진 시 NoSuchElementException)
+         */
+        public long next() {
+            long value = cursor.getAndIncrement();
+            if (value > last) {
+                throw new NoSuchElementException("예약된 순번을 모두 사용했습니다.");
+            }
+            return value;
+        }
+
+        public long remaining() {
+            return Math.max(0, last - cursor.get() + 1);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.nsmm.esg.auth_service.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로그인 동시 처리 한도 (지연 시간 기반 AIMD)
+ *
+ * 주요 기능:
+ * - 처리 중 로그인이 한도 이상이면 대기열에 넣지 않고 즉시 거부 (→ 503)
+ * - 로그인 성공 지연 시간의 기준값(무부하 지연 시간) 대비 tolerance배 이내면 한도를 서서히 증가 (+1 / 한도만큼 완료)
+ * - 기준값의 tolerance배를 넘거나 해시 대기열이 거부하면 한도를 backoff-ratio배로 감소 (기준 지연 시간당 최대 1회)
+ * - 현재 한도, 처리 중 요청 수, 누적 거부 수를 게이지로 노출
+ *
+ * 지연 시간은 AuthMetricsService.recordLoginDuration이 기록한 값을 그대로 사용
+ * 고정 시도 제한(LoginRateLimiter)과 달리 DB/CPU가 느려지면 한도가 자동으로 줄어듦
+ */
+@Service
+@Slf4j
+public class LoginConcurrencyLimiter {
+
+    // 기준 지연 시간이 실제 지연 시간 변화를 따라 올라가는 비율 (최솟값 고정 방지)
+    private static final double BASELINE_RISE_RATE = 0.01;
+
+    private final boolean enabled;
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final double tolerance;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong shedCount = new AtomicLong();
+    private volatile double limit;
+    private double baselineNanos = Double.NaN;
+    private long lastDecreaseNanos;
+
+    public LoginConcurrencyLimiter(
+            AuthMetricsService authMetricsService,
+            @Value("${login.concurrency.enabled:true}") boolean enabled,
+            @Value("${login.concurrency.initial-limit:20}") int initialLimit,
+            @Value("${login.concurrency.min-limit:2}") int minLimit,
+            @Value("${login.concurrency.max-limit:200}") int maxLimit,
+            @Value("${login.concurrency.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${login.concurrency.tolerance:2.0}") double tolerance) {
+        if (minLimit < 1 || maxLimit < minLimit || backoffRatio <= 0 || backoffRatio >= 1 || tolerance <= 1) {
+            throw new IllegalArgumentException("login.concurrency 설정이 올바르지 않습니다.");
+        }
+        this.enabled = enabled;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.tolerance = tolerance;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+
+        authMetricsService.registerLoginConcurrencyGauges(this::getLimit, inFlight::get, shedCount::get);
+        log.info("로그인 동시성 제한 초기화: enabled={}, initialLimit={}, min={}, max={}, backoff={}, tolerance={}",
+                enabled, (int) limit, minLimit, maxLimit, backoffRatio, tolerance);
+    }
+
+    /**
+     * 처리 슬롯 획득 (한도 초과 시 null → 즉시 거부)
+     * 반환된 Permit은 반드시 finally에서 release
+     */
+    public Permit tryAcquire() {
+        if (!enabled) {
+            inFlight.incrementAndGet();
+            return new Permit();
+        }
+
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= (int) limit) {
+                shedCount.incrementAndGet();
+                return null;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return new Permit();
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * 성공 지연 시간 반영: 기준값 갱신, 과부하면 감소, 한도 근처까지 사용 중이면 증가
+     */
+    private synchronized void onSuccess(long latencyNanos, int inFlightAtRelease) {
+        if (Double.isNaN(baselineNanos) || latencyNanos < baselineNanos) {
+            baselineNanos = latencyNanos;
+        } else {
+            baselineNanos += (latencyNanos - baselineNanos) * BASELINE_RISE_RATE;
+        }
+
+        if (latencyNanos > baselineNanos * tolerance) {
+            decrease(System.nanoTime());
+        } else if (inFlightAtRelease * 2 >= limit) {
+            // 한도의 절반 이상 사용 중일 때만 증가 (유휴 상태에서 한도가 무한히 커지지 않도록)
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    /**
+     * 실패 지연 시간 반영: 사용자 없음 등 빠른 실패는 기준값에 넣지 않고 과부하 판정에만 사용
+     */
+    private synchronized void onFailure(long latencyNanos) {
+        if (!Double.isNaN(baselineNanos) && latencyNanos > baselineNanos * tolerance) {
+            decrease(System.nanoTime());
+        }
+    }
+
+    private synchronized void onDropped() {
+        decrease(System.nanoTime());
+    }
+
+    /**
+     * 곱셈 감소 - 같은 과부하 구간의 연속 신호로 한도가 급락하지 않도록 기준 지연 시간당 1회
+     */
+    private void decrease(long now) {
+        double window = Double.isNaN(baselineNanos) ? 0 : baselineNanos * tolerance;
+        if (lastDecreaseNanos != 0 && now - lastDecreaseNanos < window) {
+            return;
+        }
+        lastDecreaseNanos = now;
+        double previous = limit;
+        limit = Math.max(minLimit, limit * backoffRatio);
+        log.debug("로그인 동시성 한도 감소: {} → {}", (int) previous, (int) limit);
+    }
+
+    /**
+     * 로그인 처리 슬롯
+     * 처리 결과에 따라 onSuccess / onFailure / onDropped 중 하나를 기록하고 finally에서 release
+     */
+    public final class Permit {
+        private final AtomicBoolean released = new AtomicBoolean();
+        private long latencyNanos = -1;
+        private boolean success;
+        private boolean dropped;
+
+        private Permit() {
+        }
+
+        public void onSuccess(long latencyNanos) {
+            this.latencyNanos = latencyNanos;
+            this.success = true;
+        }
+
+        public void onFailure(long latencyNanos) {
+            this.latencyNanos = latencyNanos;
+        }
+
+        /**
+         * 하위 자원(비밀번호 해시 대기열)이 요청을 거부 → 과부하 신호
+         */
+        public void onDropped() {
+            this.dropped = true;
+        }
+
+        public void release() {
+            if (!released.compareAndSet(false, true)) {
+                return;
+            }
+            int remaining = inFlight.decrementAndGet();
+            if (!enabled) {
+                return;
+            }
+            if (dropped) {
+                LoginConcurrencyLimiter.this.onDropped();
+            } else if (success) {
+                LoginConcurrencyLimiter.this.onSuccess(latencyNanos, remaining + 1);
+            } else if (latencyNanos >= 0) {
+                LoginConcurrencyLimiter.this.onFailure(latencyNanos);
+            }
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.nsmm.esg.auth_service.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로그인 시도 제한 (계정별 + 클라이언트 IP별 토큰 버킷)
+ * IP별 제한은 실제 클라이언트 IP가 전달될 때만 켬 (login.rate-limit.ip.enabled, 기본 꺼짐)
+ * - 게이트웨이 뒤에서 getRemoteAddr()는 게이트웨이 주소라 모든 로그인이 버킷 하나를 공유하게 됨
+ *
+ * 주요 기능:
+ * - 계정(본사 이메일 / 본사계정번호+협력사아이디)과 IP별로 시도 횟수 제한
+ * - 한도 초과 시도는 DB 조회/BCrypt 검증 전에 거부 (Retry-After 초 반환)
+ * - 버킷은 크기 제한 캐시에 보관 (max-keys 초과 시 오래된 버킷부터 제거)
+ *
+ * 버킷은 잠금 없이 AtomicLong 하나(다음 토큰 보충 예정 시각, GCRA)를 CAS로 갱신
+ * 마지막 시도 후 버킷이 가득 찰 시간이 지나면 캐시에서 제거되어도 결과가 같음
+ */
+@Service
+@Slf4j
+public class LoginRateLimiter {
+
+    private final AuthMetricsService authMetricsService;
+    private final boolean enabled;
+    private final boolean ipEnabled;
+    private final BucketPolicy accountPolicy;
+    private final BucketPolicy ipPolicy;
+    private final Cache<String, Bucket> accountBuckets;
+    private final Cache<String, Bucket> ipBuckets;
+
+    public LoginRateLimiter(
+            AuthMetricsService authMetricsService,
+            @Value("${login.rate-limit.enabled:true}") boolean enabled,
+            @Value("${login.rate-limit.account.capacity:5}") int accountCapacity,
+            @Value("${login.rate-limit.account.refill-interval:12000}") long accountRefillMillis,
+            @Value("${login.rate-limit.ip.enabled:false}") boolean ipEnabled,
+            @Value("${login.rate-limit.ip.capacity:30}") int ipCapacity,
+            @Value("${login.rate-limit.ip.refill-interval:2000}") long ipRefillMillis,
+            @Value("${login.rate-limit.max-keys:100000}") long maxKeys) {
+        this.authMetricsService = authMetricsService;
+        this.enabled = enabled;
+        this.ipEnabled = ipEnabled;
+        this.accountPolicy = new BucketPolicy(accountCapacity, accountRefillMillis);
+        this.ipPolicy = new BucketPolicy(ipCapacity, ipRefillMillis);
+        this.accountBuckets = newBucketCache(accountPolicy, maxKeys);
+        this.ipBuckets = newBucketCache(ipPolicy, maxKeys);
+
+        log.info("로그인 시도 제한 초기화: enabled={}, 계정={}회/{}ms 보충, IP(enabled={})={}회/{}ms 보충, maxKeys={}",
+                enabled, accountCapacity, accountRefillMillis, ipEnabled, ipCapacity, ipRefillMillis, maxKeys);
+    }
+
+    /**
+     * 본사 로그인 시도 허용 여부
+     *
+     * @return 0이면 허용, 양수면 재시도까지 대기할 초 (Retry-After)
+     */
+    public long tryAcquireHeadquartersLogin(String email, String clientIp) {
+        return tryAcquire("hq:" + normalize(email), clientIp);
+    }
+
+    /**
+     * 협력사 로그인 시도 허용 여부
+     *
+     * @return 0이면 허용, 양수면 재시도까지 대기할 초 (Retry-After)
+     */
+    public long tryAcquirePartnerLogin(String hqAccountNumber, String partnerCode, String clientIp) {
+        return tryAcquire("partner:" + normalize(hqAccountNumber) + "-" + normalize(partnerCode), clientIp);
+    }
+
+    /**
+     * IP 버킷 → 계정 버킷 순으로 확인 (IP 한도 초과 시 계정 버킷은 소모하지 않음)
+     */
+    private long tryAcquire(String accountKey, String clientIp) {
+        if (!enabled) {
+            return 0;
+        }
+
+        long now = System.nanoTime();
+        if (ipEnabled && clientIp != null) {
+            long waitNanos = ipBuckets.get(clientIp, key -> new Bucket(now)).tryAcquire(ipPolicy, now);
+            if (waitNanos > 0) {
+                authMetricsService.incrementAuthFailures("rate_limited_ip");
+                log.warn("로그인 시도 제한 (IP): ip={}", clientIp);
+                return toRetryAfterSeconds(waitNanos);
+            }
+        }
+
+        long waitNanos = accountBuckets.get(accountKey, key -> new Bucket(now)).tryAcquire(accountPolicy, now);
+        if (waitNanos > 0) {
+            authMetricsService.incrementAuthFailures("rate_limited_account");
+            log.warn("로그인 시도 제한 (계정): account={}", accountKey);
+            return toRetryAfterSeconds(waitNanos);
+        }
+        return 0;
+    }
+
+    private static Cache<String, Bucket> newBucketCache(BucketPolicy policy, long maxKeys) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(policy.burstNanos, TimeUnit.NANOSECONDS)
+                .build();
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static long toRetryAfterSeconds(long waitNanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+    }
+
+    /**
+     * 버킷 정책: capacity회까지 연속 허용, 이후 refill-interval마다 1회씩 보충
+     */
+    private static final class BucketPolicy {
+        private final long intervalNanos;
+        private final long burstNanos;
+
+        private BucketPolicy(int capacity, long refillMillis) {
+            if (capacity < 1 || refillMillis < 1) {
+                throw new IllegalArgumentException("login.rate-limit capacity/refill-interval은 1 이상이어야 합니다.");
+            }
+            this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(refillMillis);
+            this.burstNanos = intervalNanos * capacity;
+        }
+    }
+
+    /**
+     * 토큰 버킷 (GCRA)
+     * theoreticalArrival: 모든 토큰이 보충되는 시각 - now가 burst 이상 뒤처지지 않으면 허용
+     */
+    private static final class Bucket {
+        private final AtomicLong theoreticalArrival;
+
+        private Bucket(long now) {
+            this.theoreticalArrival = new AtomicLong(now);
+        }
+
+        /**
+         * @return 0이면 허용 (토큰 1개 소모), 양수면 다음 토큰까지 남은 나노초
+         */
+        private long tryAcquire(BucketPolicy policy, long now) {
+            while (true) {
+                long current = theoreticalArrival.get();
+                long next = Math.max(current, now) + policy.intervalNanos;
+                long waitNanos = next - now - policy.burstNanos;
+                if (waitNanos > 0) {
+                    return waitNanos;
+                }
+                if (theoreticalArrival.compareAndSet(current, next)) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package com.nsmm.esg.auth_service.service;
 
+import com.nsmm.esg.auth_service.entity.Partner;
 import com.nsmm.esg.auth_service.repository.PartnerRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * 협력사 계층적 아이디 생성 서비스
  * 
@@ -12,6 +18,9 @@ import org.springframework.stereotype.Service;
  * - 1차 협력사: L1-001, L1-002, L1-003...
  * - 2차 협력사: L2-001, L2-002, L2-003...
  * - 3차 협력사: L3-001, L3-002, L3-003...
+ *
+ * 순번은 (본사, 레벨)별 id_sequences 카운터에서 발급 → 동시 생성도 중복 없음
+ * 협력사 기본키도 같은 테이블의 partner:id 카운터에서 블록 단위로 발급 (Partner @TableGenerator)
  */
 @Service
 @RequiredArgsConstructor
@@ -19,6 +28,7 @@ import org.springframework.stereotype.Service;
 public class PartnerAccountService {
 
   private final PartnerRepository partnerRepository;
+  private final IdSequenceService idSequenceService;
 
   /**
    * 계층적 아이디 생성 (통합 메서드)
@@ -30,27 +40,65 @@ public class PartnerAccountService {
   public String generateHierarchicalId(Long headquartersId, int level, Long parentPartnerId) {
     log.info("계층적 아이디 생성: 본사ID={}, 레벨={}, 상위ID={}", headquartersId, level, parentPartnerId);
 
-    // 해당 본사에서 같은 레벨의 협력사 수 조회
-    long count = partnerRepository.countByHeadquartersAndLevel(headquartersId, level);
-    int sequence = (int) (count + 1);
+    long sequence = idSequenceService.next(sequenceKey(headquartersId, level),
+        () -> findLastSequence(headquartersId, level));
+    String hierarchicalId = formatHierarchicalId(level, sequence);
 
-    // 중복 확인 및 조정
-    String candidateId = String.format("L%d-%03d", level, sequence);
+    log.info("계층적 아이디 생성 완료: {}", hierarchicalId);
+    return hierarchicalId;
+  }
 
-    // 본사의 계정번호 조회 필요 (임시로 시퀀스만 사용)
-    while (isHierarchicalIdDuplicate(headquartersId, level, sequence)) {
-      sequence++;
-      candidateId = String.format("L%d-%03d", level, sequence);
+  /**
+   * 계층적 아이디 일괄 예약 (대량 생성용)
+   * 한 번의 카운터 갱신으로 count개의 연속 순번 예약
+   */
+  public List<String> reserveHierarchicalIds(Long headquartersId, int level, int count) {
+    IdSequenceService.SequenceBlock block = idSequenceService.reserve(sequenceKey(headquartersId, level), count,
+        () -> findLastSequence(headquartersId, level));
+
+    List<String> hierarchicalIds = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      hierarchicalIds.add(formatHierarchicalId(level, block.next()));
     }
+    log.info("계층적 아이디 일괄 예약: 본사ID={}, 레벨={}, {}~{}", headquartersId, level,
+        hierarchicalIds.get(0), hierarchicalIds.get(count - 1));
+    return hierarchicalIds;
+  }
 
-    log.info("계층적 아이디 생성 완료: {}", candidateId);
-    return candidateId;
+  /**
+   * 기동 시 기본키 카운터를 기존 최대 협력사 ID 이상으로 맞춤
+   * (IDENTITY로 생성된 기존 협력사 ID와 카운터 발급 ID가 겹치지 않도록)
+   */
+  @EventListener(ApplicationReadyEvent.class)
+  public void initializePartnerIdSequence() {
+    long maxPartnerId = partnerRepository.findMaxPartnerId();
+    idSequenceService.raiseTo(Partner.ID_SEQUENCE_KEY, maxPartnerId);
+    log.info("협력사 기본키 카운터 확인: 최대 협력사ID={}", maxPartnerId);
+  }
+
+  private static String sequenceKey(Long headquartersId, int level) {
+    return "partner:" + headquartersId + ":L" + level;
+  }
+
+  private static String formatHierarchicalId(int level, long sequence) {
+    return String.format("L%d-%03d", level, sequence);
   }
 
   /**
-   * 계층적 아이디 중복 확인 (헬퍼 메서드)
+   * 카운터 도입 전 생성된 협력사의 마지막 순번 (카운터 행 최초 생성 시 1회)
+   * 이동으로 레벨이 바뀐 협력사도 포함되도록 아이디 접두사로 조회
    */
-  private boolean isHierarchicalIdDuplicate(Long headquartersId, int level, int sequence) {
-    return partnerRepository.countByHeadquartersAndLevel(headquartersId, level) >= sequence;
+  private long findLastSequence(Long headquartersId, int level) {
+    long last = 0;
+    for (String hierarchicalId : partnerRepository.findHierarchicalIdsByHeadquartersAndPrefix(headquartersId,
+        "L" + level + "-")) {
+      int separator = hierarchicalId.indexOf('-');
+      try {
+        last = Math.max(last, Long.parseLong(hierarchicalId.substring(separator + 1)));
+      } catch (NumberFormatException e) {
+        log.warn("순번을 해석할 수 없는 계층적 아이디: {}", hierarchicalId);
+      }
+    }
+    return last;
   }
-}
\ No newline at end of file
+}
@@ -0,0 +1,168 @@
+package com.nsmm.esg.auth_service.service;
+
+import com.nsmm.esg.auth_service.dto.partner.PartnerResponse;
+import com.nsmm.esg.auth_service.entity.Partner;
+import com.nsmm.esg.auth_service.repository.HeadquartersRepository;
+import com.nsmm.esg.auth_service.repository.PartnerClosureRepository;
+import com.nsmm.esg.auth_service.repository.PartnerRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 협력사 계층 클로저 테이블 관리 서비스
+ *
+ * 주요 기능:
+ * - 협력사 생성 시 클로저 행 추가 (생성 트랜잭션 안에서 INSERT ... SELECT 2회)
+ * - 하위 트리 이동 시 기존 상위와의 행 삭제 + 새 상위와의 행 추가 (DELETE 1회, INSERT ... SELECT 1회)
+ * - 전체 하위/상위 협력사, 하위 협력사 수 조회 (인덱스 범위 조회 1회)
+ * - 기동 시 클로저가 없는 협력사가 있으면 레벨 순으로 전체 재구성 (도입 전 데이터)
+ *
+ * 전체 재구성은 모든 본사 행을 잠근 뒤 실행 → 협력사 생성/일괄 생성/이동(본사 행 잠금으로 시작)과
+ * 다른 인스턴스의 재구성이 끝날 때까지 대기 (롤링 배포 시 동시 기동해도 행 누락/중복 없음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PartnerClosureService {
+
+    private final PartnerClosureRepository partnerClosureRepository;
+    private final PartnerRepository partnerRepository;
+    private final HeadquartersRepository headquartersRepository;
+
+    /**
+     * 협력사 생성 반영 (생성 트랜잭션 안에서 저장 직후 호출)
+     */
+    @Transactional
+    public void onPartnerCreated(Partner partner) {
+        partnerClosureRepository.insertSelf(partner.getPartnerId());
+        if (partner.getParentPartner() != null) {
+            partnerClosureRepository.insertAncestorPaths(partner.getPartnerId());
+        }
+    }
+
+    /**
+     * 하위 트리 이동 반영 (이동 트랜잭션 안에서 partners 갱신 직후 호출)
+     * 하위 트리 내부 행은 그대로 두고, 하위 트리 전체와 상위 협력사 사이의 행만 교체
+     *
+     * @param previousAncestorIds 이동 전 상위 협력사 ID (갱신 전에 findAncestorIds로 조회)
+     * @param subtreePath         이동 후 이동 협력사의 tree_path (하위 트리 선택용)
+     * @param parentPartnerId     새 상위 협력사 ID (1차로 이동하면 null)
+     */
+    @Transactional
+    public void onSubtreeMoved(Long headquartersId, Long partnerId, List<Long> previousAncestorIds, String subtreePath,
+            Long parentPartnerId) {
+        int deleted = previousAncestorIds.isEmpty() ? 0
+                : partnerClosureRepository.deleteSubtreeAncestorPaths(headquartersId, previousAncestorIds, subtreePath);
+        int inserted = parentPartnerId == null ? 0
+                : partnerClosureRepository.insertSubtreeAncestorPaths(partnerId, parentPartnerId);
+        log.info("협력사 클로저 하위 트리 이동 반영: 협력사ID={}, 삭제={}, 추가={}", partnerId, deleted, inserted);
+    }
+
+    /**
+     * 상위 협력사 ID 목록 (직속 상위부터)
+     */
+    public List<Long> findAncestorIds(Long partnerId) {
+        return partnerClosureRepository.findAncestorIds(partnerId);
+    }
+
+    /**
+     * candidateId가 partnerId 본인 또는 하위 협력사인지 (이동 시 순환 확인)
+     */
+    public boolean isInSubtree(Long partnerId, Long candidateId) {
+        return partnerClosureRepository.isSelfOrAncestor(partnerId, candidateId);
+    }
+
+    /**
+     * 전체 하위 협력사 (가까운 단계부터) - maxDepth가 null이면 전체
+     *
+     * @throws IllegalArgumentException 본사 소속 협력사가 아닌 경우
+     */
+    public List<PartnerResponse> findDescendants(Long headquartersId, Long partnerId, Integer maxDepth) {
+        int depth = maxDepth != null ? maxDepth : Integer.MAX_VALUE;
+        if (depth < 1) {
+            throw new IllegalArgumentException("maxDepth는 1 이상이어야 합니다: " + maxDepth);
+        }
+        List<PartnerResponse> descendants = partnerClosureRepository.findDescendants(headquartersId, partnerId, depth);
+        if (descendants.isEmpty()) {
+            requireExists(headquartersId, partnerId);
+        }
+        return descendants;
+    }
+
+    /**
+     * 전체 상위 협력사 (1차 협력사부터)
+     *
+     * @throws IllegalArgumentException 본사 소속 협력사가 아닌 경우
+     */
+    public List<PartnerResponse> findAncestors(Long headquartersId, Long partnerId) {
+        List<PartnerResponse> ancestors = partnerClosureRepository.findAncestors(headquartersId, partnerId);
+        if (ancestors.isEmpty()) {
+            requireExists(headquartersId, partnerId);
+        }
+        return ancestors;
+    }
+
+    /**
+     * 전체 하위 협력사 수
+     *
+     * @throws IllegalArgumentException 본사 소속 협력사가 아닌 경우
+     */
+    public long countDescendants(Long headquartersId, Long partnerId) {
+        long count = partnerClosureRepository.countDescendants(headquartersId, partnerId);
+        if (count == 0) {
+            requireExists(headquartersId, partnerId);
+        }
+        return count;
+    }
+
+    /**
+     * 기동 시 클로저 누락 확인 - 자기 자신 행 수와 협력사 수가 다르면 전체 재구성
+     * 잠금을 얻은 뒤 확인하므로 먼저 재구성한 인스턴스가 있으면 건너뜀
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuildIfIncomplete() {
+        headquartersRepository.lockAllForUpdate();
+        long partners = partnerRepository.count();
+        long closed = partnerClosureRepository.countSelfRows();
+        if (partners == closed) {
+            return;
+        }
+        log.warn("협력사 클로저 테이블 누락 감지: 협력사={}, 클로저={} → 전체 재구성", partners, closed);
+        rebuildRows();
+    }
+
+    /**
+     * 전체 재구성 (자기 자신 행 → 2차부터 레벨 순으로 상위 경로 행)
+     */
+    @Transactional
+    public void rebuild() {
+        headquartersRepository.lockAllForUpdate();
+        rebuildRows();
+    }
+
+    private void rebuildRows() {
+        partnerClosureRepository.deleteAllRows();
+        long rows = partnerClosureRepository.insertAllSelfRows();
+        int level = 2;
+        int inserted;
+        while ((inserted = partnerClosureRepository.insertAncestorPathsForLevel(level)) > 0) {
+            rows += inserted;
+            level++;
+        }
+        log.info("협력사 클로저 테이블 재구성 완료: 행={}, 최대 레벨={}", rows, level - 1);
+    }
+
+    private void requireExists(Long headquartersId, Long partnerId) {
+        if (!partnerClosureRepository.existsPartner(headquartersId, partnerId)) {
+            throw new IllegalArgumentException("존재하지 않는 협력사입니다: " + partnerId);
+        }
+    }
+}
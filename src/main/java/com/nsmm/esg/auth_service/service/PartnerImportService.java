@@ -0,0 +1,441 @@
+package com.nsmm.esg.auth_service.service;
+
+import com.nsmm.esg.auth_service.dto.partner.PartnerCreateRequest;
+import com.nsmm.esg.auth_service.dto.partner.PartnerImportResponse;
+import com.nsmm.esg.auth_service.dto.partner.PartnerImportResult;
+import com.nsmm.esg.auth_service.entity.Headquarters;
+import com.nsmm.esg.auth_service.entity.Partner;
+import com.nsmm.esg.auth_service.repository.HeadquartersRepository;
+import com.nsmm.esg.auth_service.repository.PartnerClosureRepository;
+import com.nsmm.esg.auth_service.repository.PartnerRepository;
+import com.nsmm.esg.auth_service.util.CsvReader;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 협력사 일괄 생성 서비스 (DART 목록 기반 대량 등록)
+ *
+ * 단건 생성(create-by-uuid)을 행마다 반복하는 대신:
+ * - UUID 중복: 요청 전체를 IN 조회 (1,000건 단위)
+ * - 상위 협력사: 같은 요청의 행 또는 본사 소속 기존 협력사 (IN 조회)
+ * - 계층적 아이디: 레벨별 블록 예약 (카운터 갱신 1회)
+ * - 초기 비밀번호: 해시 풀에서 병렬 해시 (지연 해시 모드면 표식만 저장)
+ * - INSERT: 기본키를 카운터 블록(pooled-lo)에서 받아 JDBC 배치로 저장, 클로저는 레벨별 INSERT ... SELECT
+ * - 트리 인덱스: 버전 1회 증가 후 커밋 시 제거
+ *
+ * 검증 ~ 해시는 트랜잭션 밖에서 수행하고, 본사 행을 잠근 짧은 트랜잭션에서는 재확인과 INSERT만 실행
+ * (수천 건 BCrypt 해시 동안 본사 행 잠금과 커넥션을 잡고 있지 않도록)
+ *
+ * 검증에 실패한 행만 FAILED로 반환하고 나머지는 생성 (상위 행이 실패하면 하위 행도 실패)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PartnerImportService {
+
+    public static final int MAX_ROWS = 10_000;
+
+    // hibernate.jdbc.batch_size와 같게 유지 (배치 단위로 flush 후 영속성 컨텍스트 정리)
+    private static final int BATCH_SIZE = 100;
+
+    // IN 조회 한 번에 넣는 최대 값 수
+    private static final int IN_CHUNK_SIZE = 1000;
+
+    private static final List<String> REQUIRED_CSV_COLUMNS = List.of("uuid", "contactperson", "companyname");
+
+    private final PartnerRepository partnerRepository;
+    private final HeadquartersRepository headquartersRepository;
+    private final PartnerClosureRepository partnerClosureRepository;
+    private final PartnerAccountService partnerAccountService;
+    private final PartnerTreeService partnerTreeService;
+    private final PartnerTreeIndex partnerTreeIndex;
+    private final PasswordHashingService passwordHashingService;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 협력사 일괄 생성 (행별 결과는 요청 순서)
+     * parentUuid가 없거나 본사 UUID면 1차 협력사, 같은 요청의 다른 행 UUID도 지정 가능
+     *
+     * @throws IllegalArgumentException 요청이 비었거나 MAX_ROWS 초과, 본사가 없는 경우
+     */
+    public PartnerImportResponse importPartners(Long headquartersId, List<PartnerCreateRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("생성할 협력사가 없습니다.");
+        }
+        if (requests.size() > MAX_ROWS) {
+            throw new IllegalArgumentException(
+                    "한 번에 생성할 수 있는 협력사는 " + MAX_ROWS + "개 이하입니다: " + requests.size());
+        }
+        Headquarters headquarters = headquartersRepository.findById(headquartersId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 본사입니다: " + headquartersId));
+
+        List<ImportRow> rows = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            rows.add(new ImportRow(i + 1, requests.get(i)));
+        }
+
+        validate(rows);
+        Map<String, ImportRow> rowsByUuid = rejectDuplicateUuids(rows);
+        resolveParents(headquarters, rows, rowsByUuid);
+
+        TreeMap<Integer, List<ImportRow>> rowsByLevel = new TreeMap<>();
+        for (ImportRow row : rows) {
+            if (row.error == null) {
+                rowsByLevel.computeIfAbsent(row.level, level -> new ArrayList<>()).add(row);
+            }
+        }
+        // 잠금 전: 계층적 아이디 예약(레벨별 짧은 트랜잭션) + 초기 비밀번호 해시
+        rowsByLevel.forEach((level, levelRows) -> prepareLevel(headquartersId, level, levelRows));
+        // 잠금 후: 재확인 + 배치 INSERT
+        transactionTemplate.executeWithoutResult(status -> insertAll(headquartersId, rowsByLevel));
+
+        List<PartnerImportResult> results = new ArrayList<>(rows.size());
+        int created = 0;
+        for (ImportRow row : rows) {
+            if (row.saved != null) {
+                results.add(PartnerImportResult.created(row.row, row.saved));
+                created++;
+            } else {
+                results.add(PartnerImportResult.failed(row.row, row.request != null ? row.request.getUuid() : null,
+                        row.error));
+            }
+        }
+        log.info("협력사 일괄 생성 완료: 본사ID={}, 요청={}, 생성={}, 실패={}", headquartersId, rows.size(), created,
+                rows.size() - created);
+
+        return PartnerImportResponse.builder()
+                .total(rows.size())
+                .created(created)
+                .failed(rows.size() - created)
+                .results(results)
+                .build();
+    }
+
+    /**
+     * CSV 본문을 생성 요청 목록으로 변환 (첫 줄은 헤더, 컬럼 순서 무관, 대소문자 무시)
+     * 컬럼: uuid, contactPerson, companyName (필수) / address, parentUuid, phone (선택)
+     *
+     * @throws IllegalArgumentException 헤더에 필수 컬럼이 없거나 MAX_ROWS 초과, CSV 형식 오류
+     */
+    public List<PartnerCreateRequest> parseCsv(Reader body) throws IOException {
+        CsvReader csv = new CsvReader(body);
+        List<String> header = csv.next();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV 헤더가 없습니다.");
+        }
+        List<String> columns = header.stream()
+                .map(column -> column.trim().toLowerCase(Locale.ROOT))
+                .toList();
+        if (!columns.containsAll(REQUIRED_CSV_COLUMNS)) {
+            throw new IllegalArgumentException("CSV 헤더에 필수 컬럼이 없습니다: uuid, contactPerson, companyName");
+        }
+
+        List<PartnerCreateRequest> requests = new ArrayList<>();
+        List<String> record;
+        while ((record = csv.next()) != null) {
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue; // 빈 줄
+            }
+            if (requests.size() == MAX_ROWS) {
+                throw new IllegalArgumentException("한 번에 생성할 수 있는 협력사는 " + MAX_ROWS + "개 이하입니다.");
+            }
+            PartnerCreateRequest request = new PartnerCreateRequest();
+            for (int i = 0; i < Math.min(columns.size(), record.size()); i++) {
+                String value = record.get(i).trim();
+                if (!value.isEmpty()) {
+                    setColumn(request, columns.get(i), value);
+                }
+            }
+            requests.add(request);
+        }
+        return requests;
+    }
+
+    /**
+     * CSV 컬럼 값 설정 (알 수 없는 컬럼은 무시)
+     */
+    private static void setColumn(PartnerCreateRequest request, String column, String value) {
+        switch (column) {
+            case "uuid" -> request.setUuid(value);
+            case "contactperson" -> request.setContactPerson(value);
+            case "companyname" -> request.setCompanyName(value);
+            case "address" -> request.setAddress(value);
+            case "parentuuid" -> request.setParentUuid(value);
+            case "phone" -> request.setPhone(value);
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * 필드 검증 (단건 생성 요청과 같은 Bean Validation 제약)
+     */
+    private void validate(List<ImportRow> rows) {
+        for (ImportRow row : rows) {
+            if (row.request == null) {
+                row.fail("빈 요청입니다.");
+                continue;
+            }
+            validator.validate(row.request).stream()
+                    .min(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                    .map(ConstraintViolation::getMessage)
+                    .ifPresent(row::fail);
+        }
+    }
+
+    /**
+     * 요청 안의 중복 UUID(첫 행만 유지)와 이미 존재하는 UUID 제외 후 남은 행을 UUID별로 반환
+     */
+    private Map<String, ImportRow> rejectDuplicateUuids(List<ImportRow> rows) {
+        Map<String, ImportRow> rowsByUuid = new HashMap<>();
+        for (ImportRow row : rows) {
+            if (row.error == null && rowsByUuid.putIfAbsent(row.request.getUuid(), row) != null) {
+                row.fail("요청 안에 중복된 UUID입니다: " + row.request.getUuid());
+            }
+        }
+
+        Set<String> existing = new HashSet<>();
+        forEachChunk(new ArrayList<>(rowsByUuid.keySet()),
+                chunk -> existing.addAll(partnerRepository.findExistingUuids(chunk)));
+        for (String uuid : existing) {
+            rowsByUuid.remove(uuid).fail("이미 존재하는 UUID입니다: " + uuid);
+        }
+        return rowsByUuid;
+    }
+
+    /**
+     * 상위 협력사와 레벨 결정
+     * - parentUuid가 없거나 본사 UUID → 1차
+     * - 같은 요청의 행 → 그 행의 레벨 + 1 (상위 행 실패 시 함께 실패, 순환 참조는 실패)
+     * - 그 외 → 본사 소속 기존 협력사의 레벨 + 1
+     */
+    private void resolveParents(Headquarters headquarters, List<ImportRow> rows, Map<String, ImportRow> rowsByUuid) {
+        Set<String> existingParentUuids = new HashSet<>();
+        for (ImportRow row : rows) {
+            if (row.error != null) {
+                continue;
+            }
+            String parentUuid = row.request.getParentUuid();
+            if (parentUuid == null || parentUuid.isBlank() || parentUuid.equals(headquarters.getUuid())) {
+                row.level = 1;
+            } else if (rowsByUuid.containsKey(parentUuid)) {
+                row.parentRow = rowsByUuid.get(parentUuid);
+            } else {
+                existingParentUuids.add(parentUuid);
+            }
+        }
+
+        Map<String, Partner> existingParents = new HashMap<>();
+        forEachChunk(new ArrayList<>(existingParentUuids), chunk -> partnerRepository
+                .findByHeadquartersAndUuidIn(headquarters.getHeadquartersId(), chunk)
+                .forEach(parent -> existingParents.put(parent.getUuid(), parent)));
+        for (ImportRow row : rows) {
+            if (row.error != null || row.level != null || row.parentRow != null) {
+                continue;
+            }
+            Partner parent = existingParents.get(row.request.getParentUuid());
+            if (parent == null) {
+                row.fail("존재하지 않는 상위 협력사 UUID입니다: " + row.request.getParentUuid());
+            } else {
+                row.parent = parent;
+                row.level = parent.getLevel() + 1;
+            }
+        }
+
+        // 같은 요청 안의 상위 행을 따라 올라가 레벨이 정해진 행(또는 실패/순환)을 만나면 내려오며 결정
+        for (ImportRow row : rows) {
+            Deque<ImportRow> path = new ArrayDeque<>();
+            ImportRow current = row;
+            while (current.error == null && current.level == null && !current.visiting) {
+                current.visiting = true;
+                path.push(current);
+                current = current.parentRow;
+            }
+
+            String error = null;
+            if (current.error != null) {
+                error = "상위 협력사 행(" + current.row + ")이 생성되지 않았습니다.";
+            } else if (current.level == null) {
+                error = "상위 협력사 참조가 순환합니다: " + current.request.getUuid();
+            }
+            int level = current.level != null ? current.level : 0;
+            while (!path.isEmpty()) {
+                ImportRow descendant = path.pop();
+                descendant.visiting = false;
+                if (error != null) {
+                    descendant.fail(error);
+                } else {
+                    descendant.level = ++level;
+                }
+            }
+        }
+    }
+
+    /**
+     * 한 레벨의 계층적 아이디 예약과 초기 비밀번호 해시 (트랜잭션 밖)
+     * 이후 INSERT가 실패하거나 행이 재확인에서 제외되면 예약한 순번은 빈 번호로 남음
+     */
+    private void prepareLevel(Long headquartersId, int level, List<ImportRow> rows) {
+        List<String> hierarchicalIds = partnerAccountService.reserveHierarchicalIds(headquartersId, level, rows.size());
+        List<String> passwords = passwordHashingService.encodeInitialPasswords(hierarchicalIds);
+        for (int i = 0; i < rows.size(); i++) {
+            rows.get(i).hierarchicalId = hierarchicalIds.get(i);
+            rows.get(i).password = passwords.get(i);
+        }
+    }
+
+    /**
+     * 본사 행 잠금 후 재확인과 저장 (하나의 트랜잭션)
+     */
+    private void insertAll(Long headquartersId, TreeMap<Integer, List<ImportRow>> rowsByLevel) {
+        // 본사 행 잠금 - 이후 커밋까지 같은 본사의 협력사 생성/이동이 끼어들지 않음
+        Headquarters headquarters = headquartersRepository.findByIdForUpdate(headquartersId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 본사입니다: " + headquartersId));
+        Map<String, Partner> existingParents = recheck(headquartersId, rowsByLevel);
+
+        rowsByLevel.values().forEach(levelRows -> insertLevel(headquarters, levelRows, existingParents));
+        insertClosureRows(rowsByLevel);
+        if (!rowsByLevel.isEmpty()) {
+            partnerTreeIndex.onPartnersImported(headquartersId);
+        }
+    }
+
+    /**
+     * 잠금 전 확인한 내용 재확인 (그 사이 같은 UUID가 생성되었거나 기존 상위 협력사가 이동했을 수 있음)
+     * 이미 존재하는 UUID의 행과 그 하위 행은 실패 처리 후 목록에서 제외
+     *
+     * @return 기존 상위 협력사 (UUID별, 잠금 후 조회한 경로/레벨)
+     */
+    private Map<String, Partner> recheck(Long headquartersId, TreeMap<Integer, List<ImportRow>> rowsByLevel) {
+        List<ImportRow> pending = rowsByLevel.values().stream().flatMap(List::stream).toList();
+
+        Set<String> existing = new HashSet<>();
+        forEachChunk(pending.stream().map(row -> row.request.getUuid()).toList(),
+                chunk -> existing.addAll(partnerRepository.findExistingUuids(chunk)));
+        Map<String, Partner> existingParents = new HashMap<>();
+        forEachChunk(pending.stream().filter(row -> row.parent != null).map(row -> row.parent.getUuid())
+                .distinct().toList(), chunk -> partnerRepository.findByHeadquartersAndUuidIn(headquartersId, chunk)
+                        .forEach(parent -> existingParents.put(parent.getUuid(), parent)));
+
+        // 레벨 순이므로 상위 행이 먼저 확인됨
+        for (ImportRow row : pending) {
+            if (existing.contains(row.request.getUuid())) {
+                row.fail("이미 존재하는 UUID입니다: " + row.request.getUuid());
+            } else if (row.parentRow != null && row.parentRow.error != null) {
+                row.fail("상위 협력사 행(" + row.parentRow.row + ")이 생성되지 않았습니다.");
+            }
+        }
+        rowsByLevel.values().forEach(levelRows -> levelRows.removeIf(row -> row.error != null));
+        rowsByLevel.values().removeIf(List::isEmpty);
+        return existingParents;
+    }
+
+    /**
+     * 한 레벨의 행 저장 (상위 레벨이 먼저 저장되므로 같은 요청의 상위 행 ID 사용 가능)
+     * 레벨과 경로는 잠금 후의 상위 협력사 기준 (잠금 전에 상위가 이동했어도 현재 위치 아래에 생성)
+     */
+    private void insertLevel(Headquarters headquarters, List<ImportRow> rows, Map<String, Partner> existingParents) {
+        Long headquartersId = headquarters.getHeadquartersId();
+        for (int i = 0; i < rows.size(); i++) {
+            ImportRow row = rows.get(i);
+            Partner parent = row.parentRow != null ? row.parentRow.saved
+                    : row.parent != null ? existingParents.get(row.parent.getUuid()) : null;
+
+            Partner partner = Partner.builder()
+                    .uuid(row.request.getUuid())
+                    .headquarters(entityManager.getReference(Headquarters.class, headquartersId))
+                    .parentPartner(parent != null ? entityManager.getReference(Partner.class, parent.getPartnerId()) : null)
+                    .hqAccountNumber(headquarters.getHqAccountNumber())
+                    .hierarchicalId(row.hierarchicalId)
+                    .companyName(row.request.getCompanyName())
+                    .password(row.password)
+                    .level(parent != null ? parent.getLevel() + 1 : 1)
+                    .treePath(partnerTreeService.generateTreePath(headquarters.getHqAccountNumber(), row.hierarchicalId,
+                            parent != null ? parent.getTreePath() : null))
+                    .status(Partner.PartnerStatus.ACTIVE)
+                    .passwordChanged(false)
+                    .build();
+            row.saved = partnerRepository.save(partner);
+
+            if ((i + 1) % BATCH_SIZE == 0 || i == rows.size() - 1) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+    }
+
+    /**
+     * 클로저 행 추가 - 자기 자신 행 후 레벨 순으로 상위 경로 행 (같은 요청의 상위 행 경로가 먼저 채워짐)
+     */
+    private void insertClosureRows(TreeMap<Integer, List<ImportRow>> rowsByLevel) {
+        Function<List<ImportRow>, List<Long>> partnerIds = levelRows -> levelRows.stream()
+                .map(row -> row.saved.getPartnerId())
+                .toList();
+
+        List<Long> all = rowsByLevel.values().stream()
+                .flatMap(levelRows -> partnerIds.apply(levelRows).stream())
+                .toList();
+        forEachChunk(all, partnerClosureRepository::insertSelfRows);
+        rowsByLevel.forEach((level, levelRows) -> {
+            if (level > 1) {
+                forEachChunk(partnerIds.apply(levelRows), partnerClosureRepository::insertAncestorPathsFor);
+            }
+        });
+    }
+
+    private static <T> void forEachChunk(List<T> values, Consumer<List<T>> action) {
+        for (int from = 0; from < values.size(); from += IN_CHUNK_SIZE) {
+            action.accept(values.subList(from, Math.min(from + IN_CHUNK_SIZE, values.size())));
+        }
+    }
+
+    /**
+     * 요청 행 처리 상태
+     */
+    private static final class ImportRow {
+        private final int row;
+        private final PartnerCreateRequest request;
+        private String error;
+        private Integer level;
+        private Partner parent; // 기존 상위 협력사
+        private ImportRow parentRow; // 같은 요청의 상위 행
+        private String hierarchicalId; // 잠금 전 예약
+        private String password; // 잠금 전 해시
+        private Partner saved;
+        private boolean visiting;
+
+        private ImportRow(int row, PartnerCreateRequest request) {
+            this.row = row;
+            this.request = request;
+        }
+
+        private void fail(String message) {
+            if (error == null) {
+                error = message;
+            }
+        }
+    }
+}
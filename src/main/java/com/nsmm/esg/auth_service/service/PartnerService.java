@@ -1,20 +1,31 @@
 package com.nsmm.esg.auth_service.service;
 
 import com.nsmm.esg.auth_service.dto.partner.PartnerCreateRequest;
+import com.nsmm.esg.auth_service.dto.partner.PartnerCursor;
+import com.nsmm.esg.auth_service.dto.partner.PartnerMoveResponse;
+import com.nsmm.esg.auth_service.dto.partner.PartnerPageResponse;
+import com.nsmm.esg.auth_service.dto.partner.PartnerResponse;
 import com.nsmm.esg.auth_service.entity.Headquarters;
 import com.nsmm.esg.auth_service.entity.Partner;
 import com.nsmm.esg.auth_service.repository.HeadquartersRepository;
 import com.nsmm.esg.auth_service.repository.PartnerRepository;
-import com.nsmm.esg.auth_service.util.PasswordUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * 협력사 비즈니스 로직 서비스
@@ -23,7 +34,7 @@ import java.util.Optional;
  * - UUID 기반 협력사 생성 (프론트엔드 요구사항)
  * - 계층적 로그인 (본사계정번호 + 계층적아이디 + 비밀번호)
  * - 권한 제어 (본인 + 직속 하위 1단계)
- * - 트리 구조 관리
+ * - 트리 구조 관리 (하위 트리 이동 포함)
  * - 초기 비밀번호 변경 관리
  */
 @Service
@@ -32,17 +43,24 @@ import java.util.Optional;
 @Slf4j
 public class PartnerService {
 
+        public static final int DEFAULT_PAGE_SIZE = 100;
+        public static final int MAX_PAGE_SIZE = 1000;
+
         private final PartnerRepository partnerRepository;
         private final HeadquartersRepository headquartersRepository;
-        private final PasswordUtil passwordUtil;
+        private final PasswordHashingService passwordHashingService;
 
         // 전문 서비스들
         private final PartnerAccountService partnerAccountService;
         private final PartnerTreeService partnerTreeService;
+        private final PartnerTreeIndex partnerTreeIndex;
+        private final PartnerClosureService partnerClosureService;
+        private final TransactionTemplate transactionTemplate;
 
         /**
          * 협력사 로그인 (본사계정번호 + 계층적아이디 + 비밀번호)
          */
+        @Transactional
         public Partner login(String hqAccountNumber, String hierarchicalId, String password) {
                 log.info("협력사 로그인 요청: 본사계정번호={}, 계층적아이디={}", hqAccountNumber, hierarchicalId);
 
@@ -63,9 +81,10 @@ public class PartnerService {
                 }
 
                 // 비밀번호 검증
-                if (!passwordUtil.matches(password, partner.getPassword())) {
+                if (!passwordHashingService.matches(password, partner.getPassword(), partner.getHierarchicalId())) {
                         throw new BadCredentialsException("비밀번호가 일치하지 않습니다.");
                 }
+                partner = upgradePasswordHash(partner, password);
 
                 log.info("협력사 로그인 성공: ID={}, 계층적아이디={}", partner.getPartnerId(), partner.getHierarchicalId());
 
@@ -75,36 +94,59 @@ public class PartnerService {
         /**
          * UUID 기반 협력사 생성 (DART API 기반)
          * DART API에서 제공받은 회사 정보로 협력사를 생성합니다.
+         *
+         * 계층적 아이디 예약(짧은 트랜잭션)과 초기 비밀번호 해시는 본사 행 잠금 전에 수행하고,
+         * 본사 행을 잠근 트랜잭션에서는 UUID/상위 협력사 재확인과 INSERT만 실행
+         * (해시 대기열 대기와 BCrypt 해시 동안 같은 본사의 생성/이동이 막히지 않도록)
+         * 잠금 후 실패하면 예약한 순번은 빈 번호로 남음
          */
-        @Transactional
+        @Transactional(propagation = Propagation.NOT_SUPPORTED)
         public Partner createPartnerByUuid(Long creatorHeadquartersId, PartnerCreateRequest request) {
                 log.info("DART API 기반 협력사 생성 시작: 생성자본사ID={}, UUID={}, 회사명={}, 상위UUID={}",
                                 creatorHeadquartersId, request.getUuid(), request.getCompanyName(),
                                 request.getParentUuid());
 
+                // 본사 조회
+                Headquarters headquarters = headquartersRepository.findById(creatorHeadquartersId)
+                                .orElseThrow(() -> new IllegalArgumentException(
+                                                "존재하지 않는 본사입니다: " + creatorHeadquartersId));
+
                 // UUID 중복 확인
                 if (partnerRepository.existsByUuid(request.getUuid())) {
                         throw new IllegalArgumentException("이미 존재하는 UUID입니다: " + request.getUuid());
                 }
 
-                // 본사 조회
-                Headquarters headquarters = headquartersRepository.findById(creatorHeadquartersId)
-                                .orElseThrow(() -> new IllegalArgumentException(
-                                                "존재하지 않는 본사입니다: " + creatorHeadquartersId));
+                // 레벨 결정 (잠금 후 상위 협력사를 다시 조회하므로 여기서는 순번 예약용)
+                boolean firstLevel = request.getParentUuid() == null
+                                || request.getParentUuid().equals(headquarters.getUuid());
+                int level = firstLevel ? 1 : findParentPartner(request).getLevel() + 1;
 
-                Partner savedPartner;
+                // 계층적 아이디 예약 (L1-001, L2-001...) + 초기 비밀번호 (계층적 ID와 동일, 지연 해시 모드면 첫 로그인 시 해시)
+                String hierarchicalId = partnerAccountService
+                                .reserveHierarchicalIds(creatorHeadquartersId, level, 1).get(0);
+                String initialPassword = passwordHashingService.encodeInitialPassword(hierarchicalId);
 
-                if (request.getParentUuid() == null || request.getParentUuid().equals(headquarters.getUuid())) {
-                        // 1차 협력사 생성
-                        savedPartner = createFirstLevelPartner(headquarters, request);
-                } else {
-                        // 하위 협력사 생성
-                        Partner parentPartner = partnerRepository.findByUuid(request.getParentUuid())
+                Partner savedPartner = transactionTemplate.execute(status -> {
+                        // 본사 행 잠금 (상위 협력사 경로를 읽은 뒤 하위 트리 이동이 끼어들지 않도록 첫 조회로 잠금)
+                        Headquarters locked = headquartersRepository.findByIdForUpdate(creatorHeadquartersId)
                                         .orElseThrow(() -> new IllegalArgumentException(
-                                                        "존재하지 않는 상위 협력사 UUID입니다: " + request.getParentUuid()));
+                                                        "존재하지 않는 본사입니다: " + creatorHeadquartersId));
 
-                        savedPartner = createSubPartner(parentPartner, request);
-                }
+                        // 해시하는 동안 같은 UUID가 생성되었을 수 있음
+                        if (partnerRepository.existsByUuid(request.getUuid())) {
+                                throw new IllegalArgumentException("이미 존재하는 UUID입니다: " + request.getUuid());
+                        }
+
+                        Partner created = firstLevel
+                                        ? createFirstLevelPartner(locked, request, hierarchicalId, initialPassword)
+                                        // 잠금 후 조회한 상위 협력사 기준 (잠금 전에 상위가 이동했어도 현재 위치 아래에 생성)
+                                        : createSubPartner(findParentPartner(request), request, hierarchicalId,
+                                                        initialPassword);
+
+                        // 클로저 테이블 (전체 하위/상위 조회용)
+                        partnerClosureService.onPartnerCreated(created);
+                        return created;
+                });
 
                 log.info("DART API 기반 협력사 생성 완료: ID={}, UUID={}, 계층적아이디={}",
                                 savedPartner.getPartnerId(), savedPartner.getUuid(), savedPartner.getHierarchicalId());
@@ -112,21 +154,21 @@ public class PartnerService {
                 return savedPartner;
         }
 
+        private Partner findParentPartner(PartnerCreateRequest request) {
+                return partnerRepository.findByUuid(request.getParentUuid())
+                                .orElseThrow(() -> new IllegalArgumentException(
+                                                "존재하지 않는 상위 협력사 UUID입니다: " + request.getParentUuid()));
+        }
+
         /**
          * 1차 협력사 생성 (내부 메서드)
          */
-        private Partner createFirstLevelPartner(Headquarters headquarters, PartnerCreateRequest request) {
-                // 계층적 ID 생성 (L1-001, L1-002...)
-                String hierarchicalId = partnerAccountService.generateHierarchicalId(headquarters.getHeadquartersId(),
-                                1, null);
-
+        private Partner createFirstLevelPartner(Headquarters headquarters, PartnerCreateRequest request,
+                        String hierarchicalId, String initialPassword) {
                 // 트리 경로 생성
                 String treePath = partnerTreeService.generateTreePath(headquarters.getHqAccountNumber(), hierarchicalId,
                                 null);
 
-                // 초기 비밀번호 (계층적 ID와 동일)
-                String initialPassword = passwordUtil.encodePassword(hierarchicalId);
-
                 Partner partner = Partner.builder()
                                 .uuid(request.getUuid())
                                 .headquarters(headquarters)
@@ -141,28 +183,22 @@ public class PartnerService {
                                 .passwordChanged(false)
                                 .build();
 
-                return partnerRepository.save(partner);
+                Partner savedPartner = partnerRepository.save(partner);
+                partnerTreeIndex.onPartnerCreated(savedPartner);
+                return savedPartner;
         }
 
         /**
          * 하위 협력사 생성 (내부 메서드)
          */
-        private Partner createSubPartner(Partner parentPartner, PartnerCreateRequest request) {
-                // 계층적 ID 생성
-                String hierarchicalId = partnerAccountService.generateHierarchicalId(
-                                parentPartner.getHeadquarters().getHeadquartersId(),
-                                parentPartner.getLevel() + 1,
-                                parentPartner.getPartnerId());
-
+        private Partner createSubPartner(Partner parentPartner, PartnerCreateRequest request,
+                        String hierarchicalId, String initialPassword) {
                 // 트리 경로 생성
                 String treePath = partnerTreeService.generateTreePath(
                                 parentPartner.getHqAccountNumber(),
                                 hierarchicalId,
                                 parentPartner.getTreePath());
 
-                // 초기 비밀번호 (계층적 ID와 동일)
-                String initialPassword = passwordUtil.encodePassword(hierarchicalId);
-
                 Partner partner = Partner.builder()
                                 .uuid(request.getUuid())
                                 .headquarters(parentPartner.getHeadquarters())
@@ -177,33 +213,113 @@ public class PartnerService {
                                 .passwordChanged(false)
                                 .build();
 
-                return partnerRepository.save(partner);
+                Partner savedPartner = partnerRepository.save(partner);
+                partnerTreeIndex.onPartnerCreated(savedPartner);
+                return savedPartner;
+        }
+
+        /**
+         * 하위 트리 이동 (상위 협력사 변경)
+         * 이동 협력사와 전체 하위의 tree_path/레벨은 UPDATE 1회로 갱신하고 클로저 행은 집합 단위로 교체 (한 트랜잭션)
+         * 계층적 아이디(로그인 계정)는 그대로 두고 트리 경로 앞부분만 새 상위 경로로 바꿈
+         *
+         * @param newParentPartnerId 새 상위 협력사 ID (null이면 1차 협력사로 이동)
+         * @throws IllegalArgumentException 본사 소속 협력사가 아니거나, 현재 상위와 같거나, 자기 자신/하위 협력사 아래로 이동하는 경우
+         */
+        @Transactional
+        public PartnerMoveResponse movePartner(Long headquartersId, Long partnerId, Long newParentPartnerId) {
+                log.info("협력사 이동 시작: 본사ID={}, 협력사ID={}, 새상위ID={}", headquartersId, partnerId, newParentPartnerId);
+
+                // 본사 행 잠금 (같은 본사의 생성/이동과 직렬화 - 경로 계산과 순환 확인 중 트리가 바뀌지 않도록 첫 조회로 잠금)
+                headquartersRepository.findByIdForUpdate(headquartersId)
+                                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 본사입니다: " + headquartersId));
+
+                Partner partner = findInHeadquarters(headquartersId, partnerId);
+                Long previousParentPartnerId = partner.getParentPartner() != null
+                                ? partner.getParentPartner().getPartnerId()
+                                : null;
+                if (Objects.equals(previousParentPartnerId, newParentPartnerId)) {
+                        throw new IllegalArgumentException("이미 해당 상위 협력사 아래에 있습니다: " + partnerId);
+                }
+
+                String parentTreePath = null;
+                int newLevel = 1;
+                if (newParentPartnerId != null) {
+                        Partner newParent = findInHeadquarters(headquartersId, newParentPartnerId);
+                        if (partnerClosureService.isInSubtree(partnerId, newParentPartnerId)) {
+                                throw new IllegalArgumentException("자기 자신이나 하위 협력사 아래로 이동할 수 없습니다: " + newParentPartnerId);
+                        }
+                        parentTreePath = newParent.getTreePath();
+                        newLevel = newParent.getLevel() + 1;
+                }
+
+                String newTreePath = partnerTreeService.generateTreePath(partner.getHqAccountNumber(),
+                                partner.getHierarchicalId(), parentTreePath);
+                List<Long> previousAncestorIds = partnerClosureService.findAncestorIds(partnerId);
+
+                // 하위 트리 전체: tree_path = 새 경로 + 기존 경로의 이동 협력사 이후 부분, level += 차이
+                int moved = partnerRepository.moveSubtree(partnerId, partner.getTreePath().length(), newTreePath,
+                                newLevel - partner.getLevel(), LocalDateTime.now());
+                partnerRepository.updateParent(partnerId, newParentPartnerId);
+                partnerClosureService.onSubtreeMoved(headquartersId, partnerId, previousAncestorIds, newTreePath,
+                                newParentPartnerId);
+                partnerTreeIndex.onSubtreeMoved(headquartersId);
+
+                log.info("협력사 이동 완료: 협력사ID={}, {} → {}, 갱신 {}개", partnerId, partner.getTreePath(), newTreePath, moved);
+
+                return PartnerMoveResponse.builder()
+                                .partner(partnerRepository.findResponseById(partnerId).orElseThrow())
+                                .previousParentPartnerId(previousParentPartnerId)
+                                .movedPartners(moved)
+                                .build();
+        }
+
+        /**
+         * 본사 소속 협력사 조회 (다른 본사 협력사면 존재하지 않는 것으로 처리)
+         */
+        private Partner findInHeadquarters(Long headquartersId, Long partnerId) {
+                return partnerRepository.findById(partnerId)
+                                .filter(partner -> partner.getHeadquarters().getHeadquartersId().equals(headquartersId))
+                                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 협력사입니다: " + partnerId));
         }
 
         /**
          * 권한 제어: 접근 가능한 협력사 목록 조회 (본인 + 직속 하위 1단계)
          * 본사: 모든 협력사, 협력사: 본인 + 직속 하위만
+         * 트리 인덱스에서 응답하고, 인덱스가 응답할 수 없으면 DB 조회
          */
-        public List<Partner> findAccessiblePartners(String userType, Long userId, String treePath, Integer level) {
+        public List<PartnerResponse> findAccessiblePartners(String userType, Long headquartersId, Long partnerId) {
                 if ("HEADQUARTERS".equals(userType)) {
                         // 본사는 모든 협력사 접근 가능
-                        Headquarters headquarters = headquartersRepository.findById(userId)
-                                        .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 본사입니다: " + userId));
-                        return partnerRepository.findAllPartnersByHeadquarters(headquarters.getHeadquartersId());
+                        return partnerTreeIndex.findAll(headquartersId)
+                                        .orElseGet(() -> {
+                                                Headquarters headquarters = headquartersRepository.findById(headquartersId)
+                                                                .orElseThrow(() -> new IllegalArgumentException(
+                                                                                "존재하지 않는 본사입니다: " + headquartersId));
+                                                return partnerRepository
+                                                                .findAllPartnersByHeadquarters(headquarters.getHeadquartersId());
+                                        });
                 } else {
                         // 협력사는 본인 + 직속 하위 1단계만
-                        return findAccessiblePartnersForPartner(treePath, level);
+                        return partnerTreeIndex.findSelfAndChildren(headquartersId, partnerId)
+                                        .orElseGet(() -> findSelfAndDirectChildren(partnerId));
                 }
         }
 
         /**
          * 협력사용 접근 가능한 파트너 조회 (본인 + 직속 하위 1단계)
+         * 기본키 조회 + parent_partner_id 인덱스 조회 (트리 경로 문자열 비교 없음)
+         * 응답 프로젝션으로 조회하므로 하위 협력사 수와 관계없이 쿼리 2회
          */
-        private List<Partner> findAccessiblePartnersForPartner(String currentTreePath, Integer currentLevel) {
-                Integer directChildLevel = currentLevel + 1;
-                Integer expectedSlashCount = currentTreePath.length() - currentTreePath.replace("/", "").length() + 1;
-
-                return partnerRepository.findAccessiblePartners(currentTreePath, directChildLevel, expectedSlashCount);
+        private List<PartnerResponse> findSelfAndDirectChildren(Long partnerId) {
+                PartnerResponse partner = partnerRepository.findResponseById(partnerId)
+                                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 협력사입니다: " + partnerId));
+
+                List<PartnerResponse> children = partnerRepository.findDirectChildrenByParentId(partnerId);
+                List<PartnerResponse> responses = new ArrayList<>(children.size() + 1);
+                responses.add(partner);
+                responses.addAll(children);
+                return responses;
         }
 
         /**
@@ -245,6 +361,7 @@ public class PartnerService {
          * 협력사 로그인 (본사계정번호 + 협력사아이디 + 비밀번호)
          * 프론트엔드 요구사항에 맞는 새로운 로그인 방식
          */
+        @Transactional
         public Partner loginByHqAndPartnerCode(String hqAccountNumber, String partnerCode, String password) {
                 log.info("협력사 로그인 시도: 본사계정번호={}, 협력사아이디={}", hqAccountNumber, partnerCode);
 
@@ -259,9 +376,10 @@ public class PartnerService {
                 }
 
                 // 비밀번호 검증
-                if (!passwordUtil.matches(password, partner.getPassword())) {
+                if (!passwordHashingService.matches(password, partner.getPassword(), partner.getHierarchicalId())) {
                         throw new BadCredentialsException("비밀번호가 올바르지 않습니다.");
                 }
+                partner = upgradePasswordHash(partner, password);
 
                 log.info("협력사 로그인 성공: 계정번호={}, 회사명={}, 비밀번호변경여부={}",
                                 partner.getFullAccountNumber(), partner.getCompanyName(), partner.getPasswordChanged());
@@ -269,27 +387,139 @@ public class PartnerService {
                 return partner;
         }
 
+        /**
+         * 로그인 성공 후 저장된 해시가 현재 설정보다 약하거나 초기 비밀번호 표식이면 재해시하여 저장
+         * 비밀번호 변경 여부(passwordChanged)는 그대로 유지
+         */
+        private Partner upgradePasswordHash(Partner partner, String password) {
+                String rehashed = passwordHashingService.rehashIfNeeded(password, partner.getPassword());
+                if (rehashed == null) {
+                        return partner;
+                }
+                Partner saved = partnerRepository.save(partner.rehashPassword(rehashed));
+                log.info("협력사 비밀번호 해시 업그레이드: ID={}", saved.getPartnerId());
+                return saved;
+        }
+
         /**
          * 본사별 1차 협력사 목록 조회
          */
-        public List<Partner> findFirstLevelPartners(Long headquartersId) {
-                return partnerRepository.findFirstLevelPartnersByHeadquarters(headquartersId);
+        public List<PartnerResponse> findFirstLevelPartners(Long headquartersId) {
+                return partnerTreeIndex.findFirstLevel(headquartersId)
+                                .orElseGet(() -> partnerRepository.findFirstLevelPartnersByHeadquarters(headquartersId));
         }
 
         /**
          * 특정 협력사의 직접 하위 협력사 목록 조회
+         * 호출자 본사의 트리에 없는 협력사면 DB 조회 (없으면 IllegalArgumentException)
+         * 하위 협력사가 없을 때만 상위 협력사 존재 여부 확인
          */
-        public List<Partner> findDirectChildren(Long parentPartnerId) {
-                return partnerRepository.findDirectChildrenByParentId(parentPartnerId);
+        public List<PartnerResponse> findDirectChildren(Long headquartersId, Long parentPartnerId) {
+                return partnerTreeIndex.findChildren(headquartersId, parentPartnerId)
+                                .orElseGet(() -> {
+                                        List<PartnerResponse> children = partnerRepository
+                                                        .findDirectChildrenByParentId(parentPartnerId);
+                                        if (children.isEmpty() && !partnerRepository.existsById(parentPartnerId)) {
+                                                throw new IllegalArgumentException("존재하지 않는 협력사입니다: " + parentPartnerId);
+                                        }
+                                        return children;
+                                });
         }
 
         /**
          * 비밀번호 미변경 협력사 목록 조회
          */
-        public List<Partner> findUnchangedPasswordPartners(Long headquartersId) {
+        public List<PartnerResponse> findUnchangedPasswordPartners(Long headquartersId) {
                 return partnerRepository.findUnchangedPasswordPartners(headquartersId);
         }
 
+        /**
+         * 본사 전체 협력사 페이지 조회 (키셋 커서)
+         */
+        public PartnerPageResponse findAllPartnersPage(Long headquartersId, String cursor, Integer size) {
+                return findPage(cursor, size, (level, createdAt, partnerId, limit) -> partnerRepository
+                                .findPartnersPageByHeadquarters(headquartersId, level, createdAt, partnerId, limit));
+        }
+
+        /**
+         * 본사 1차 협력사 페이지 조회 (키셋 커서)
+         */
+        public PartnerPageResponse findFirstLevelPartnersPage(Long headquartersId, String cursor, Integer size) {
+                return findPage(cursor, size, (level, createdAt, partnerId, limit) -> partnerRepository
+                                .findFirstLevelPartnersPageByHeadquarters(headquartersId, level, createdAt, partnerId, limit));
+        }
+
+        /**
+         * 비밀번호 미변경 협력사 페이지 조회 (키셋 커서)
+         */
+        public PartnerPageResponse findUnchangedPasswordPartnersPage(Long headquartersId, String cursor, Integer size) {
+                return findPage(cursor, size, (level, createdAt, partnerId, limit) -> partnerRepository
+                                .findUnchangedPasswordPartnersPageByHeadquarters(headquartersId, level, createdAt,
+                                                partnerId, limit));
+        }
+
+        /**
+         * 본사 전체 협력사를 읽는 대로 전달 (트랜잭션 안에서 consumer 호출)
+         *
+         * @return 전달한 협력사 수
+         */
+        public long streamAllPartners(Long headquartersId, Consumer<PartnerResponse> consumer) {
+                return forEachPartner(partnerRepository.streamAllPartnersByHeadquarters(headquartersId), consumer);
+        }
+
+        /**
+         * 본사 1차 협력사를 읽는 대로 전달
+         */
+        public long streamFirstLevelPartners(Long headquartersId, Consumer<PartnerResponse> consumer) {
+                return forEachPartner(partnerRepository.streamFirstLevelPartnersByHeadquarters(headquartersId), consumer);
+        }
+
+        /**
+         * 비밀번호 미변경 협력사를 읽는 대로 전달
+         */
+        public long streamUnchangedPasswordPartners(Long headquartersId, Consumer<PartnerResponse> consumer) {
+                return forEachPartner(partnerRepository.streamUnchangedPasswordPartnersByHeadquarters(headquartersId),
+                                consumer);
+        }
+
+        /**
+         * 키셋 페이지 조회 - size + 1건을 읽어 다음 페이지 존재 여부 판단
+         */
+        private PartnerPageResponse findPage(String cursor, Integer size, KeysetQuery query) {
+                int pageSize = size != null ? size : DEFAULT_PAGE_SIZE;
+                if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+                        throw new IllegalArgumentException("size는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다: " + size);
+                }
+                PartnerCursor after = PartnerCursor.decode(cursor);
+
+                List<PartnerResponse> rows = query.find(after.getLevel(), after.getCreatedAt(), after.getPartnerId(),
+                                Limit.of(pageSize + 1));
+                boolean hasNext = rows.size() > pageSize;
+                List<PartnerResponse> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+                return PartnerPageResponse.builder()
+                                .items(page)
+                                .nextCursor(hasNext ? PartnerCursor.after(page.get(pageSize - 1)).encode() : null)
+                                .hasNext(hasNext)
+                                .build();
+        }
+
+        private long forEachPartner(Stream<PartnerResponse> partners, Consumer<PartnerResponse> consumer) {
+                long count = 0;
+                try (partners) {
+                        for (PartnerResponse partner : (Iterable<PartnerResponse>) partners::iterator) {
+                                consumer.accept(partner);
+                                count++;
+                        }
+                }
+                return count;
+        }
+
+        @FunctionalInterface
+        private interface KeysetQuery {
+                List<PartnerResponse> find(Integer level, LocalDateTime createdAt, Long partnerId, Limit limit);
+        }
+
         /**
          * UUID 중복 확인
          */
@@ -0,0 +1,376 @@
+package com.nsmm.esg.auth_service.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nsmm.esg.auth_service.dto.partner.PartnerResponse;
+import com.nsmm.esg.auth_service.entity.Partner;
+import com.nsmm.esg.auth_service.repository.HeadquartersRepository;
+import com.nsmm.esg.auth_service.repository.PartnerRepository;
+import com.nsmm.esg.auth_service.util.LongIntHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 본사별 협력사 트리 인덱스 (프로세스 내 메모리)
+ *
+ * 주요 기능:
+ * - 본사 단위로 최초 조회 시 전체 협력사를 한 번 로드 (협력사 ID → 노드 번호, 자식/레벨 연결 리스트)
+ * - 전체/1차/직속 하위/본인+직속 하위 조회를 DB 없이 O(결과 수)로 응답
+ * - 협력사 생성 시 커밋 후 노드 추가 (트리 전체를 다시 로드하지 않음)
+ * - 갱신 감지: headquarters.partner_tree_version을 변경 트랜잭션에서 증가시키고 조회마다 기본키로 비교
+ *   → 다른 인스턴스의 변경이나 놓친 갱신이 있으면 다시 로드
+ *
+ * 인덱스가 응답할 수 없는 경우(비활성화, 본사/협력사 없음) Optional.empty → 호출 측에서 DB 조회
+ * 반환되는 PartnerResponse는 인덱스 노드를 그대로 공유하므로 읽기 전용으로 사용
+ */
+@Service
+@Slf4j
+public class PartnerTreeIndex {
+
+    // 노드 하나의 PartnerResponse + 문자열 필드 평균 크기 추정치 (메모리 게이지용)
+    private static final long ESTIMATED_NODE_BYTES = 512;
+
+    private final PartnerRepository partnerRepository;
+    private final HeadquartersRepository headquartersRepository;
+    private final AuthMetricsService authMetricsService;
+    private final boolean enabled;
+    private final Cache<Long, HeadquartersTree> trees;
+
+    public PartnerTreeIndex(
+            PartnerRepository partnerRepository,
+            HeadquartersRepository headquartersRepository,
+            AuthMetricsService authMetricsService,
+            @Value("${partner.tree-index.enabled:true}") boolean enabled,
+            @Value("${partner.tree-index.max-nodes:1000000}") long maxNodes) {
+        this.partnerRepository = partnerRepository;
+        this.headquartersRepository = headquartersRepository;
+        this.authMetricsService = authMetricsService;
+        this.enabled = enabled;
+        this.trees = Caffeine.newBuilder()
+                .maximumWeight(maxNodes)
+                .weigher((Long headquartersId, HeadquartersTree tree) -> tree.size() + 1)
+                .build();
+
+        authMetricsService.registerPartnerTreeIndexGauges(trees::estimatedSize, this::totalNodes, this::estimatedBytes);
+        log.info("협력사 트리 인덱스 초기화: enabled={}, maxNodes={}", enabled, maxNodes);
+    }
+
+    /**
+     * 본사의 전체 협력사 (레벨, 생성 순)
+     */
+    public Optional<List<PartnerResponse>> findAll(Long headquartersId) {
+        return currentTree(headquartersId).map(HeadquartersTree::all);
+    }
+
+    /**
+     * 본사의 1차 협력사 (생성 순)
+     */
+    public Optional<List<PartnerResponse>> findFirstLevel(Long headquartersId) {
+        return currentTree(headquartersId).map(tree -> tree.level(1));
+    }
+
+    /**
+     * 직속 하위 협력사 (생성 순) - 상위 협력사가 해당 본사 트리에 없으면 empty
+     */
+    public Optional<List<PartnerResponse>> findChildren(Long headquartersId, Long parentPartnerId) {
+        return currentTree(headquartersId).map(tree -> tree.children(parentPartnerId, false));
+    }
+
+    /**
+     * 본인 + 직속 하위 협력사 - 본인이 해당 본사 트리에 없으면 empty
+     */
+    public Optional<List<PartnerResponse>> findSelfAndChildren(Long headquartersId, Long partnerId) {
+        return currentTree(headquartersId).map(tree -> tree.children(partnerId, true));
+    }
+
+    /**
+     * 협력사 생성 반영 (생성 트랜잭션 안에서 저장 직후 호출)
+     * 트리 버전을 증가시키고, 커밋 후 로드된 트리가 직전 버전이면 노드만 추가
+     */
+    public void onPartnerCreated(Partner partner) {
+        Long headquartersId = partner.getHeadquarters().getHeadquartersId();
+        long version = incrementVersion(headquartersId);
+        if (!enabled) {
+            return;
+        }
+
+        PartnerResponse node = PartnerResponse.from(partner);
+        Long parentPartnerId = node.getParentPartnerId();
+        afterCommit(() -> trees.asMap().computeIfPresent(headquartersId,
+                (id, tree) -> tree.append(node, parentPartnerId, version) ? tree : null));
+    }
+
+    /**
+     * 본사 정보 변경 반영 (본사명이 노드에 포함되므로 커밋 후 트리 제거)
+     */
+    public void onHeadquartersChanged(Long headquartersId) {
+        incrementVersion(headquartersId);
+        afterCommit(() -> trees.invalidate(headquartersId));
+    }
+
+    /**
+     * 협력사 일괄 생성 반영 (노드별 추가 대신 버전 1회 증가 후 커밋 시 트리 제거 → 다음 조회에서 1회 로드)
+     */
+    public void onPartnersImported(Long headquartersId) {
+        onHeadquartersChanged(headquartersId);
+    }
+
+    /**
+     * 하위 트리 이동 반영 (하위 노드 전체의 경로/레벨이 바뀌므로 커밋 후 트리 제거 → 다음 조회에서 1회 로드)
+     */
+    public void onSubtreeMoved(Long headquartersId) {
+        onHeadquartersChanged(headquartersId);
+    }
+
+    private long incrementVersion(Long headquartersId) {
+        headquartersRepository.incrementPartnerTreeVersion(headquartersId);
+        return headquartersRepository.findPartnerTreeVersion(headquartersId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 본사입니다: " + headquartersId));
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * DB 버전과 같은 트리 반환 (없거나 다르면 다시 로드)
+     * 협력사 조회 전후로 버전을 읽어 같을 때만 캐시 → 협력사 목록과 버전이 같은 시점임을 보장
+     * (생성/이동은 버전 증가와 같은 트랜잭션에서 커밋되므로 그 사이 커밋이 있으면 두 버전이 다름)
+     * 버전이 바뀌었으면 이번 응답에만 사용하고 다음 조회에서 다시 로드
+     */
+    private Optional<HeadquartersTree> currentTree(Long headquartersId) {
+        if (!enabled || headquartersId == null) {
+            return Optional.empty();
+        }
+
+        Optional<Long> dbVersion = headquartersRepository.findPartnerTreeVersion(headquartersId);
+        if (dbVersion.isEmpty()) {
+            return Optional.empty();
+        }
+
+        HeadquartersTree tree = trees.getIfPresent(headquartersId);
+        if (tree != null && tree.version() == dbVersion.get()) {
+            return Optional.of(tree);
+        }
+
+        authMetricsService.incrementPartnerTreeIndexLoads(tree == null ? "miss" : "stale");
+        List<PartnerResponse> partners = partnerRepository.findAllPartnersByHeadquarters(headquartersId);
+        HeadquartersTree loaded = HeadquartersTree.load(dbVersion.get(), partners);
+        if (!dbVersion.equals(headquartersRepository.findPartnerTreeVersion(headquartersId))) {
+            log.debug("협력사 트리 인덱스 로드 중 변경 감지 - 캐시하지 않음: 본사ID={}", headquartersId);
+            return Optional.of(loaded);
+        }
+        trees.put(headquartersId, loaded);
+        log.debug("협력사 트리 인덱스 로드: 본사ID={}, 노드={}, version={}", headquartersId, loaded.size(),
+                dbVersion.get());
+        return Optional.of(loaded);
+    }
+
+    private long totalNodes() {
+        return trees.asMap().values().stream().mapToLong(HeadquartersTree::size).sum();
+    }
+
+    private long estimatedBytes() {
+        return trees.asMap().values().stream().mapToLong(HeadquartersTree::estimatedBytes).sum();
+    }
+
+    /**
+     * 한 본사의 협력사 트리
+     * 노드는 배열 번호로 관리하고 자식/같은 레벨 목록은 int 배열 연결 리스트 (추가 순서 = 생성 순서)
+     */
+    static final class HeadquartersTree {
+        private static final int NONE = -1;
+
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private final LongIntHashMap slots;
+        private PartnerResponse[] nodes;
+        private int[] firstChild;
+        private int[] lastChild;
+        private int[] nextSibling;
+        private int[] nextInLevel;
+        private int[] levelHead = new int[0];
+        private int[] levelTail = new int[0];
+        private int size;
+        private volatile long version;
+
+        private HeadquartersTree(long version, int capacity) {
+            this.version = version;
+            this.slots = new LongIntHashMap(capacity);
+            this.nodes = new PartnerResponse[capacity];
+            this.firstChild = new int[capacity];
+            this.lastChild = new int[capacity];
+            this.nextSibling = new int[capacity];
+            this.nextInLevel = new int[capacity];
+        }
+
+        /**
+         * 레벨, 생성 순으로 정렬된 협력사 목록으로 트리 구성 (상위 협력사가 항상 먼저 추가됨)
+         */
+        static HeadquartersTree load(long version, List<PartnerResponse> partners) {
+            HeadquartersTree tree = new HeadquartersTree(version, Math.max(4, partners.size()));
+            for (PartnerResponse node : partners) {
+                tree.add(node, node.getParentPartnerId());
+            }
+            return tree;
+        }
+
+        long version() {
+            return version;
+        }
+
+        int size() {
+            return size;
+        }
+
+        long estimatedBytes() {
+            lock.readLock().lock();
+            try {
+                long arrays = (long) nodes.length * (Integer.BYTES * 4 + 8)
+                        + (long) levelHead.length * Integer.BYTES * 2;
+                return arrays + slots.estimatedBytes() + size * ESTIMATED_NODE_BYTES;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        /**
+         * 커밋된 생성 반영 - 트리가 직전 버전이고 노드가 아직 없을 때만 추가 (아니면 false → 트리 제거 후 다시 로드)
+         */
+        boolean append(PartnerResponse node, Long parentPartnerId, long newVersion) {
+            lock.writeLock().lock();
+            try {
+                if (version != newVersion - 1) {
+                    return false;
+                }
+                if (slots.get(node.getPartnerId()) != LongIntHashMap.MISSING) {
+                    return false;
+                }
+                if (parentPartnerId != null && slots.get(parentPartnerId) == LongIntHashMap.MISSING) {
+                    return false;
+                }
+                add(node, parentPartnerId);
+                version = newVersion;
+                return true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        List<PartnerResponse> all() {
+            lock.readLock().lock();
+            try {
+                List<PartnerResponse> result = new ArrayList<>(size);
+                for (int level = 0; level < levelHead.length; level++) {
+                    for (int slot = levelHead[level]; slot != NONE; slot = nextInLevel[slot]) {
+                        result.add(nodes[slot]);
+                    }
+                }
+                return result;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        List<PartnerResponse> level(int level) {
+            lock.readLock().lock();
+            try {
+                List<PartnerResponse> result = new ArrayList<>();
+                if (level < levelHead.length) {
+                    for (int slot = levelHead[level]; slot != NONE; slot = nextInLevel[slot]) {
+                        result.add(nodes[slot]);
+                    }
+                }
+                return result;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        /**
+         * 직속 하위 (includeSelf면 본인 포함) - 협력사가 트리에 없으면 null
+         */
+        List<PartnerResponse> children(Long partnerId, boolean includeSelf) {
+            lock.readLock().lock();
+            try {
+                int parent = slots.get(partnerId);
+                if (parent == LongIntHashMap.MISSING) {
+                    return null;
+                }
+                List<PartnerResponse> result = new ArrayList<>();
+                if (includeSelf) {
+                    result.add(nodes[parent]);
+                }
+                for (int slot = firstChild[parent]; slot != NONE; slot = nextSibling[slot]) {
+                    result.add(nodes[slot]);
+                }
+                return result;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        private void add(PartnerResponse node, Long parentPartnerId) {
+            if (size == nodes.length) {
+                grow(size * 2);
+            }
+            int slot = size++;
+            nodes[slot] = node;
+            firstChild[slot] = NONE;
+            lastChild[slot] = NONE;
+            nextSibling[slot] = NONE;
+            nextInLevel[slot] = NONE;
+            slots.put(node.getPartnerId(), slot);
+
+            int parent = parentPartnerId != null ? slots.get(parentPartnerId) : LongIntHashMap.MISSING;
+            if (parent != LongIntHashMap.MISSING) {
+                if (lastChild[parent] == NONE) {
+                    firstChild[parent] = slot;
+                } else {
+                    nextSibling[lastChild[parent]] = slot;
+                }
+                lastChild[parent] = slot;
+            }
+
+            int level = node.getLevel();
+            if (level >= levelHead.length) {
+                int previousLength = levelHead.length;
+                levelHead = Arrays.copyOf(levelHead, level + 1);
+                levelTail = Arrays.copyOf(levelTail, level + 1);
+                Arrays.fill(levelHead, previousLength, level + 1, NONE);
+                Arrays.fill(levelTail, previousLength, level + 1, NONE);
+            }
+            if (levelTail[level] == NONE) {
+                levelHead[level] = slot;
+            } else {
+                nextInLevel[levelTail[level]] = slot;
+            }
+            levelTail[level] = slot;
+        }
+
+        private void grow(int capacity) {
+            nodes = Arrays.copyOf(nodes, capacity);
+            firstChild = Arrays.copyOf(firstChild, capacity);
+            lastChild = Arrays.copyOf(lastChild, capacity);
+            nextSibling = Arrays.copyOf(nextSibling, capacity);
+            nextInLevel = Arrays.copyOf(nextInLevel, capacity);
+        }
+    }
+}
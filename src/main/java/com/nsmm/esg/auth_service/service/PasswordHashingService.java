@@ -0,0 +1,221 @@
+package com.nsmm.esg.auth_service.service;
+
+import com.nsmm.esg.auth_service.util.PasswordUtil;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시 전용 실행기 (bulkhead)
+ *
+ * 주요 기능:
+ * - BCrypt 암호화/검증을 요청 스레드가 아닌 고정 크기 전용 스레드 풀에서 수행
+ * - 대기열이 가득 차거나 대기 시간이 max-wait을 넘으면 즉시 RejectedExecutionException (→ 429)
+ * - 대기열 깊이, 대기 시간, 해시 시간 메트릭 노출
+ *
+ * 로그인이 몰려도 CPU를 쓰는 해시 작업은 풀 크기로 제한되므로
+ * /me, /accessible 등 JWT만 검증하는 요청은 영향을 받지 않음
+ *
+ * password.initial.deferred-hashing=true이면 협력사 초기 비밀번호(= 계층적 아이디)는 해시 대신 표식만 저장하고
+ * 첫 로그인 시 재해시(rehashIfNeeded)로 실제 해시를 저장 → 대량 협력사 등록 시 BCrypt 비용 제거
+ */
+@Service
+@Slf4j
+public class PasswordHashingService {
+
+    private static final String REJECTED_MESSAGE = "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.";
+
+    private final PasswordUtil passwordUtil;
+    private final AuthMetricsService authMetricsService;
+    private final ThreadPoolExecutor hashingExecutor;
+    private final long maxWaitNanos;
+    private final boolean deferInitialHashing;
+
+    public PasswordHashingService(
+            PasswordUtil passwordUtil,
+            AuthMetricsService authMetricsService,
+            @Value("${password.hashing.threads:0}") int threads,
+            @Value("${password.hashing.queue-capacity:32}") int queueCapacity,
+            @Value("${password.hashing.max-wait:2000}") long maxWaitMillis,
+            @Value("${password.initial.deferred-hashing:false}") boolean deferInitialHashing) {
+        this.passwordUtil = passwordUtil;
+        this.deferInitialHashing = deferInitialHashing;
+        this.authMetricsService = authMetricsService;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("password-hashing-");
+        threadFactory.setDaemon(true);
+        this.hashingExecutor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+
+        authMetricsService.registerPasswordHashingGauges(
+                () -> hashingExecutor.getQueue().size(),
+                hashingExecutor::getActiveCount);
+        log.info("비밀번호 해시 실행기 초기화: threads={}, queueCapacity={}, maxWait={}ms, 초기 비밀번호 지연 해시={}",
+                poolSize, queueCapacity, maxWaitMillis, deferInitialHashing);
+    }
+
+    /**
+     * 비밀번호 암호화 (전용 풀에서 실행)
+     */
+    public String encodePassword(String rawPassword) {
+        return execute("encode", () -> passwordUtil.encodePassword(rawPassword));
+    }
+
+    /**
+     * 비밀번호 검증 (전용 풀에서 실행)
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return execute("matches", () -> passwordUtil.matches(rawPassword, encodedPassword));
+    }
+
+    /**
+     * 초기 비밀번호 저장값 (지연 해시 모드면 표식, 아니면 즉시 해시)
+     */
+    public String encodeInitialPassword(String initialPassword) {
+        if (deferInitialHashing) {
+            return PasswordUtil.INITIAL_PASSWORD_MARKER;
+        }
+        return encodePassword(initialPassword);
+    }
+
+    /**
+     * 초기 비밀번호 저장값 일괄 생성 (대량 등록용, 입력 순서대로 반환)
+     * 해시 풀에 한 번에 풀 크기만큼만 제출해 로그인 요청이 대기열을 계속 쓸 수 있게 하고,
+     * 대기열이 가득 차면 호출 스레드에서 직접 해시 (대량 등록 요청은 거부하지 않음)
+     */
+    public List<String> encodeInitialPasswords(List<String> initialPasswords) {
+        if (deferInitialHashing) {
+            return Collections.nCopies(initialPasswords.size(), PasswordUtil.INITIAL_PASSWORD_MARKER);
+        }
+
+        int window = hashingExecutor.getMaximumPoolSize();
+        List<String> encoded = new ArrayList<>(initialPasswords.size());
+        for (int from = 0; from < initialPasswords.size(); from += window) {
+            List<CompletableFuture<String>> futures = new ArrayList<>(window);
+            for (String initialPassword : initialPasswords.subList(from,
+                    Math.min(from + window, initialPasswords.size()))) {
+                futures.add(encodeAsync(initialPassword));
+            }
+            futures.forEach(future -> encoded.add(future.join()));
+        }
+        return encoded;
+    }
+
+    private CompletableFuture<String> encodeAsync(String rawPassword) {
+        Supplier<String> hashing = () -> {
+            long startedAt = System.nanoTime();
+            try {
+                return passwordUtil.encodePassword(rawPassword);
+            } finally {
+                authMetricsService.recordPasswordHashingDuration("encode", System.nanoTime() - startedAt);
+            }
+        };
+        try {
+            return CompletableFuture.supplyAsync(hashing, hashingExecutor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(hashing.get());
+        }
+    }
+
+    /**
+     * 비밀번호 검증 (초기 비밀번호 표식 포함)
+     * 표식이 저장된 경우 해시 없이 초기 비밀번호와 상수 시간 비교
+     */
+    public boolean matches(String rawPassword, String encodedPassword, String initialPassword) {
+        if (PasswordUtil.isInitialPasswordMarker(encodedPassword)) {
+            return rawPassword != null && initialPassword != null && MessageDigest.isEqual(
+                    rawPassword.getBytes(StandardCharsets.UTF_8),
+                    initialPassword.getBytes(StandardCharsets.UTF_8));
+        }
+        return matches(rawPassword, encodedPassword);
+    }
+
+    /**
+     * 로그인 성공 후 저장된 해시가 현재 설정보다 약하거나 초기 비밀번호 표식이면 새 해시 반환 (아니면 null)
+     * 재해시는 부가 작업이므로 해시 풀이 포화 상태면 건너뛰고 다음 로그인에 다시 시도
+     */
+    public String rehashIfNeeded(String rawPassword, String encodedPassword) {
+        if (!passwordUtil.needsRehash(encodedPassword)) {
+            return null;
+        }
+        try {
+            String rehashed = execute("encode", () -> passwordUtil.encodePassword(rawPassword));
+            authMetricsService.incrementPasswordEvents("rehashed");
+            return rehashed;
+        } catch (RejectedExecutionException e) {
+            log.debug("해시 풀 포화로 비밀번호 재해시 생략");
+            return null;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        hashingExecutor.shutdown();
+    }
+
+    /**
+     * 해시 작업 제출 후 완료 대기
+     * 요청 스레드는 대기만 하므로 CPU 사용은 풀 크기로 제한되고, 대기 요청 수는 대기열 크기로 제한됨
+     */
+    private <T> T execute(String operation, Supplier<T> hashing) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = hashingExecutor.submit(() -> {
+                long waitedNanos = System.nanoTime() - submittedAt;
+                authMetricsService.recordPasswordHashingWait(waitedNanos);
+                if (waitedNanos > maxWaitNanos) {
+                    // 클라이언트가 이미 포기했을 가능성이 큰 요청은 해시하지 않음
+                    authMetricsService.incrementPasswordHashingRejections("wait_timeout");
+                    throw new RejectedExecutionException(REJECTED_MESSAGE);
+                }
+
+                long startedAt = System.nanoTime();
+                try {
+                    return hashing.get();
+                } finally {
+                    authMetricsService.recordPasswordHashingDuration(operation, System.nanoTime() - startedAt);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            authMetricsService.incrementPasswordHashingRejections("queue_full");
+            log.warn("비밀번호 해시 대기열 초과 - 요청 거부: operation={}", operation);
+            throw new RejectedExecutionException(REJECTED_MESSAGE);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 처리가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException("비밀번호 처리 중 오류가 발생했습니다.", cause);
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package com.nsmm.esg.auth_service.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.nsmm.esg.auth_service.dto.RefreshTokenClaims;
+import com.nsmm.esg.auth_service.util.JwtUtil;
+import io.jsonwebtoken.JwtException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Refresh Token 발급/교체 서비스
+ *
+ * 주요 기능:
+ * - 로그인 시 토큰 패밀리 생성 (familyId → 현재 유효한 토큰 ID)
+ * - 갱신 시 Refresh Token 교체 (rotation): 사용된 토큰은 즉시 무효
+ * - 재사용 감지: 이미 교체된 토큰이 다시 제출되면 패밀리 전체 폐기 (탈취 토큰 차단)
+ *
+ * 토큰 패밀리는 프로세스 내 메모리에 보관 (재시작 시 재로그인 필요)
+ * 갱신 경로는 비밀번호 검증(BCrypt) 없이 JWT 서명 검증 + 메모리 조회만 수행
+ */
+@Service
+@Slf4j
+public class RefreshTokenService {
+
+    private final JwtUtil jwtUtil;
+    private final AuthMetricsService authMetricsService;
+    private final Cache<String, TokenFamily> families;
+
+    public RefreshTokenService(
+            JwtUtil jwtUtil,
+            AuthMetricsService authMetricsService,
+            @Value("${jwt.refresh.max-families:100000}") long maxFamilies) {
+        this.jwtUtil = jwtUtil;
+        this.authMetricsService = authMetricsService;
+        this.families = Caffeine.newBuilder()
+                .maximumSize(maxFamilies)
+                .expireAfter(new FamilyExpiry())
+                .build();
+
+        authMetricsService.registerRefreshTokenFamilyGauge(families::estimatedSize);
+        log.info("Refresh Token 패밀리 저장소 초기화: maxFamilies={}", maxFamilies);
+    }
+
+    /**
+     * 로그인 시 새 토큰 패밀리 생성 및 Refresh Token 발급
+     */
+    public String issue(String userType, Long entityId, String accountNumber) {
+        String familyId = UUID.randomUUID().toString();
+        String tokenId = UUID.randomUUID().toString();
+        long expiresAtMillis = System.currentTimeMillis() + jwtUtil.getRefreshTokenExpiration();
+
+        families.put(familyId, new TokenFamily(userType, entityId, tokenId, expiresAtMillis));
+        return jwtUtil.generateRefreshToken(accountNumber, userType, entityId, familyId, tokenId);
+    }
+
+    /**
+     * Refresh Token 교체
+     * 제출된 토큰이 패밀리의 현재 토큰이면 새 토큰으로 교체, 아니면 재사용으로 판단하여 패밀리 폐기
+     */
+    public Rotation rotate(String refreshToken, String expectedUserType) {
+        RefreshTokenClaims claims;
+        try {
+            claims = jwtUtil.parseRefreshToken(refreshToken);
+        } catch (JwtException | IllegalArgumentException e) {
+            authMetricsService.incrementAuthFailures("invalid_refresh_token");
+            throw new BadCredentialsException("유효하지 않은 Refresh Token입니다.");
+        }
+
+        if (!expectedUserType.equals(claims.getUserType())) {
+            authMetricsService.incrementAuthFailures("invalid_refresh_token");
+            throw new BadCredentialsException("사용자 유형이 일치하지 않는 Refresh Token입니다.");
+        }
+
+        String familyId = claims.getFamilyId();
+        if (familyId == null || families.getIfPresent(familyId) == null) {
+            authMetricsService.incrementAuthFailures("revoked_refresh_token");
+            throw new BadCredentialsException("만료되었거나 폐기된 Refresh Token입니다. 다시 로그인해주세요.");
+        }
+
+        // 패밀리 단위 원자적 교체 (현재 토큰이 아니면 null 반환 → 패밀리 제거)
+        String nextTokenId = UUID.randomUUID().toString();
+        long expiresAtMillis = System.currentTimeMillis() + jwtUtil.getRefreshTokenExpiration();
+        TokenFamily rotated = families.asMap().computeIfPresent(familyId,
+                (id, family) -> family.getCurrentTokenId().equals(claims.getTokenId())
+                        ? family.rotate(nextTokenId, expiresAtMillis)
+                        : null);
+
+        if (rotated == null) {
+            log.warn("Refresh Token 재사용 감지 - 토큰 패밀리 폐기: userType={}, entityId={}",
+                    claims.getUserType(), claims.getEntityId());
+            authMetricsService.incrementAuthFailures("refresh_token_reuse");
+            throw new BadCredentialsException("이미 사용된 Refresh Token입니다. 다시 로그인해주세요.");
+        }
+
+        String nextRefreshToken = jwtUtil.generateRefreshToken(claims.getAccountNumber(),
+                rotated.getUserType(), rotated.getEntityId(), familyId, nextTokenId);
+        return new Rotation(rotated.getEntityId(), familyId, nextRefreshToken);
+    }
+
+    /**
+     * Refresh Token이 속한 토큰 패밀리 폐기 (로그아웃)
+     * 유효하지 않은 토큰은 이미 사용할 수 없으므로 무시
+     */
+    public void revoke(String refreshToken) {
+        if (!StringUtils.hasText(refreshToken)) {
+            return;
+        }
+
+        try {
+            RefreshTokenClaims claims = jwtUtil.parseRefreshToken(refreshToken);
+            if (claims.getFamilyId() != null) {
+                revokeFamily(claims.getFamilyId());
+                authMetricsService.incrementTokenRevocations("refresh");
+            }
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("폐기 대상 Refresh Token이 유효하지 않습니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 토큰 패밀리 폐기
+     */
+    public void revokeFamily(String familyId) {
+        families.invalidate(familyId);
+    }
+
+    /**
+     * 교체 결과: PK 조회용 사용자 ID + 새 Refresh Token
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Rotation {
+        private final Long entityId;
+        private final String familyId;
+        private final String refreshToken;
+    }
+
+    /**
+     * 토큰 패밀리 (불변, 교체 시 새 인스턴스로 대체)
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class TokenFamily {
+        private final String userType;
+        private final Long entityId;
+        private final String currentTokenId;
+        private final long expiresAtMillis;
+
+        TokenFamily rotate(String nextTokenId, long nextExpiresAtMillis) {
+            return new TokenFamily(userType, entityId, nextTokenId, nextExpiresAtMillis);
+        }
+    }
+
+    /**
+     * 패밀리 만료 정책: 마지막으로 발급된 Refresh Token의 만료 시각까지 보관
+     */
+    private static class FamilyExpiry implements Expiry<String, TokenFamily> {
+
+        @Override
+        public long expireAfterCreate(String key, TokenFamily value, long currentTime) {
+            long remainingMillis = value.getExpiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, TokenFamily value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, TokenFamily value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
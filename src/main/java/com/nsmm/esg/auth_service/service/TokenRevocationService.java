@@ -0,0 +1,148 @@
+package com.nsmm.esg.auth_service.service;
+
+import com.nsmm.esg.auth_service.dto.TokenVerificationResult;
+import com.nsmm.esg.auth_service.util.ConcurrentBloomFilter;
+import com.nsmm.esg.auth_service.util.JwtUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Access Token 폐기(블랙리스트) 서비스
+ *
+ * 주요 기능:
+ * - 로그아웃 시 토큰 ID(jti)를 만료 시각까지 폐기 목록에 등록
+ * - 요청마다 Bloom 필터로 잠금 없이 1차 확인, 양성일 때만 정확한 집합으로 재확인
+ * - 주기적으로 만료 항목 제거 후 Bloom 필터 재구성 (Bloom 필터는 삭제 불가)
+ * - 항목 수/메모리/오탐률 메트릭 노출
+ *
+ * 폐기 목록은 프로세스 내 메모리에 보관 (토큰 만료 시각을 넘겨 보관하지 않음)
+ */
+@Service
+@Slf4j
+public class TokenRevocationService {
+
+    // 항목당 추정 메모리 (ConcurrentHashMap 노드 + UUID 문자열 + Long)
+    private static final long ESTIMATED_ENTRY_BYTES = 160L;
+
+    private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final AuthMetricsService authMetricsService;
+    private final int expectedEntries;
+    private final double falsePositiveRate;
+
+    private final Map<String, Long> revokedTokens = new ConcurrentHashMap<>(); // jti → 만료 시각(ms)
+    private volatile ConcurrentBloomFilter bloomFilter;
+    private int bloomCapacity; // 현재 Bloom 필터의 설계 항목 수
+
+    public TokenRevocationService(
+            JwtUtil jwtUtil,
+            VerifiedTokenCache verifiedTokenCache,
+            AuthMetricsService authMetricsService,
+            @Value("${jwt.revocation.expected-entries:100000}") int expectedEntries,
+            @Value("${jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.jwtUtil = jwtUtil;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.authMetricsService = authMetricsService;
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloomCapacity = expectedEntries;
+        this.bloomFilter = ConcurrentBloomFilter.create(expectedEntries, falsePositiveRate);
+
+        authMetricsService.registerTokenRevocationGauges(
+                revokedTokens::size,
+                this::estimatedMemoryBytes,
+                () -> bloomFilter.expectedFalsePositiveRate());
+        log.info("토큰 폐기 목록 초기화: expectedEntries={}, falsePositiveRate={}, bloomBytes={}",
+                expectedEntries, falsePositiveRate, bloomFilter.memoryBytes());
+    }
+
+    /**
+     * Access Token 폐기 (로그아웃)
+     * 유효한 토큰만 등록하며, 검증 캐시에서도 즉시 제거
+     */
+    public void revokeAccessToken(String token) {
+        if (!StringUtils.hasText(token)) {
+            return;
+        }
+
+        verifiedTokenCache.invalidate(token);
+
+        TokenVerificationResult result = jwtUtil.verifyToken(token);
+        if (!result.isValid() || result.getClaims().getTokenId() == null) {
+            // 만료/위조 토큰은 이미 사용할 수 없고, jti 없는 이전 토큰은 등록 불가
+            return;
+        }
+
+        revoke(result.getClaims().getTokenId(), result.getExpiration().getTime());
+        authMetricsService.incrementTokenRevocations("access");
+    }
+
+    /**
+     * 토큰 ID 폐기 등록 (만료 시각까지 유지)
+     * 쓰기는 재구성과 직렬화하여 재구성 중 추가된 항목이 새 필터에서 누락되지 않도록 함
+     */
+    public synchronized void revoke(String tokenId, long expiresAtMillis) {
+        if (expiresAtMillis <= System.currentTimeMillis()) {
+            return;
+        }
+        revokedTokens.put(tokenId, expiresAtMillis);
+        bloomFilter.put(tokenId);
+    }
+
+    /**
+     * 토큰 폐기 여부 확인 (요청마다 호출)
+     * Bloom 필터 음성이면 즉시 false, 양성이면 정확한 집합으로 확인
+     */
+    public boolean isRevoked(String tokenId) {
+        if (tokenId == null) {
+            return false;
+        }
+
+        if (!bloomFilter.mightContain(tokenId)) {
+            authMetricsService.recordRevocationCheck("bloom_negative");
+            return false;
+        }
+
+        Long expiresAtMillis = revokedTokens.get(tokenId);
+        boolean revoked = expiresAtMillis != null && expiresAtMillis > System.currentTimeMillis();
+        authMetricsService.recordRevocationCheck(revoked ? "revoked" : "false_positive");
+        return revoked;
+    }
+
+    /**
+     * 만료 항목 제거 및 Bloom 필터 재구성
+     * 항목 수가 예상치를 넘으면 필터 크기를 늘려 오탐률 유지
+     */
+    @Scheduled(fixedDelayString = "${jwt.revocation.cleanup-interval:60000}")
+    public synchronized void purgeExpired() {
+        long now = System.currentTimeMillis();
+        int before = revokedTokens.size();
+        revokedTokens.values().removeIf(expiresAtMillis -> expiresAtMillis <= now);
+
+        int removed = before - revokedTokens.size();
+        if (removed == 0 && revokedTokens.size() <= bloomCapacity) {
+            return; // 변경 없음 - 재구성 불필요
+        }
+
+        bloomCapacity = Math.max(expectedEntries, revokedTokens.size() * 2);
+        ConcurrentBloomFilter rebuilt = ConcurrentBloomFilter.create(bloomCapacity, falsePositiveRate);
+        revokedTokens.keySet().forEach(rebuilt::put);
+        bloomFilter = rebuilt;
+
+        log.debug("폐기 토큰 Bloom 필터 재구성: removed={}, remaining={}, capacity={}",
+                removed, revokedTokens.size(), bloomCapacity);
+    }
+
+    /**
+     * 추정 메모리 사용량 (Bloom 필터 비트 배열 + 정확한 집합)
+     */
+    private long estimatedMemoryBytes() {
+        return bloomFilter.memoryBytes() + revokedTokens.size() * ESTIMATED_ENTRY_BYTES;
+    }
+}
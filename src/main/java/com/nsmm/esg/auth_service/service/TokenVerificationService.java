@@ -0,0 +1,193 @@
+package com.nsmm.esg.auth_service.service;
+
+import com.nsmm.esg.auth_service.dto.JwtClaims;
+import com.nsmm.esg.auth_service.dto.TokenIntrospectionResponse;
+import com.nsmm.esg.auth_service.dto.TokenVerificationResult;
+import com.nsmm.esg.auth_service.service.VerifiedTokenCache.CachedToken;
+import com.nsmm.esg.auth_service.util.JwtUtil;
+import jakarta.annotation.PreDestroy;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access Token 검증 서비스
+ *
+ * 주요 기능:
+ * - 공통 검증 경로: 검증 캐시 → 서명 검증(JwtUtil) → 폐기 확인 → 캐시 저장
+ *   (JwtAuthenticationFilter와 일괄 검증 API가 같은 경로 사용)
+ * - 일괄 검증(introspection): 토큰 목록을 고정 크기 스레드 풀에서 병렬 검증
+ *
+ * 일괄 검증 풀은 스레드 수와 대기열이 제한되며, 대기열이 가득 차면 호출 스레드가 직접 처리 (backpressure)
+ */
+@Service
+@Slf4j
+public class TokenVerificationService {
+
+    private static final int MIN_CHUNK_SIZE = 8; // 이보다 작은 배치는 호출 스레드에서 바로 처리
+
+    private final JwtUtil jwtUtil;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationService tokenRevocationService;
+    private final AuthMetricsService authMetricsService;
+    private final ThreadPoolExecutor introspectionExecutor;
+    private final int parallelism;
+    private final int maxBatchSize;
+
+    public TokenVerificationService(
+            JwtUtil jwtUtil,
+            VerifiedTokenCache verifiedTokenCache,
+            TokenRevocationService tokenRevocationService,
+            AuthMetricsService authMetricsService,
+            @Value("${jwt.introspection.threads:0}") int threads,
+            @Value("${jwt.introspection.queue-capacity:256}") int queueCapacity,
+            @Value("${jwt.introspection.max-batch-size:1000}") int maxBatchSize) {
+        this.jwtUtil = jwtUtil;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenRevocationService = tokenRevocationService;
+        this.authMetricsService = authMetricsService;
+        this.parallelism = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.maxBatchSize = maxBatchSize;
+
+        CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("token-introspection-");
+        threadFactory.setDaemon(true);
+        this.introspectionExecutor = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.CallerRunsPolicy());
+
+        log.info("토큰 검증 서비스 초기화: introspectionThreads={}, queueCapacity={}, maxBatchSize={}",
+                parallelism, queueCapacity, maxBatchSize);
+    }
+
+    /**
+     * 토큰 검증 (공통 경로)
+     * 캐시에 있으면 서명 검증 생략, 없으면 검증 후 캐시에 저장 - 두 경우 모두 폐기 여부 확인
+     */
+    public Verification verify(String token) {
+        if (!StringUtils.hasText(token)) {
+            authMetricsService.recordJwtRejection(TokenVerificationResult.RejectionReason.EMPTY);
+            return Verification.MALFORMED;
+        }
+
+        CachedToken cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return isRevoked(cached.getClaims()) ? Verification.REVOKED : new Verification(
+                    TokenVerificationResult.Status.VALID, cached);
+        }
+
+        TokenVerificationResult result = jwtUtil.verifyToken(token);
+        if (!result.isValid()) {
+            authMetricsService.recordJwtRejection(result.getRejectionReason());
+            return Verification.of(result.getStatus());
+        }
+        if (isRevoked(result.getClaims())) {
+            return Verification.REVOKED;
+        }
+
+        // 권한 설정
+        JwtClaims claims = result.getClaims();
+        String role = "ROLE_" + claims.getUserType(); // ROLE_HEADQUARTERS 또는 ROLE_PARTNER
+        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(role));
+
+        CachedToken verified = verifiedTokenCache.put(token, claims, result.getExpiration(), authorities);
+        return new Verification(TokenVerificationResult.Status.VALID, verified);
+    }
+
+    /**
+     * 토큰 일괄 검증 (요청 순서대로 결과 반환)
+     * 배치를 스레드 수만큼 나누어 병렬 처리하고, 첫 구간은 호출 스레드가 직접 처리
+     */
+    public List<TokenIntrospectionResponse> introspect(List<String> tokens) {
+        int size = tokens.size();
+        if (size > maxBatchSize) {
+            throw new IllegalArgumentException("한 번에 검증할 수 있는 토큰은 최대 " + maxBatchSize + "개입니다.");
+        }
+
+        TokenIntrospectionResponse[] results = new TokenIntrospectionResponse[size];
+        int chunkCount = Math.min(parallelism, (size + MIN_CHUNK_SIZE - 1) / MIN_CHUNK_SIZE);
+
+        if (chunkCount <= 1) {
+            introspectRange(tokens, results, 0, size);
+        } else {
+            int chunkSize = (size + chunkCount - 1) / chunkCount;
+            List<CompletableFuture<Void>> futures = new ArrayList<>(chunkCount - 1);
+            for (int from = chunkSize; from < size; from += chunkSize) {
+                int start = from;
+                int end = Math.min(size, from + chunkSize);
+                futures.add(CompletableFuture.runAsync(
+                        () -> introspectRange(tokens, results, start, end), introspectionExecutor));
+            }
+            introspectRange(tokens, results, 0, chunkSize);
+            futures.forEach(CompletableFuture::join);
+        }
+
+        authMetricsService.recordIntrospectionBatch(size);
+        return Arrays.asList(results);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        introspectionExecutor.shutdown();
+    }
+
+    private void introspectRange(List<String> tokens, TokenIntrospectionResponse[] results, int from, int to) {
+        for (int i = from; i < to; i++) {
+            Verification verification = verify(tokens.get(i));
+            results[i] = verification.isValid()
+                    ? TokenIntrospectionResponse.active(verification.getVerifiedToken().getClaims(),
+                            verification.getVerifiedToken().getExpiresAtMillis())
+                    : TokenIntrospectionResponse.inactive(verification.getStatus());
+        }
+    }
+
+    /**
+     * 로그아웃으로 폐기된 토큰인지 확인 (Bloom 필터 → 양성일 때만 정확한 집합 확인)
+     */
+    private boolean isRevoked(JwtClaims claims) {
+        if (tokenRevocationService.isRevoked(claims.getTokenId())) {
+            log.debug("폐기된 JWT 토큰입니다: {}", claims.getAccountNumber());
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 검증 결과: 상태 + (유효한 경우) 검증된 클레임/권한
+     */
+    @Getter
+    @AllArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Verification {
+
+        private static final Verification EXPIRED = new Verification(TokenVerificationResult.Status.EXPIRED, null);
+        private static final Verification MALFORMED = new Verification(TokenVerificationResult.Status.MALFORMED, null);
+        private static final Verification REVOKED = new Verification(TokenVerificationResult.Status.REVOKED, null);
+
+        private final TokenVerificationResult.Status status;
+        private final CachedToken verifiedToken; // 유효한 경우에만 존재
+
+        private static Verification of(TokenVerificationResult.Status status) {
+            return switch (status) {
+                case EXPIRED -> EXPIRED;
+                case REVOKED -> REVOKED;
+                default -> MALFORMED;
+            };
+        }
+
+        public boolean isValid() {
+            return status == TokenVerificationResult.Status.VALID;
+        }
+    }
+}
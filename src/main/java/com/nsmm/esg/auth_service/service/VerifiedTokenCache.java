@@ -0,0 +1,165 @@
+package com.nsmm.esg.auth_service.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.nsmm.esg.auth_service.dto.JwtClaims;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증된 JWT 토큰 캐시 서비스
+ *
+ * 주요 기능:
+ * - 토큰 다이제스트(SHA-256) → 검증 완료된 JwtClaims + 권한 목록 매핑
+ * - 최대 항목 수 제한 (jwt.cache.max-size)
+ * - 항목별 만료: 토큰의 exp 시각을 넘겨 보관하지 않음
+ * - 토큰 폐기 시 개별 제거 지원
+ * - hit/miss/제거 메트릭 기록 (AuthMetricsService)
+ *
+ * 원본 토큰 문자열은 보관하지 않고 다이제스트만 키로 사용
+ */
+@Service
+@Slf4j
+public class VerifiedTokenCache {
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(VerifiedTokenCache::newDigest);
+
+    private final boolean enabled;
+    private final Cache<String, CachedToken> cache;
+    private final AuthMetricsService authMetricsService;
+
+    public VerifiedTokenCache(
+            @Value("${jwt.cache.enabled:true}") boolean enabled,
+            @Value("${jwt.cache.max-size:10000}") long maxSize,
+            AuthMetricsService authMetricsService) {
+        this.enabled = enabled;
+        this.authMetricsService = authMetricsService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new TokenExpiry())
+                .removalListener((String key, CachedToken value, RemovalCause cause) -> {
+                    if (cause != RemovalCause.REPLACED) {
+                        authMetricsService.incrementTokenCacheEvictions(cause.name());
+                    }
+                })
+                .build();
+
+        authMetricsService.registerTokenCacheSizeGauge(cache::estimatedSize);
+        log.info("검증 토큰 캐시 초기화: enabled={}, maxSize={}", enabled, maxSize);
+    }
+
+    /**
+     * 캐시된 검증 결과 조회 (없거나 만료되었으면 null)
+     */
+    public CachedToken get(String token) {
+        if (!enabled) {
+            return null;
+        }
+
+        CachedToken cached = cache.getIfPresent(digest(token));
+        authMetricsService.recordTokenCacheAccess(cached != null);
+        return cached;
+    }
+
+    /**
+     * 검증 결과 저장 후 반환
+     * 캐시가 비활성화된 경우 저장하지 않고 값만 생성
+     */
+    public CachedToken put(String token, JwtClaims claims, Date expiration, List<? extends GrantedAuthority> authorities) {
+        CachedToken cachedToken = new CachedToken(claims, List.copyOf(authorities), expiration.getTime());
+
+        // 이미 만료 시각이 지난 토큰은 저장하지 않음
+        if (enabled && cachedToken.getExpiresAtMillis() > System.currentTimeMillis()) {
+            cache.put(digest(token), cachedToken);
+        }
+        return cachedToken;
+    }
+
+    /**
+     * 특정 토큰 제거 (토큰 폐기 시 사용)
+     */
+    public void invalidate(String token) {
+        if (enabled) {
+            cache.invalidate(digest(token));
+        }
+    }
+
+    /**
+     * 전체 캐시 비우기
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 캐시 활성화 여부
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 토큰 다이제스트 생성 (SHA-256, Base64URL)
+     */
+    private String digest(String token) {
+        MessageDigest messageDigest = SHA_256.get();
+        messageDigest.reset();
+        byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    /**
+     * 캐시 항목: 검증 완료된 클레임 + 권한 목록 + 토큰 만료 시각
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class CachedToken {
+        private final JwtClaims claims;
+        private final List<GrantedAuthority> authorities;
+        private final long expiresAtMillis;
+    }
+
+    /**
+     * 항목별 만료 정책: 생성 시점부터 토큰 exp까지만 보관
+     */
+    private static class TokenExpiry implements Expiry<String, CachedToken> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedToken value, long currentTime) {
+            long remainingMillis = value.getExpiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.nsmm.esg.auth_service.util;
+
+/**
+ * Access Token 클레임 프로필 (jwt.claims.profile)
+ *
+ * STANDARD: 기존 형식 (companyName, userType, headquartersId, partnerId, level, treePath)
+ * COMPACT: 짧은 키 + 숫자 사용자 유형 코드 + 본사 계정번호를 생략한 상대 트리 경로
+ *   {"cn":"...","ut":2,"hq":1,"pid":42,"lv":2,"tp":"L1-001/L2-001"}
+ *
+ * 검증 시에는 프로필 설정과 무관하게 두 형식을 모두 해석 (프로필 전환 중 발급된 토큰 호환)
+ */
+public enum ClaimsProfile {
+    STANDARD, COMPACT;
+
+    // COMPACT 클레임 키
+    public static final String COMPANY_NAME = "cn";
+    public static final String USER_TYPE = "ut";
+    public static final String HEADQUARTERS_ID = "hq";
+    public static final String PARTNER_ID = "pid";
+    public static final String LEVEL = "lv";
+    public static final String TREE_PATH = "tp";
+
+    // 사용자 유형 코드
+    private static final int HEADQUARTERS_CODE = 1;
+    private static final int PARTNER_CODE = 2;
+
+    /**
+     * 설정값으로 프로필 선택 (대소문자 무시, 알 수 없는 값은 예외)
+     */
+    public static ClaimsProfile from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 jwt.claims.profile 입니다: " + value);
+        }
+    }
+
+    /**
+     * 사용자 유형 → 숫자 코드 (알 수 없는 유형은 null → 문자열 그대로 기록)
+     */
+    public static Integer userTypeCode(String userType) {
+        if ("HEADQUARTERS".equals(userType)) {
+            return HEADQUARTERS_CODE;
+        }
+        if ("PARTNER".equals(userType)) {
+            return PARTNER_CODE;
+        }
+        return null;
+    }
+
+    /**
+     * COMPACT ut 클레임 → 사용자 유형 (숫자 코드 또는 문자열)
+     */
+    public static String userTypeOf(Object value) {
+        if (value instanceof Number code) {
+            return switch (code.intValue()) {
+                case HEADQUARTERS_CODE -> "HEADQUARTERS";
+                case PARTNER_CODE -> "PARTNER";
+                default -> null;
+            };
+        }
+        return value != null ? value.toString() : null;
+    }
+
+    /**
+     * 트리 경로 → 상대 경로
+     * /{본사계정번호}/L1-001/L2-001/ → L1-001/L2-001 (본사 계정번호는 sub의 첫 구간)
+     * 형식이 다르면 원래 경로 그대로 반환 ('/'로 시작하므로 구분 가능)
+     */
+    public static String relativeTreePath(String accountNumber, String treePath) {
+        if (treePath == null || accountNumber == null) {
+            return treePath;
+        }
+        int hqEnd = accountNumber.indexOf('-');
+        int prefixLength = (hqEnd < 0 ? accountNumber.length() : hqEnd) + 2;
+        if (treePath.length() > prefixLength && treePath.endsWith("/") && treePath.charAt(0) == '/'
+                && treePath.charAt(prefixLength - 1) == '/'
+                && treePath.regionMatches(1, accountNumber, 0, prefixLength - 2)) {
+            return treePath.substring(prefixLength, treePath.length() - 1);
+        }
+        return treePath;
+    }
+
+    /**
+     * 상대 경로 → 트리 경로 (relativeTreePath의 역변환)
+     */
+    public static String absoluteTreePath(String accountNumber, String relativePath) {
+        if (relativePath == null || relativePath.startsWith("/") || accountNumber == null) {
+            return relativePath;
+        }
+        int hqEnd = accountNumber.indexOf('-');
+        String hqAccountNumber = hqEnd < 0 ? accountNumber : accountNumber.substring(0, hqEnd);
+        return "/" + hqAccountNumber + "/" + relativePath + "/";
+    }
+}
@@ -0,0 +1,117 @@
+package com.nsmm.esg.auth_service.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 잠금 없는 Bloom 필터 (문자열 키)
+ *
+ * 특징:
+ * - 비트 배열은 AtomicLongArray로 관리 (추가: CAS, 조회: 단순 읽기)
+ * - false negative 없음, false positive는 설정한 확률 이내
+ * - 삭제 미지원 → 만료 항목 제거가 필요하면 새 필터로 재구성
+ */
+public class ConcurrentBloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashCount;
+    private final AtomicLong setBitCount = new AtomicLong(); // 채워진 비트 수 (오탐률 추정용)
+
+    private ConcurrentBloomFilter(long bitSize, int hashCount) {
+        this.bitSize = bitSize;
+        this.hashCount = hashCount;
+        this.words = new AtomicLongArray((int) ((bitSize + 63) / 64));
+    }
+
+    /**
+     * 예상 항목 수와 목표 오탐률로 필터 생성
+     * 비트 수 m = -n·ln(p) / (ln2)², 해시 수 k = (m/n)·ln2
+     */
+    public static ConcurrentBloomFilter create(int expectedInsertions, double falsePositiveRate) {
+        int n = Math.max(1, expectedInsertions);
+        long bitSize = Math.max(64, (long) Math.ceil(-n * Math.log(falsePositiveRate) / (LN2 * LN2)));
+        int hashCount = Math.max(1, (int) Math.round((double) bitSize / n * LN2));
+        return new ConcurrentBloomFilter(bitSize, hashCount);
+    }
+
+    /**
+     * 항목 추가
+     */
+    public void put(String key) {
+        long hash = hash64(key);
+        long h1 = hash;
+        long h2 = mix64(hash ^ 0x9E3779B97F4A7C15L) | 1L; // 홀수로 고정하여 인덱스 분산
+
+        for (int i = 0; i < hashCount; i++) {
+            setBit(Math.floorMod(h1 + i * h2, bitSize));
+        }
+    }
+
+    /**
+     * 포함 가능성 확인 (false면 확실히 없음)
+     */
+    public boolean mightContain(String key) {
+        long hash = hash64(key);
+        long h1 = hash;
+        long h2 = mix64(hash ^ 0x9E3779B97F4A7C15L) | 1L;
+
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(h1 + i * h2, bitSize);
+            if ((words.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 현재 채움 비율 기준 추정 오탐률 ((채워진 비트 / 전체 비트)^k)
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow((double) setBitCount.get() / bitSize, hashCount);
+    }
+
+    /**
+     * 비트 배열 메모리 크기 (바이트)
+     */
+    public long memoryBytes() {
+        return (long) words.length() * Long.BYTES;
+    }
+
+    private void setBit(long index) {
+        int wordIndex = (int) (index >>> 6);
+        long mask = 1L << index;
+        long current;
+        do {
+            current = words.get(wordIndex);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!words.compareAndSet(wordIndex, current, current | mask));
+        setBitCount.incrementAndGet();
+    }
+
+    /**
+     * 문자열 64비트 해시 (문자 단위 FNV-1a + MurmurHash3 finalizer, 요청마다 호출되므로 할당 없음)
+     */
+    private static long hash64(String key) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001B3L;
+        }
+        return mix64(hash);
+    }
+
+    private static long mix64(long value) {
+        value ^= value >>> 33;
+        value *= 0xFF51AFD7ED558CCDL;
+        value ^= value >>> 33;
+        value *= 0xC4CEB9FE1A85EC53L;
+        value ^= value >>> 33;
+        return value;
+    }
+}
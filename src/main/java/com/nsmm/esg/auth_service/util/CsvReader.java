@@ -0,0 +1,101 @@
+package com.nsmm.esg.auth_service.util;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV 레코드 순차 읽기 (RFC 4180)
+ *
+ * - 쉼표 구분, 큰따옴표로 감싼 필드 안의 쉼표/줄바꿈 허용, "" → "
+ * - CRLF / LF 모두 허용, 첫 UTF-8 BOM 무시
+ * - 전체를 메모리에 올리지 않고 한 레코드씩 읽음 (요청 본문 스트림 직접 처리용)
+ */
+public final class CsvReader {
+
+    private static final int NONE = -2;
+
+    private final Reader reader;
+    private int peeked = NONE;
+    private long recordNumber;
+    private boolean started;
+
+    public CsvReader(Reader reader) {
+        this.reader = reader instanceof BufferedReader ? reader : new BufferedReader(reader);
+    }
+
+    /**
+     * 다음 레코드 (입력 끝이면 null, 빈 줄은 빈 필드 1개)
+     *
+     * @throws IllegalArgumentException 닫히지 않은 따옴표
+     */
+    public List<String> next() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+        recordNumber++;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IllegalArgumentException("닫히지 않은 따옴표가 있습니다: " + recordNumber + "번째 레코드");
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next != '"') {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                }
+                field.append((char) c);
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+            } else if (c == '\n' || c == '\r' || c == -1) {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') {
+                        peeked = next;
+                    }
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * 마지막으로 읽은 레코드 번호 (1부터, 헤더 포함)
+     */
+    public long recordNumber() {
+        return recordNumber;
+    }
+
+    private int read() throws IOException {
+        if (peeked != NONE) {
+            int c = peeked;
+            peeked = NONE;
+            return c;
+        }
+        int c = reader.read();
+        if (!started) {
+            started = true;
+            if (c == '\uFEFF') {
+                c = reader.read();
+            }
+        }
+        return c;
+    }
+}
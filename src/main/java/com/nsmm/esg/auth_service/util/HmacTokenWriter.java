@@ -0,0 +1,357 @@
+package com.nsmm.esg.auth_service.util;
+
+import com.nsmm.esg.auth_service.dto.JwtClaims;
+
+import javax.crypto.Mac;
+import javax.crypto.ShortBufferException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.util.UUID;
+
+/**
+ * HMAC Access Token 전용 작성기 (JwtClaims 고정 구조)
+ *
+ * 특징:
+ * - 서명 키별 Base64URL 헤더를 미리 인코딩하여 재사용 (키 교체 시 다시 계산)
+ * - 클레임을 Map/Jackson 없이 스레드별 재사용 버퍼에 JSON으로 직접 기록
+ * - 스레드별 Mac 인스턴스 재사용 (키가 바뀐 경우에만 다시 초기화)
+ * - 결과 문자열 외에는 요청마다 버퍼를 새로 할당하지 않음
+ *
+ * 출력은 JJWT가 생성하는 토큰과 같은 헤더/클레임 구성(클레임 프로필 적용)이며 JwtUtil의 파서로 그대로 검증됨
+ * HMAC 계열(HS256/HS384/HS512) 서명 키만 지원 - ES256은 JwtUtil이 JJWT 경로 사용
+ */
+public class HmacTokenWriter {
+
+    private static final byte[] BASE64URL_ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private static final byte[] SUB = fieldName("sub");
+    private static final byte[] JTI = fieldName("jti");
+    private static final byte[] IAT = fieldName("iat");
+    private static final byte[] EXP = fieldName("exp");
+
+    private final ClaimsProfile claimsProfile;
+    private final byte[] companyNameField;
+    private final byte[] userTypeField;
+    private final byte[] headquartersIdField;
+    private final byte[] partnerIdField;
+    private final byte[] levelField;
+    private final byte[] treePathField;
+
+    private volatile EncodedHeader encodedHeader; // 마지막 서명 키의 인코딩된 헤더
+    private final ThreadLocal<Buffers> buffers = ThreadLocal.withInitial(Buffers::new);
+
+    public HmacTokenWriter(ClaimsProfile claimsProfile) {
+        this.claimsProfile = claimsProfile;
+        boolean compact = claimsProfile == ClaimsProfile.COMPACT;
+        this.companyNameField = fieldName(compact ? ClaimsProfile.COMPANY_NAME : "companyName");
+        this.userTypeField = fieldName(compact ? ClaimsProfile.USER_TYPE : "userType");
+        this.headquartersIdField = fieldName(compact ? ClaimsProfile.HEADQUARTERS_ID : "headquartersId");
+        this.partnerIdField = fieldName(compact ? ClaimsProfile.PARTNER_ID : "partnerId");
+        this.levelField = fieldName(compact ? ClaimsProfile.LEVEL : "level");
+        this.treePathField = fieldName(compact ? ClaimsProfile.TREE_PATH : "treePath");
+    }
+
+    /**
+     * 지원하는 서명 키인지 확인 (HMAC 계열만)
+     */
+    public static boolean supports(JwtKeyProvider.SigningKey signingKey) {
+        return signingKey.getAlgorithm().isHmac();
+    }
+
+    /**
+     * Access Token 작성 (iat/exp는 초 단위로 기록)
+     */
+    public String write(JwtKeyProvider.SigningKey signingKey, JwtClaims claims, UUID tokenId,
+            long issuedAtMillis, long expiresAtMillis) {
+        Buffers buf = buffers.get();
+        ByteSink json = buf.json;
+        json.reset();
+
+        // 클레임 (JwtUtil.createClaimsMap과 같은 구성, null 값은 생략)
+        json.write('{');
+        writeString(json, SUB, claims.getAccountNumber());
+        writeUuid(json, JTI, tokenId);
+        writeNumber(json, IAT, issuedAtMillis / 1000);
+        writeNumber(json, EXP, expiresAtMillis / 1000);
+        writeString(json, companyNameField, claims.getCompanyName());
+        writeUserType(json, claims.getUserType());
+        writeNumber(json, headquartersIdField, claims.getHeadquartersId());
+        if ("PARTNER".equals(claims.getUserType()) && claims.getPartnerId() != null) {
+            writeNumber(json, partnerIdField, claims.getPartnerId());
+            writeNumber(json, levelField, claims.getLevel());
+            writeString(json, treePathField, claimsProfile == ClaimsProfile.COMPACT
+                    ? ClaimsProfile.relativeTreePath(claims.getAccountNumber(), claims.getTreePath())
+                    : claims.getTreePath());
+        }
+        json.write('}');
+
+        // 헤더.페이로드
+        ByteSink token = buf.token;
+        token.reset();
+        token.write(headerFor(signingKey));
+        token.write('.');
+        writeBase64Url(token, json.bytes, json.length);
+
+        // 서명
+        Mac mac = buf.mac(signingKey);
+        mac.update(token.bytes, 0, token.length);
+        int signatureLength = mac.getMacLength();
+        try {
+            mac.doFinal(buf.signature(signatureLength), 0);
+        } catch (ShortBufferException e) {
+            throw new IllegalStateException("HMAC 서명 버퍼 크기가 부족합니다.", e);
+        }
+        token.write('.');
+        writeBase64Url(token, buf.signature, signatureLength);
+
+        return new String(token.bytes, 0, token.length, StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * 서명 키의 인코딩된 헤더 ({"kid":"...","alg":"HS512"} 또는 {"alg":"HS512"})
+     */
+    private byte[] headerFor(JwtKeyProvider.SigningKey signingKey) {
+        EncodedHeader current = encodedHeader;
+        if (current == null || current.signingKey != signingKey) {
+            ByteSink headerJson = new ByteSink(64);
+            headerJson.write('{');
+            writeString(headerJson, fieldName("kid"), signingKey.getKeyId());
+            writeString(headerJson, fieldName("alg"), signingKey.getAlgorithm().getValue());
+            headerJson.write('}');
+
+            ByteSink encoded = new ByteSink(128);
+            writeBase64Url(encoded, headerJson.bytes, headerJson.length);
+            current = new EncodedHeader(signingKey, encoded.toByteArray());
+            encodedHeader = current;
+        }
+        return current.bytes;
+    }
+
+    /**
+     * 사용자 유형 (COMPACT: 숫자 코드, 알 수 없는 유형은 문자열)
+     */
+    private void writeUserType(ByteSink out, String userType) {
+        Integer code = claimsProfile == ClaimsProfile.COMPACT ? ClaimsProfile.userTypeCode(userType) : null;
+        if (code != null) {
+            writeNumber(out, userTypeField, code.longValue());
+        } else {
+            writeString(out, userTypeField, userType);
+        }
+    }
+
+    private static void writeString(ByteSink out, byte[] name, String value) {
+        if (value == null) {
+            return;
+        }
+        writeFieldName(out, name);
+        out.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                out.write('\\');
+                out.write(c);
+            } else if (c < 0x20) {
+                out.write('\\');
+                out.write('u');
+                out.write('0');
+                out.write('0');
+                out.write(HEX_DIGITS[c >> 4]);
+                out.write(HEX_DIGITS[c & 0xF]);
+            } else if (c < 0x80) {
+                out.write(c);
+            } else if (c < 0x800) {
+                out.write(0xC0 | (c >> 6));
+                out.write(0x80 | (c & 0x3F));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                out.write(0xF0 | (codePoint >> 18));
+                out.write(0x80 | ((codePoint >> 12) & 0x3F));
+                out.write(0x80 | ((codePoint >> 6) & 0x3F));
+                out.write(0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                out.write('?'); // 짝이 없는 surrogate (String.getBytes(UTF_8)와 동일하게 대체)
+            } else {
+                out.write(0xE0 | (c >> 12));
+                out.write(0x80 | ((c >> 6) & 0x3F));
+                out.write(0x80 | (c & 0x3F));
+            }
+        }
+        out.write('"');
+    }
+
+    private static void writeNumber(ByteSink out, byte[] name, Number value) {
+        if (value == null) {
+            return;
+        }
+        writeNumber(out, name, value.longValue());
+    }
+
+    private static void writeNumber(ByteSink out, byte[] name, long value) {
+        writeFieldName(out, name);
+        if (value < 0) {
+            out.write('-');
+            value = -value;
+        }
+        long divisor = 1;
+        while (value / divisor >= 10) {
+            divisor *= 10;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            out.write((int) ('0' + (value / divisor) % 10));
+        }
+    }
+
+    private static void writeUuid(ByteSink out, byte[] name, UUID uuid) {
+        writeFieldName(out, name);
+        out.write('"');
+        writeHex(out, uuid.getMostSignificantBits() >>> 32, 8);
+        out.write('-');
+        writeHex(out, uuid.getMostSignificantBits() >>> 16, 4);
+        out.write('-');
+        writeHex(out, uuid.getMostSignificantBits(), 4);
+        out.write('-');
+        writeHex(out, uuid.getLeastSignificantBits() >>> 48, 4);
+        out.write('-');
+        writeHex(out, uuid.getLeastSignificantBits(), 12);
+        out.write('"');
+    }
+
+    private static void writeHex(ByteSink out, long value, int digits) {
+        for (int shift = (digits - 1) * 4; shift >= 0; shift -= 4) {
+            out.write(HEX_DIGITS[(int) (value >>> shift) & 0xF]);
+        }
+    }
+
+    private static void writeFieldName(ByteSink out, byte[] name) {
+        if (out.length > 1) {
+            out.write(',');
+        }
+        out.write(name);
+    }
+
+    /**
+     * Base64URL 인코딩 (패딩 없음)
+     */
+    private static void writeBase64Url(ByteSink out, byte[] source, int length) {
+        out.ensureCapacity(out.length + (length * 4 + 2) / 3);
+        byte[] target = out.bytes;
+        int position = out.length;
+        int i = 0;
+        for (; i + 2 < length; i += 3) {
+            int bits = (source[i] & 0xFF) << 16 | (source[i + 1] & 0xFF) << 8 | (source[i + 2] & 0xFF);
+            target[position++] = BASE64URL_ALPHABET[bits >>> 18];
+            target[position++] = BASE64URL_ALPHABET[(bits >>> 12) & 0x3F];
+            target[position++] = BASE64URL_ALPHABET[(bits >>> 6) & 0x3F];
+            target[position++] = BASE64URL_ALPHABET[bits & 0x3F];
+        }
+        int remaining = length - i;
+        if (remaining == 1) {
+            int bits = (source[i] & 0xFF) << 16;
+            target[position++] = BASE64URL_ALPHABET[bits >>> 18];
+            target[position++] = BASE64URL_ALPHABET[(bits >>> 12) & 0x3F];
+        } else if (remaining == 2) {
+            int bits = (source[i] & 0xFF) << 16 | (source[i + 1] & 0xFF) << 8;
+            target[position++] = BASE64URL_ALPHABET[bits >>> 18];
+            target[position++] = BASE64URL_ALPHABET[(bits >>> 12) & 0x3F];
+            target[position++] = BASE64URL_ALPHABET[(bits >>> 6) & 0x3F];
+        }
+        out.length = position;
+    }
+
+    private static byte[] fieldName(String name) {
+        return ("\"" + name + "\":").getBytes(StandardCharsets.US_ASCII);
+    }
+
+    /**
+     * 서명 키별 인코딩된 헤더
+     */
+    private static class EncodedHeader {
+        private final JwtKeyProvider.SigningKey signingKey;
+        private final byte[] bytes;
+
+        EncodedHeader(JwtKeyProvider.SigningKey signingKey, byte[] bytes) {
+            this.signingKey = signingKey;
+            this.bytes = bytes;
+        }
+    }
+
+    /**
+     * 스레드별 재사용 버퍼 + Mac
+     */
+    private static class Buffers {
+        private final ByteSink json = new ByteSink(512);
+        private final ByteSink token = new ByteSink(1024);
+        private byte[] signature = new byte[64];
+        private Mac mac;
+        private Key macKey;
+
+        Mac mac(JwtKeyProvider.SigningKey signingKey) {
+            Key key = signingKey.getKey();
+            if (mac == null || macKey != key) {
+                try {
+                    Mac initialized = Mac.getInstance(signingKey.getAlgorithm().getJcaName());
+                    initialized.init(key);
+                    mac = initialized;
+                    macKey = key;
+                } catch (GeneralSecurityException e) {
+                    throw new IllegalStateException("HMAC 초기화에 실패했습니다: " + signingKey.getAlgorithm(), e);
+                }
+            }
+            return mac;
+        }
+
+        byte[] signature(int length) {
+            if (signature.length < length) {
+                signature = new byte[length];
+            }
+            return signature;
+        }
+    }
+
+    /**
+     * 확장 가능한 바이트 버퍼
+     */
+    private static class ByteSink {
+        private byte[] bytes;
+        private int length;
+
+        ByteSink(int initialCapacity) {
+            this.bytes = new byte[initialCapacity];
+        }
+
+        void reset() {
+            length = 0;
+        }
+
+        void write(int b) {
+            if (length == bytes.length) {
+                ensureCapacity(length + 1);
+            }
+            bytes[length++] = (byte) b;
+        }
+
+        void write(byte[] source) {
+            ensureCapacity(length + source.length);
+            System.arraycopy(source, 0, bytes, length, source.length);
+            length += source.length;
+        }
+
+        void ensureCapacity(int capacity) {
+            if (capacity > bytes.length) {
+                byte[] grown = new byte[Math.max(capacity, bytes.length * 2)];
+                System.arraycopy(bytes, 0, grown, 0, length);
+                bytes = grown;
+            }
+        }
+
+        byte[] toByteArray() {
+            byte[] copy = new byte[length];
+            System.arraycopy(bytes, 0, copy, 0, length);
+            return copy;
+        }
+    }
+}
@@ -0,0 +1,424 @@
+package com.nsmm.esg.auth_service.util;
+
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.SecretKey;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.interfaces.ECPrivateKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JWT 서명/검증 키 관리 컴포넌트 (키 링)
+ *
+ * 지원 알고리즘:
+ * - HS512: 공유 비밀키 - 기본값
+ * - ES256: P-256 비대칭 키 (jwt.ec.private-key / jwt.ec.public-key)
+ *
+ * 키 링 구성:
+ * - 서명 키는 항상 하나 (HS512: jwt.keys.current-kid, ES256: EC 개인키)
+ * - 검증 키는 kid 헤더로 선택 (jwt.keys.hmac.{kid}, ES256 공개키는 JWK Thumbprint가 kid)
+ * - kid가 없는 HS512 토큰은 jwt.secret으로 검증 (키 링 도입 전 발급 토큰 호환)
+ *
+ * 키 교체:
+ * - 설정 갱신(EnvironmentChangeEvent) 시 재시작 없이 키 링을 다시 구성
+ * - 설정에서 빠진 키는 최대 토큰 수명(access/refresh 중 긴 쪽) 동안 검증용으로 유지
+ *   → 이미 발급된 토큰은 만료 시까지 유효, 전체 재로그인 불필요
+ * - 키 링은 불변 스냅샷을 volatile로 교체하므로 검증 경로는 잠금 없이 O(1) 조회
+ */
+@Slf4j
+@Component
+public class JwtKeyProvider {
+
+    private static final String DEFAULT_SECRET = "mySecretKeyForJWTTokenGenerationAndValidationPurposeOnly123456789";
+    private static final long DEFAULT_ACCESS_EXPIRATION = 900000L;
+    private static final long DEFAULT_REFRESH_EXPIRATION = 604800000L;
+    private static final int P256_COORDINATE_LENGTH = 32; // P-256 좌표 바이트 길이
+
+    private final Environment environment; // null이면 설정 갱신 미지원 (벤치마크 등 수동 생성)
+    private volatile KeyRing keyRing;
+
+    @Autowired
+    public JwtKeyProvider(Environment environment) {
+        this.environment = environment;
+        this.keyRing = KeyRing.build(KeySettings.from(environment), KeyRing.EMPTY, System.currentTimeMillis());
+        logKeyRing("JWT 키 링 초기화", keyRing);
+    }
+
+    /**
+     * 단일 키 구성으로 생성 (jwt.keys 미사용, 설정 갱신 미지원)
+     */
+    public JwtKeyProvider(String secret, String algorithm, String ecPrivateKey, String ecPublicKey) {
+        this.environment = null;
+        KeySettings settings = new KeySettings(secret, algorithm, ecPrivateKey, ecPublicKey, "", Map.of(),
+                Math.max(DEFAULT_ACCESS_EXPIRATION, DEFAULT_REFRESH_EXPIRATION));
+        this.keyRing = KeyRing.build(settings, KeyRing.EMPTY, System.currentTimeMillis());
+        logKeyRing("JWT 키 링 초기화", keyRing);
+    }
+
+    /**
+     * 설정 갱신 이벤트 처리 - jwt.* 설정이 바뀐 경우에만 키 링 재구성
+     */
+    @EventListener
+    public void onEnvironmentChange(EnvironmentChangeEvent event) {
+        boolean jwtChanged = event.getKeys().stream().anyMatch(key -> key.startsWith("jwt."));
+        if (jwtChanged) {
+            reload();
+        }
+    }
+
+    /**
+     * 현재 설정으로 키 링 재구성
+     * 잘못된 설정이면 기존 키 링을 유지 (운영 중 인증 중단 방지)
+     */
+    public synchronized void reload() {
+        if (environment == null) {
+            return;
+        }
+
+        try {
+            KeyRing reloaded = KeyRing.build(KeySettings.from(environment), keyRing, System.currentTimeMillis());
+            keyRing = reloaded;
+            logKeyRing("JWT 키 링 갱신", reloaded);
+        } catch (RuntimeException e) {
+            log.error("JWT 키 링 갱신 실패 - 기존 키 링을 유지합니다: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 현재 서명 키 (알고리즘/키/kid를 한 스냅샷에서 반환하여 교체 중에도 일관성 보장)
+     */
+    public SigningKey getSigningKey() {
+        return keyRing.signingKey;
+    }
+
+    /**
+     * 토큰 헤더의 kid/alg에 맞는 검증 키 선택
+     * - kid 없음: HS512 레거시 키 (jwt.secret)
+     * - kid 있음: 키 링에서 조회, 유예 기간이 지난 키나 alg 불일치는 거부 (알고리즘 혼동 공격 방지)
+     */
+    public Key resolveVerificationKey(JwsHeader<?> header) {
+        KeyRing ring = keyRing;
+        String alg = header.getAlgorithm();
+        String kid = header.getKeyId();
+
+        if (kid == null) {
+            if (SignatureAlgorithm.HS512.getValue().equals(alg)) {
+                return ring.legacyHmacKey;
+            }
+            throw new UnsupportedJwtException("kid가 없는 토큰은 HS512만 지원합니다: " + alg);
+        }
+
+        VerificationKey verificationKey = ring.verificationKeys.get(kid);
+        if (verificationKey == null || verificationKey.getNotAfterMillis() < System.currentTimeMillis()) {
+            throw new SignatureException("알 수 없거나 만료된 서명 키입니다: " + kid);
+        }
+        if (!verificationKey.getAlgorithm().getValue().equals(alg)) {
+            throw new UnsupportedJwtException("서명 키와 알고리즘이 일치하지 않습니다: " + alg);
+        }
+        return verificationKey.getKey();
+    }
+
+    /**
+     * 공개키 JWK 목록 (JWKS keys 배열)
+     * HS512 비밀키는 공개 대상이 아니므로 ES256 공개키만 포함 (유예 중인 이전 키 포함)
+     */
+    public List<Map<String, Object>> getPublicJwks() {
+        long now = System.currentTimeMillis();
+        return keyRing.verificationKeys.values().stream()
+                .filter(key -> key.getJwk() != null && key.getNotAfterMillis() >= now)
+                .map(VerificationKey::getJwk)
+                .toList();
+    }
+
+    private static void logKeyRing(String message, KeyRing ring) {
+        log.info("{}: algorithm={}, signingKid={}, verificationKids={}", message,
+                ring.signingKey.getAlgorithm(), ring.signingKey.getKeyId(), ring.verificationKeys.keySet());
+    }
+
+    /**
+     * 서명 키 스냅샷
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class SigningKey {
+        private final SignatureAlgorithm algorithm;
+        private final Key key;
+        private final String keyId; // kid 헤더 (null이면 생략)
+    }
+
+    /**
+     * 검증 키 항목 (notAfterMillis: 설정에서 빠진 키의 검증 허용 기한, 활성 키는 Long.MAX_VALUE)
+     */
+    @Getter
+    @AllArgsConstructor
+    private static class VerificationKey {
+        private final Key key;
+        private final SignatureAlgorithm algorithm;
+        private final Map<String, Object> jwk; // ES256 공개키만 존재
+        private final long notAfterMillis;
+
+        boolean isActive() {
+            return notAfterMillis == Long.MAX_VALUE;
+        }
+
+        VerificationKey retire(long notAfterMillis) {
+            return new VerificationKey(key, algorithm, jwk, notAfterMillis);
+        }
+    }
+
+    /**
+     * 키 관련 설정 값
+     */
+    @AllArgsConstructor
+    private static class KeySettings {
+        private final String secret;
+        private final String algorithm;
+        private final String ecPrivateKey;
+        private final String ecPublicKey;
+        private final String currentKid;
+        private final Map<String, String> hmacKeys; // kid → 비밀키
+        private final long retentionMillis; // 설정에서 빠진 키의 검증 유예 기간
+
+        static KeySettings from(Environment environment) {
+            Map<String, String> hmacKeys = Binder.get(environment)
+                    .bind("jwt.keys.hmac", Bindable.mapOf(String.class, String.class))
+                    .orElse(Map.of());
+            long accessExpiration = environment.getProperty("jwt.expiration", Long.class, DEFAULT_ACCESS_EXPIRATION);
+            long refreshExpiration = environment.getProperty("jwt.refresh-expiration", Long.class,
+                    DEFAULT_REFRESH_EXPIRATION);
+
+            return new KeySettings(
+                    environment.getProperty("jwt.secret", DEFAULT_SECRET),
+                    environment.getProperty("jwt.algorithm", "HS512"),
+                    environment.getProperty("jwt.ec.private-key", ""),
+                    environment.getProperty("jwt.ec.public-key", ""),
+                    environment.getProperty("jwt.keys.current-kid", ""),
+                    hmacKeys,
+                    Math.max(accessExpiration, refreshExpiration));
+        }
+
+        String ecKeySource() {
+            return ecPrivateKey + "|" + ecPublicKey;
+        }
+    }
+
+    /**
+     * 불변 키 링 스냅샷
+     */
+    @AllArgsConstructor
+    private static class KeyRing {
+
+        static final KeyRing EMPTY = new KeyRing(null, null, Map.of(), null, null);
+
+        private final SigningKey signingKey;
+        private final SecretKey legacyHmacKey; // kid 없는 HS512 토큰 검증용 (jwt.secret)
+        private final Map<String, VerificationKey> verificationKeys; // kid → 검증 키
+        private final KeyPair ecKeyPair; // 설정이 그대로면 재사용 (임시 키 유지)
+        private final String ecKeySource;
+
+        /**
+         * 설정과 이전 키 링으로 새 키 링 구성
+         */
+        static KeyRing build(KeySettings settings, KeyRing previous, long now) {
+            SignatureAlgorithm algorithm = parseAlgorithm(settings.algorithm);
+            SecretKey legacyHmacKey = Keys.hmacShaKeyFor(settings.secret.getBytes(StandardCharsets.UTF_8));
+            Map<String, VerificationKey> keys = new HashMap<>();
+
+            // HS512 kid 키
+            settings.hmacKeys.forEach((kid, secret) -> keys.put(kid, new VerificationKey(
+                    Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)), SignatureAlgorithm.HS512, null,
+                    Long.MAX_VALUE)));
+
+            // ES256 키 (설정이 바뀌지 않았으면 기존 키 쌍 재사용)
+            String ecKeySource = settings.ecKeySource();
+            KeyPair ecKeyPair = previous.ecKeyPair != null && ecKeySource.equals(previous.ecKeySource)
+                    ? previous.ecKeyPair
+                    : loadEcKeyPair(settings.ecPrivateKey, settings.ecPublicKey,
+                            algorithm == SignatureAlgorithm.ES256);
+            String ecKeyId = null;
+            if (ecKeyPair != null) {
+                ECPublicKey publicKey = (ECPublicKey) ecKeyPair.getPublic();
+                ecKeyId = thumbprint(publicKey);
+                keys.put(ecKeyId, new VerificationKey(publicKey, SignatureAlgorithm.ES256, toJwk(publicKey, ecKeyId),
+                        Long.MAX_VALUE));
+            }
+
+            // 설정에서 빠진 이전 키는 유예 기한까지 검증용으로 유지
+            previous.verificationKeys.forEach((kid, key) -> {
+                if (keys.containsKey(kid)) {
+                    return;
+                }
+                long notAfter = key.isActive() ? now + settings.retentionMillis : key.getNotAfterMillis();
+                if (notAfter > now) {
+                    keys.put(kid, key.retire(notAfter));
+                }
+            });
+
+            SigningKey signingKey = resolveSigningKey(algorithm, settings, keys, legacyHmacKey, ecKeyPair, ecKeyId);
+            return new KeyRing(signingKey, legacyHmacKey, Map.copyOf(keys), ecKeyPair, ecKeySource);
+        }
+
+        /**
+         * 서명 키 선택
+         * - ES256: EC 개인키 + Thumbprint kid
+         * - HS512 + current-kid: 키 링의 해당 키 + kid
+         * - HS512 (kid 미설정): jwt.secret, kid 생략 (기존 동작)
+         */
+        private static SigningKey resolveSigningKey(SignatureAlgorithm algorithm, KeySettings settings,
+                Map<String, VerificationKey> keys, SecretKey legacyHmacKey, KeyPair ecKeyPair, String ecKeyId) {
+            if (algorithm == SignatureAlgorithm.ES256) {
+                return new SigningKey(algorithm, ecKeyPair.getPrivate(), ecKeyId);
+            }
+            if (!StringUtils.hasText(settings.currentKid)) {
+                return new SigningKey(algorithm, legacyHmacKey, null);
+            }
+
+            VerificationKey current = keys.get(settings.currentKid);
+            if (current == null || !current.isActive() || current.getAlgorithm() != SignatureAlgorithm.HS512) {
+                throw new IllegalStateException(
+                        "jwt.keys.current-kid에 해당하는 HS512 키가 없습니다: " + settings.currentKid);
+            }
+            return new SigningKey(algorithm, current.getKey(), settings.currentKid);
+        }
+    }
+
+    /**
+     * 설정 문자열을 서명 알고리즘으로 변환 (HS512, ES256만 허용)
+     */
+    private static SignatureAlgorithm parseAlgorithm(String algorithm) {
+        if ("ES256".equalsIgnoreCase(algorithm)) {
+            return SignatureAlgorithm.ES256;
+        }
+        if ("HS512".equalsIgnoreCase(algorithm)) {
+            return SignatureAlgorithm.HS512;
+        }
+        throw new IllegalArgumentException("지원되지 않는 JWT 서명 알고리즘입니다: " + algorithm);
+    }
+
+    /**
+     * ES256 키 쌍 로드
+     * 키가 설정되지 않았고 ES256 서명이 필요하면 임시 키를 생성 (단일 인스턴스 개발용)
+     */
+    private static KeyPair loadEcKeyPair(String privateKey, String publicKey, boolean required) {
+        try {
+            if (StringUtils.hasText(privateKey) && StringUtils.hasText(publicKey)) {
+                KeyFactory keyFactory = KeyFactory.getInstance("EC");
+                ECPrivateKey ecPrivate = (ECPrivateKey) keyFactory
+                        .generatePrivate(new PKCS8EncodedKeySpec(decodePem(privateKey)));
+                ECPublicKey ecPublic = (ECPublicKey) keyFactory
+                        .generatePublic(new X509EncodedKeySpec(decodePem(publicKey)));
+
+                if (ecPublic.getParams().getCurve().getField().getFieldSize() != 256) {
+                    throw new IllegalArgumentException("ES256에는 P-256 곡선 키가 필요합니다.");
+                }
+                return new KeyPair(ecPublic, ecPrivate);
+            }
+
+            if (!required) {
+                return null;
+            }
+
+            log.warn("jwt.ec.private-key/public-key가 설정되지 않아 임시 ES256 키를 생성합니다. " +
+                    "재시작 시 기존 토큰이 무효화되며 다중 인스턴스 환경에서는 사용할 수 없습니다.");
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec("secp256r1"));
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException | ClassCastException e) {
+            throw new IllegalStateException("ES256 키를 불러올 수 없습니다: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * PEM 또는 Base64 문자열을 DER 바이트로 변환
+     */
+    private static byte[] decodePem(String value) {
+        String base64 = value
+                .replaceAll("-----(BEGIN|END) [A-Z ]+-----", "")
+                .replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
+    }
+
+    /**
+     * ES256 공개키 JWK (RFC 7517)
+     */
+    private static Map<String, Object> toJwk(ECPublicKey publicKey, String keyId) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kty", "EC");
+        jwk.put("crv", "P-256");
+        jwk.put("x", base64Url(toUnsignedCoordinate(publicKey.getW().getAffineX())));
+        jwk.put("y", base64Url(toUnsignedCoordinate(publicKey.getW().getAffineY())));
+        jwk.put("use", "sig");
+        jwk.put("alg", SignatureAlgorithm.ES256.getValue());
+        jwk.put("kid", keyId);
+        return Collections.unmodifiableMap(jwk);
+    }
+
+    /**
+     * RFC 7638 JWK Thumbprint (kid로 사용)
+     */
+    private static String thumbprint(ECPublicKey publicKey) {
+        String canonical = String.format("{\"crv\":\"P-256\",\"kty\":\"EC\",\"x\":\"%s\",\"y\":\"%s\"}",
+                base64Url(toUnsignedCoordinate(publicKey.getW().getAffineX())),
+                base64Url(toUnsignedCoordinate(publicKey.getW().getAffineY())));
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return base64Url(hash);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("JWK Thumbprint 계산에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 타원곡선 좌표를 고정 길이(32바이트) 부호 없는 빅엔디안 배열로 변환
+     */
+    private static byte[] toUnsignedCoordinate(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length == P256_COORDINATE_LENGTH) {
+            return bytes;
+        }
+        byte[] result = new byte[P256_COORDINATE_LENGTH];
+        if (bytes.length > P256_COORDINATE_LENGTH) {
+            // 부호 비트용 선행 0 제거
+            System.arraycopy(bytes, bytes.length - P256_COORDINATE_LENGTH, result, 0, P256_COORDINATE_LENGTH);
+        } else {
+            // 선행 0 채우기
+            System.arraycopy(bytes, 0, result, P256_COORDINATE_LENGTH - bytes.length, bytes.length);
+        }
+        return result;
+    }
+
+    private static String base64Url(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
@@ -1,16 +1,23 @@
 package com.nsmm.esg.auth_service.util;
 
 import com.nsmm.esg.auth_service.dto.JwtClaims;
+import com.nsmm.esg.auth_service.dto.RefreshTokenClaims;
+import com.nsmm.esg.auth_service.dto.TokenVerificationResult;
+import com.nsmm.esg.auth_service.dto.TokenVerificationResult.RejectionReason;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 
 /**
  * JWT 토큰 생성 및 검증 유틸리티
@@ -19,46 +26,116 @@ import java.util.Map;
 @Component
 public class JwtUtil {
 
-    private final SecretKey secretKey;
+    private static final String TOKEN_TYPE_CLAIM = "tokenType";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
+
+    // 서명 검증 전 사전 확인용
+    private static final int MAX_TOKEN_LENGTH = 8192;
+    private static final byte[] EXP_KEY = "\"exp\"".getBytes(StandardCharsets.US_ASCII);
+    private static final long EXP_MISSING = -1L;
+    private static final long EXP_UNPARSEABLE = -2L;
+    private static final byte[] BASE64URL_VALUES = base64UrlValues();
+    private static final RateLimitedLogger REJECTION_LOG = new RateLimitedLogger(log, Duration.ofSeconds(10));
+
+    private final JwtKeyProvider keyProvider;
+    private final JwtParser jwtParser; // 생성 비용이 크므로 한 번만 생성 (스레드 안전)
+    private final ClaimsProfile claimsProfile;
+    private final HmacTokenWriter hmacTokenWriter;
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
 
     public JwtUtil(
-            @Value("${jwt.secret:mySecretKeyForJWTTokenGenerationAndValidationPurposeOnly123456789}") String secret,
+            JwtKeyProvider keyProvider,
             @Value("${jwt.expiration:900000}") long accessTokenExpiration,
-            @Value("${jwt.refresh-expiration:604800000}") long refreshTokenExpiration) { // n 하나 제거
-        this.secretKey = Keys.hmacShaKeyFor(secret.getBytes());
+            @Value("${jwt.refresh-expiration:604800000}") long refreshTokenExpiration, // n 하나 제거
+            @Value("${jwt.claims.profile:standard}") String claimsProfile) {
+        this.keyProvider = keyProvider;
+        this.claimsProfile = ClaimsProfile.from(claimsProfile);
+        this.hmacTokenWriter = new HmacTokenWriter(this.claimsProfile);
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        // 헤더의 kid/alg에 맞는 키 링의 키로 검증
+                        return keyProvider.resolveVerificationKey(header);
+                    }
+                })
+                .build();
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration; // 이제 매치됨
     }
 
     /**
      * Access Token 생성
+     * HMAC 서명 키는 전용 작성기(HmacTokenWriter), 그 외(ES256)는 JJWT 경로 사용
      */
     public String generateAccessToken(JwtClaims claims) {
-        Map<String, Object> claimsMap = createClaimsMap(claims);
+        JwtKeyProvider.SigningKey signingKey = keyProvider.getSigningKey();
+        UUID tokenId = UUID.randomUUID(); // 로그아웃 시 폐기 대상 식별
+        long now = System.currentTimeMillis();
 
-        return Jwts.builder()
-                .setClaims(claimsMap)
+        if (HmacTokenWriter.supports(signingKey)) {
+            return hmacTokenWriter.write(signingKey, claims, tokenId, now, now + accessTokenExpiration);
+        }
+
+        return newSignedBuilder(signingKey)
+                .setClaims(createClaimsMap(claims))
                 .setSubject(claims.getAccountNumber())
-                .setIssuedAt(new Date())
-                .setExpiration(new Date(System.currentTimeMillis() + accessTokenExpiration))
-                .signWith(secretKey, SignatureAlgorithm.HS512)
+                .setId(tokenId.toString())
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + accessTokenExpiration))
                 .compact();
     }
 
     /**
      * Refresh Token 생성
+     * 토큰 패밀리/토큰 ID(jti)와 PK 조회용 사용자 ID 포함, tokenType으로 Access Token과 구분
      */
-    public String generateRefreshToken(String accountNumber) {
-        return Jwts.builder()
+    public String generateRefreshToken(String accountNumber, String userType, Long entityId,
+            String familyId, String tokenId) {
+        return newSignedBuilder(keyProvider.getSigningKey())
                 .setSubject(accountNumber)
+                .setId(tokenId)
+                .claim(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE)
+                .claim("userType", userType)
+                .claim("entityId", entityId)
+                .claim("familyId", familyId)
                 .setIssuedAt(new Date())
                 .setExpiration(new Date(System.currentTimeMillis() + refreshTokenExpiration))
-                .signWith(secretKey, SignatureAlgorithm.HS512)
                 .compact();
     }
 
+    /**
+     * Refresh Token 검증 및 클레임 추출
+     * 서명/만료 오류는 JwtException, Access Token이 전달되면 UnsupportedJwtException
+     */
+    public RefreshTokenClaims parseRefreshToken(String token) {
+        Claims claims = getClaimsFromToken(token);
+        if (!REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class))) {
+            throw new UnsupportedJwtException("Refresh Token이 아닙니다.");
+        }
+
+        return RefreshTokenClaims.builder()
+                .accountNumber(claims.getSubject())
+                .userType(claims.get("userType", String.class))
+                .entityId(claims.get("entityId", Long.class))
+                .familyId(claims.get("familyId", String.class))
+                .tokenId(claims.getId())
+                .build();
+    }
+
+
+    /**
+     * 서명 키 스냅샷이 적용된 JwtBuilder 생성 (키 링의 kid 헤더 포함)
+     */
+    private JwtBuilder newSignedBuilder(JwtKeyProvider.SigningKey signingKey) {
+        JwtBuilder builder = Jwts.builder()
+                .signWith(signingKey.getKey(), signingKey.getAlgorithm());
+        if (signingKey.getKeyId() != null) {
+            builder.setHeaderParam(JwsHeader.KEY_ID, signingKey.getKeyId());
+        }
+        return builder;
+    }
 
     /**
      * 토큰에서 만료 시간 추출
@@ -68,22 +145,162 @@ public class JwtUtil {
     }
 
     /**
-     * 토큰 유효성 검증
+     * 토큰 검증 및 클레임 추출 (단일 파싱)
+     * 구조/만료 사전 확인을 통과한 토큰만 서명 검증하고 결과를 상태값으로 반환
      */
-    public boolean validateToken(String token) {
+    public TokenVerificationResult verifyToken(String token) {
+        TokenVerificationResult rejected = precheck(token);
+        if (rejected != null) {
+            return rejected;
+        }
+
         try {
-            getClaimsFromToken(token);
-            return true;
-        } catch (SecurityException | MalformedJwtException e) {
-            log.error("잘못된 JWT 서명입니다: {}", e.getMessage());
+            Claims claims = getClaimsFromToken(token);
+            if (REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM))) {
+                // Refresh Token은 인증 용도로 사용할 수 없음
+                REJECTION_LOG.warn("wrong_token_type", "Refresh Token이 Access Token으로 사용되었습니다: {}",
+                        claims.getSubject());
+                return TokenVerificationResult.rejected(RejectionReason.WRONG_TOKEN_TYPE);
+            }
+            return TokenVerificationResult.valid(toJwtClaims(claims), claims.getExpiration());
         } catch (ExpiredJwtException e) {
-            log.error("만료된 JWT 토큰입니다: {}", e.getMessage());
+            // 사전 확인과 서명 검증 사이에 만료된 경우
+            return TokenVerificationResult.expired();
+        } catch (SignatureException e) {
+            return reject(RejectionReason.BAD_SIGNATURE, e);
+        } catch (MalformedJwtException e) {
+            return reject(RejectionReason.MALFORMED, e);
         } catch (UnsupportedJwtException e) {
-            log.error("지원되지 않는 JWT 토큰입니다: {}", e.getMessage());
-        } catch (IllegalArgumentException e) {
-            log.error("JWT 토큰이 잘못되었습니다: {}", e.getMessage());
+            return reject(RejectionReason.UNSUPPORTED, e);
+        } catch (JwtException | IllegalArgumentException e) {
+            return reject(RejectionReason.INVALID, e);
+        }
+    }
+
+    /**
+     * 서명 검증 전 사전 확인 (MAC 계산/예외 생성 없음)
+     * 빈 토큰, 구조 오류(세 구간/Base64URL), exp 클레임 누락 또는 만료면 거부 결과, 통과하면 null
+     * 서명을 확인하기 전이므로 거부에만 사용 (통과한 토큰은 반드시 서명 검증)
+     */
+    private TokenVerificationResult precheck(String token) {
+        if (token == null || token.isBlank()) {
+            return TokenVerificationResult.rejected(RejectionReason.EMPTY);
+        }
+        if (token.length() > MAX_TOKEN_LENGTH) {
+            return TokenVerificationResult.rejected(RejectionReason.MALFORMED);
+        }
+
+        int headerEnd = token.indexOf('.');
+        int payloadEnd = headerEnd < 0 ? -1 : token.indexOf('.', headerEnd + 1);
+        if (headerEnd <= 0 || payloadEnd <= headerEnd + 1 || payloadEnd == token.length() - 1
+                || token.indexOf('.', payloadEnd + 1) >= 0) {
+            return TokenVerificationResult.rejected(RejectionReason.MALFORMED);
+        }
+
+        byte[] payload = decodeBase64Url(token, headerEnd + 1, payloadEnd);
+        if (payload == null) {
+            return TokenVerificationResult.rejected(RejectionReason.MALFORMED);
+        }
+
+        long expSeconds = findExpClaim(payload);
+        if (expSeconds == EXP_MISSING) {
+            return TokenVerificationResult.rejected(RejectionReason.MALFORMED); // 발급하는 모든 토큰에 exp 포함
+        }
+        if (expSeconds != EXP_UNPARSEABLE && System.currentTimeMillis() > expSeconds * 1000L) {
+            return TokenVerificationResult.expired();
+        }
+        return null;
+    }
+
+    /**
+     * 서명 검증 단계의 거부 (사유별 빈도 제한 로그)
+     */
+    private TokenVerificationResult reject(RejectionReason reason, Exception e) {
+        REJECTION_LOG.warn(reason.tag(), "JWT 토큰 검증 실패 ({}): {}", reason.tag(), e.getMessage());
+        return TokenVerificationResult.rejected(reason);
+    }
+
+    /**
+     * Base64URL(패딩 없음) 디코딩 - 허용되지 않는 문자나 길이면 null
+     */
+    private static byte[] decodeBase64Url(String source, int from, int to) {
+        int length = to - from;
+        if (length % 4 == 1) {
+            return null;
+        }
+
+        byte[] decoded = new byte[length * 3 / 4];
+        int buffer = 0;
+        int bits = 0;
+        int position = 0;
+        for (int i = from; i < to; i++) {
+            char c = source.charAt(i);
+            int value = c < BASE64URL_VALUES.length ? BASE64URL_VALUES[c] : -1;
+            if (value < 0) {
+                return null;
+            }
+            buffer = (buffer << 6) | value;
+            bits += 6;
+            if (bits >= 8) {
+                bits -= 8;
+                decoded[position++] = (byte) (buffer >> bits);
+            }
+        }
+        return decoded;
+    }
+
+    /**
+     * 페이로드 JSON에서 최상위 "exp" 숫자 값 추출 (초 단위)
+     * 문자열 값 안의 따옴표는 이스케이프되므로 "exp": 패턴은 클레임 이름에서만 나타남
+     */
+    private static long findExpClaim(byte[] payload) {
+        outer:
+        for (int i = 0; i <= payload.length - EXP_KEY.length; i++) {
+            for (int j = 0; j < EXP_KEY.length; j++) {
+                if (payload[i + j] != EXP_KEY[j]) {
+                    continue outer;
+                }
+            }
+
+            int p = i + EXP_KEY.length;
+            while (p < payload.length && payload[p] == ' ') {
+                p++;
+            }
+            if (p >= payload.length || payload[p] != ':') {
+                continue;
+            }
+            p++;
+            while (p < payload.length && payload[p] == ' ') {
+                p++;
+            }
+
+            long value = 0;
+            int digits = 0;
+            while (p < payload.length && payload[p] >= '0' && payload[p] <= '9' && digits < 18) {
+                value = value * 10 + (payload[p++] - '0');
+                digits++;
+            }
+            boolean terminated = p < payload.length && (payload[p] == ',' || payload[p] == '}' || payload[p] == ' ');
+            return digits > 0 && terminated ? value : EXP_UNPARSEABLE; // 소수/지수 표기 등은 서명 검증 단계에서 판단
         }
-        return false;
+        return EXP_MISSING;
+    }
+
+    private static byte[] base64UrlValues() {
+        byte[] values = new byte[128];
+        Arrays.fill(values, (byte) -1);
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789-_";
+        for (int i = 0; i < alphabet.length(); i++) {
+            values[alphabet.charAt(i)] = (byte) i;
+        }
+        return values;
+    }
+
+    /**
+     * 토큰 유효성 검증
+     */
+    public boolean validateToken(String token) {
+        return verifyToken(token).isValid();
     }
 
 
@@ -91,7 +308,34 @@ public class JwtUtil {
      * 토큰에서 모든 클레임 정보 추출
      */
     public JwtClaims getAllClaimsFromToken(String token) {
-        Claims claims = getClaimsFromToken(token);
+        return toJwtClaims(getClaimsFromToken(token));
+    }
+
+    /**
+     * 토큰에서 Claims 추출
+     */
+    private Claims getClaimsFromToken(String token) {
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
+    /**
+     * Claims를 JwtClaims DTO로 변환 (STANDARD/COMPACT 형식 모두 해석)
+     */
+    private JwtClaims toJwtClaims(Claims claims) {
+        if (claims.containsKey(ClaimsProfile.USER_TYPE)) {
+            String accountNumber = claims.getSubject();
+            return JwtClaims.builder()
+                    .accountNumber(accountNumber)
+                    .companyName(claims.get(ClaimsProfile.COMPANY_NAME, String.class))
+                    .userType(ClaimsProfile.userTypeOf(claims.get(ClaimsProfile.USER_TYPE)))
+                    .level(claims.get(ClaimsProfile.LEVEL, Integer.class))
+                    .treePath(ClaimsProfile.absoluteTreePath(accountNumber,
+                            claims.get(ClaimsProfile.TREE_PATH, String.class)))
+                    .headquartersId(claims.get(ClaimsProfile.HEADQUARTERS_ID, Long.class))
+                    .partnerId(claims.get(ClaimsProfile.PARTNER_ID, Long.class))
+                    .tokenId(claims.getId())
+                    .build();
+        }
 
         return JwtClaims.builder()
                 .accountNumber(claims.getSubject())
@@ -101,31 +345,37 @@ public class JwtUtil {
                 .treePath(claims.get("treePath", String.class))
                 .headquartersId(claims.get("headquartersId", Long.class))
                 .partnerId(claims.get("partnerId", Long.class))
+                .tokenId(claims.getId())
                 .build();
     }
 
     /**
-     * 토큰에서 Claims 추출
-     */
-    private Claims getClaimsFromToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
-    /**
-     * Claims Map 생성
+     * Claims Map 생성 (JJWT 경로용, 클레임 프로필 적용)
      */
     private Map<String, Object> createClaimsMap(JwtClaims claims) {
         Map<String, Object> claimsMap = new HashMap<>();
+        boolean partner = "PARTNER".equals(claims.getUserType()) && claims.getPartnerId() != null;
+
+        if (claimsProfile == ClaimsProfile.COMPACT) {
+            Integer userTypeCode = ClaimsProfile.userTypeCode(claims.getUserType());
+            claimsMap.put(ClaimsProfile.COMPANY_NAME, claims.getCompanyName());
+            claimsMap.put(ClaimsProfile.USER_TYPE, userTypeCode != null ? userTypeCode : claims.getUserType());
+            claimsMap.put(ClaimsProfile.HEADQUARTERS_ID, claims.getHeadquartersId());
+            if (partner) {
+                claimsMap.put(ClaimsProfile.PARTNER_ID, claims.getPartnerId());
+                claimsMap.put(ClaimsProfile.LEVEL, claims.getLevel());
+                claimsMap.put(ClaimsProfile.TREE_PATH,
+                        ClaimsProfile.relativeTreePath(claims.getAccountNumber(), claims.getTreePath()));
+            }
+            return claimsMap;
+        }
+
         claimsMap.put("companyName", claims.getCompanyName());
         claimsMap.put("userType", claims.getUserType());
         claimsMap.put("headquartersId", claims.getHeadquartersId());
 
         // 협력사인 경우에만 partnerId 추가
-        if ("PARTNER".equals(claims.getUserType()) && claims.getPartnerId() != null) {
+        if (partner) {
             claimsMap.put("partnerId", claims.getPartnerId());
             claimsMap.put("level", claims.getLevel());
             claimsMap.put("treePath", claims.getTreePath());
@@ -138,5 +388,9 @@ public class JwtUtil {
         return accessTokenExpiration;
     }
 
+    public long getRefreshTokenExpiration() {
+        return refreshTokenExpiration;
+    }
+
 
 }
\ No newline at end of file
@@ -0,0 +1,89 @@
+package com.nsmm.esg.auth_service.util;
+
+/**
+ * long → int 해시 맵 (오픈 어드레싱, 박싱 없음)
+ *
+ * 협력사 ID → 트리 노드 번호 조회용
+ * - 키 0은 빈 슬롯 표시로 사용하므로 저장 불가 (협력사 ID는 1부터 시작)
+ * - 삭제 미지원 (트리 노드는 추가만 되고, 변경 시 인덱스를 다시 로드)
+ * - 스레드 안전하지 않음 (호출 측에서 잠금)
+ */
+public final class LongIntHashMap {
+
+    public static final int MISSING = -1;
+
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private int[] values;
+    private int size;
+    private int mask;
+
+    public LongIntHashMap(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+        this.keys = new long[capacity];
+        this.values = new int[capacity];
+        this.mask = capacity - 1;
+    }
+
+    public int get(long key) {
+        int slot = slot(key);
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return MISSING;
+    }
+
+    public void put(long key, int value) {
+        if (key == 0) {
+            throw new IllegalArgumentException("키 0은 저장할 수 없습니다.");
+        }
+        if (size + 1 > keys.length * LOAD_FACTOR) {
+            resize(keys.length << 1);
+        }
+        int slot = slot(key);
+        while (keys[slot] != 0) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 내부 배열 크기 (메모리 사용량 추정용, 바이트)
+     */
+    public long estimatedBytes() {
+        return (long) keys.length * (Long.BYTES + Integer.BYTES);
+    }
+
+    private int slot(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L; // 피보나치 해싱 (연속 ID 분산)
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void resize(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+}
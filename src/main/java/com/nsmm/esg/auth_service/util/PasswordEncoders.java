@@ -0,0 +1,100 @@
+package com.nsmm.esg.auth_service.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+import org.springframework.util.ClassUtils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 비밀번호 인코더 생성 유틸리티
+ *
+ * 기능:
+ * - {id} 접두사 기반 DelegatingPasswordEncoder 생성 (bcrypt / pbkdf2 / argon2)
+ * - 접두사 없는 기존 해시는 BCrypt로 검증 (도입 전 저장된 비밀번호 호환)
+ * - 현재 서버에서 목표 해시 시간에 맞는 BCrypt cost 계산 (기동 시 1회)
+ *
+ * 저장된 해시의 알고리즘/cost가 현재 설정보다 낮으면 upgradeEncoding이 true → 로그인 성공 시 재해시
+ */
+@Slf4j
+public final class PasswordEncoders {
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String PBKDF2 = "pbkdf2";
+    public static final String ARGON2 = "argon2";
+    public static final int DEFAULT_BCRYPT_STRENGTH = 10;
+
+    private static final int CALIBRATION_SAMPLES = 3;
+
+    private PasswordEncoders() {
+    }
+
+    /**
+     * DelegatingPasswordEncoder 생성
+     *
+     * @param idForEncode    새 해시에 사용할 알고리즘 (bcrypt / pbkdf2 / argon2)
+     * @param bcryptStrength 새 BCrypt 해시의 cost
+     */
+    public static PasswordEncoder delegating(String idForEncode, int bcryptStrength) {
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT, bcrypt);
+        encoders.put(PBKDF2, Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        if (isArgon2Available()) {
+            encoders.put(ARGON2, Argon2PasswordEncoder.defaultsForSpringSecurity_v5_8());
+        }
+
+        if (!encoders.containsKey(idForEncode)) {
+            throw new IllegalArgumentException("지원하지 않는 비밀번호 알고리즘입니다: " + idForEncode
+                    + (ARGON2.equals(idForEncode) ? " (BouncyCastle 의존성 필요)" : ""));
+        }
+
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(idForEncode, encoders);
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt); // 접두사 없는 기존 BCrypt 해시
+        return delegating;
+    }
+
+    /**
+     * 목표 해시 시간 이내에서 가장 높은 BCrypt cost 계산
+     * 최소 cost로 측정한 시간(최솟값)에서 cost가 1 오를 때마다 시간이 2배가 되는 것으로 추정
+     * 최소 cost도 목표를 넘으면 최소 cost 사용 (보안 하한)
+     */
+    public static int calibrateBCryptStrength(long targetMillis, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minStrength);
+        encoder.encode("calibration-warmup");
+
+        long bestNanos = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_SAMPLES; i++) {
+            long startedAt = System.nanoTime();
+            encoder.encode("calibration-" + i);
+            bestNanos = Math.min(bestNanos, System.nanoTime() - startedAt);
+        }
+
+        double estimatedMillis = bestNanos / 1_000_000.0;
+        int strength = minStrength;
+        while (strength < maxStrength && estimatedMillis * 2 <= targetMillis) {
+            estimatedMillis *= 2;
+            strength++;
+        }
+
+        if (estimatedMillis > targetMillis) {
+            log.warn("BCrypt 최소 cost({})도 목표 해시 시간({}ms)을 초과합니다: {}ms",
+                    minStrength, targetMillis, String.format("%.1f", estimatedMillis));
+        }
+        log.info("BCrypt cost 보정 완료: strength={}, 예상 해시 시간={}ms (목표 {}ms, cost {} 측정 {}ms)",
+                strength, String.format("%.1f", estimatedMillis), targetMillis,
+                minStrength, String.format("%.1f", bestNanos / 1_000_000.0));
+        return strength;
+    }
+
+    private static boolean isArgon2Available() {
+        return ClassUtils.isPresent("org.bouncycastle.crypto.generators.Argon2BytesGenerator",
+                PasswordEncoders.class.getClassLoader());
+    }
+}
@@ -1,7 +1,7 @@
 package com.nsmm.esg.auth_service.util;
 
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
@@ -20,11 +20,25 @@ import java.security.SecureRandom;
 @Component
 public class PasswordUtil {
 
+    /**
+     * 초기 비밀번호(= 계층적 아이디)를 해시하지 않고 저장할 때의 표식
+     * DelegatingPasswordEncoder에 없는 id이므로 needsRehash가 true → 첫 로그인 시 실제 해시로 교체
+     */
+    public static final String INITIAL_PASSWORD_MARKER = "{initial}";
+
     private final PasswordEncoder passwordEncoder;
     private final SecureRandom secureRandom;
 
+    /**
+     * 기본 설정 (bcrypt, cost 10) - 벤치마크 등 스프링 컨텍스트 밖에서 사용
+     */
     public PasswordUtil() {
-        this.passwordEncoder = new BCryptPasswordEncoder();
+        this(PasswordEncoders.delegating(PasswordEncoders.BCRYPT, PasswordEncoders.DEFAULT_BCRYPT_STRENGTH));
+    }
+
+    @Autowired
+    public PasswordUtil(PasswordEncoder passwordEncoder) {
+        this.passwordEncoder = passwordEncoder;
         this.secureRandom = new SecureRandom();
     }
 
@@ -42,4 +56,26 @@ public class PasswordUtil {
         return passwordEncoder.matches(rawPassword, encodedPassword);
     }
 
+    /**
+     * 해시 대신 초기 비밀번호 표식이 저장되어 있는지 확인
+     */
+    public static boolean isInitialPasswordMarker(String encodedPassword) {
+        return INITIAL_PASSWORD_MARKER.equals(encodedPassword);
+    }
+
+    /**
+     * 저장된 해시가 현재 설정(알고리즘/cost)보다 약한지 확인
+     * 형식을 알 수 없는 해시는 재해시하지 않음
+     */
+    public boolean needsRehash(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+        try {
+            return passwordEncoder.upgradeEncoding(encodedPassword);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
 }
\ No newline at end of file
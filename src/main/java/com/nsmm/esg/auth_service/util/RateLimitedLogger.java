@@ -0,0 +1,88 @@
+package com.nsmm.esg.auth_service.util;
+
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 키별 빈도 제한 로거
+ *
+ * 특징:
+ * - 같은 키의 로그는 간격(interval)당 한 번만 출력, 나머지는 건수만 집계
+ * - 다음 출력 시 생략된 건수를 함께 기록
+ * - 잠금 없이 CAS로 출력 권한 획득 (요청 경로에서 사용)
+ *
+ * 키는 고정된 사유 목록처럼 개수가 제한된 값만 사용 (키마다 상태 보관)
+ */
+public class RateLimitedLogger {
+
+    private static final String SUPPRESSED_SUFFIX = " (직전 {}건 생략)";
+
+    private final Logger logger;
+    private final long intervalNanos;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    public RateLimitedLogger(Logger logger, Duration interval) {
+        this.logger = logger;
+        this.intervalNanos = interval.toNanos();
+    }
+
+    /**
+     * WARN 로그 (키별 간격당 한 번)
+     */
+    public void warn(String key, String format, Object arg) {
+        long suppressed = tryAcquire(key);
+        if (suppressed == 0) {
+            logger.warn(format, arg);
+        } else if (suppressed > 0) {
+            logger.warn(format + SUPPRESSED_SUFFIX, arg, suppressed);
+        }
+    }
+
+    /**
+     * WARN 로그 (키별 간격당 한 번, 인자 2개)
+     */
+    public void warn(String key, String format, Object arg1, Object arg2) {
+        long suppressed = tryAcquire(key);
+        if (suppressed == 0) {
+            logger.warn(format, arg1, arg2);
+        } else if (suppressed > 0) {
+            logger.warn(format + SUPPRESSED_SUFFIX, arg1, arg2, suppressed);
+        }
+    }
+
+    /**
+     * 출력 권한 획득 시 생략된 건수, 생략 대상이면 -1
+     */
+    private long tryAcquire(String key) {
+        if (!logger.isWarnEnabled()) {
+            return -1;
+        }
+        return windows.computeIfAbsent(key, k -> new Window()).tryAcquire(intervalNanos);
+    }
+
+    /**
+     * 키별 출력 간격 상태
+     */
+    private static class Window {
+        private final AtomicLong nextAllowedAt = new AtomicLong(System.nanoTime());
+        private final LongAdder suppressed = new LongAdder();
+
+        /**
+         * 출력 권한 획득 시 생략된 건수 반환, 실패 시 -1
+         */
+        long tryAcquire(long intervalNanos) {
+            long now = System.nanoTime();
+            long next = nextAllowedAt.get();
+            if (now - next < 0 || !nextAllowedAt.compareAndSet(next, now + intervalNanos)) {
+                suppressed.increment();
+                return -1;
+            }
+            return suppressed.sumThenReset();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.nsmm.esg.auth_service.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 본사 계정번호 발급 동시성 테스트 (일자별 id_sequences 카운터)
+ * 여러 스레드가 동시에 가입해도 일일 한도(1700~1799)까지 중복 없이 발급되는지 확인
+ */
+@DataJpaTest
+@Import({ IdSequenceService.class, HeadquartersAccountService.class, PartnerTestFixture.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class HeadquartersAccountServiceConcurrencyTest {
+
+	private static final int THREADS = 8;
+	private static final int MIN_SEQUENCE = 1700;
+	private static final int MAX_SEQUENCE = 1799;
+
+	@Autowired
+	private HeadquartersAccountService headquartersAccountService;
+
+	@Autowired
+	private PartnerTestFixture fixture;
+
+	@AfterEach
+	void tearDown() {
+		fixture.deleteAll();
+	}
+
+	@Test
+	void concurrentAllocationsAreUniqueUpToDailyCapacity() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<List<String>>> futures = new ArrayList<>();
+		try {
+			for (int t = 0; t < THREADS; t++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					List<String> allocated = new ArrayList<>();
+					while (true) {
+						try {
+							allocated.add(headquartersAccountService.generateAccountNumber());
+						} catch (IllegalStateException e) {
+							return allocated; // 일일 한도 소진
+						}
+					}
+				}));
+			}
+			start.countDown();
+
+			List<String> accountNumbers = new ArrayList<>();
+			for (Future<List<String>> future : futures) {
+				accountNumbers.addAll(future.get());
+			}
+
+			assertThat(accountNumbers).doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(dailyRange());
+			assertThat(accountNumbers).allMatch(headquartersAccountService::isValidAccountNumber);
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThatThrownBy(headquartersAccountService::generateAccountNumber)
+				.isInstanceOf(IllegalStateException.class);
+		assertThat(headquartersAccountService.getNextAvailableAccountNumber()).isNull();
+	}
+
+	@Test
+	void peekDoesNotAllocate() {
+		String today = today();
+		assertThat(headquartersAccountService.getNextAvailableAccountNumber()).isEqualTo(today + MIN_SEQUENCE);
+		assertThat(headquartersAccountService.getNextAvailableAccountNumber()).isEqualTo(today + MIN_SEQUENCE);
+
+		assertThat(headquartersAccountService.generateAccountNumber()).isEqualTo(today + MIN_SEQUENCE);
+		assertThat(headquartersAccountService.getNextAvailableAccountNumber()).isEqualTo(today + (MIN_SEQUENCE + 1));
+		assertThat(headquartersAccountService.generateAccountNumber()).isEqualTo(today + (MIN_SEQUENCE + 1));
+	}
+
+	@Test
+	void counterStartsAfterExistingAccountNumbers() {
+		String today = today();
+		fixture.saveHeadquarters(today + "1700");
+		fixture.saveHeadquarters(today + "1704");
+
+		assertThat(headquartersAccountService.generateAccountNumber()).isEqualTo(today + "1705");
+	}
+
+	@Test
+	void peekStartsAfterExistingAccountNumbers() {
+		String today = today();
+		fixture.saveHeadquarters(today + "1700");
+		fixture.saveHeadquarters(today + "1702");
+
+		// 카운터 행이 없어도 이미 발급된 번호를 돌려주지 않음
+		assertThat(headquartersAccountService.getNextAvailableAccountNumber()).isEqualTo(today + "1703");
+		assertThat(headquartersAccountService.generateAccountNumber()).isEqualTo(today + "1703");
+		assertThat(headquartersAccountService.getNextAvailableAccountNumber()).isEqualTo(today + "1704");
+	}
+
+	private static List<String> dailyRange() {
+		String today = today();
+		List<String> range = new ArrayList<>();
+		for (int sequence = MIN_SEQUENCE; sequence <= MAX_SEQUENCE; sequence++) {
+			range.add(today + sequence);
+		}
+		return range;
+	}
+
+	private static String today() {
+		return LocalDate.now().format(DateTimeFormatter.ofPattern("yyMMdd"));
+	}
+}
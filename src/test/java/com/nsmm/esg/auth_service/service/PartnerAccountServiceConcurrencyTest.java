@@ -0,0 +1,199 @@
+package com.nsmm.esg.auth_service.service;
+
+import com.nsmm.esg.auth_service.entity.Headquarters;
+import com.nsmm.esg.auth_service.repository.IdSequenceRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 계층적 아이디 발급 동시성 테스트 (id_sequences 카운터)
+ * 여러 스레드가 같은 (본사, 레벨)에서 동시에 발급해도 중복/누락이 없는지 확인
+ */
+@DataJpaTest
+@Import({ IdSequenceService.class, PartnerAccountService.class, PartnerTestFixture.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PartnerAccountServiceConcurrencyTest {
+
+	private static final int THREADS = 8;
+	private static final int ALLOCATIONS_PER_THREAD = 50;
+
+	@Autowired
+	private PartnerAccountService partnerAccountService;
+
+	@Autowired
+	private IdSequenceRepository idSequenceRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private PartnerTestFixture fixture;
+
+	private Headquarters headquarters;
+
+	@BeforeEach
+	void setUp() {
+		headquarters = fixture.saveHeadquarters("2610171700");
+	}
+
+	@AfterEach
+	void tearDown() {
+		fixture.deleteAll();
+	}
+
+	@Test
+	void concurrentAllocationsAreUniqueAndContiguous() throws Exception {
+		List<String> ids = runConcurrently(() -> {
+			List<String> allocated = new ArrayList<>();
+			for (int i = 0; i < ALLOCATIONS_PER_THREAD; i++) {
+				allocated.add(partnerAccountService.generateHierarchicalId(headquarters.getHeadquartersId(), 1, null));
+			}
+			return allocated;
+		});
+
+		int total = THREADS * ALLOCATIONS_PER_THREAD;
+		assertThat(ids).hasSize(total).doesNotHaveDuplicates();
+		assertThat(new HashSet<>(ids)).isEqualTo(expectedIds(1, 1, total));
+	}
+
+	@Test
+	void concurrentBlockReservationsDoNotOverlapSingleAllocations() throws Exception {
+		List<String> ids = runConcurrently(() -> {
+			List<String> allocated = new ArrayList<>();
+			for (int i = 0; i < 10; i++) {
+				allocated.addAll(partnerAccountService.reserveHierarchicalIds(headquarters.getHeadquartersId(), 2, 5));
+				allocated.add(partnerAccountService.generateHierarchicalId(headquarters.getHeadquartersId(), 2, null));
+			}
+			return allocated;
+		});
+
+		int total = THREADS * 10 * 6;
+		assertThat(ids).hasSize(total).doesNotHaveDuplicates();
+		assertThat(new HashSet<>(ids)).isEqualTo(expectedIds(2, 1, total));
+	}
+
+	@Test
+	void counterStartsAfterExistingPartners() {
+		savePartner("L1-001");
+		savePartner("L1-007");
+
+		assertThat(partnerAccountService.generateHierarchicalId(headquarters.getHeadquartersId(), 1, null))
+				.isEqualTo("L1-008");
+	}
+
+	@Test
+	void allocationRollsBackWithCallerTransaction() {
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		Long headquartersId = headquarters.getHeadquartersId();
+		assertThat(partnerAccountService.generateHierarchicalId(headquartersId, 1, null)).isEqualTo("L1-001");
+
+		// 발급은 호출 측 트랜잭션(같은 커넥션)에서 실행 → 롤백 시 순번도 되돌아감
+		transaction.executeWithoutResult(status -> {
+			assertThat(partnerAccountService.generateHierarchicalId(headquartersId, 1, null)).isEqualTo("L1-002");
+			status.setRollbackOnly();
+		});
+
+		assertThat(partnerAccountService.generateHierarchicalId(headquartersId, 1, null)).isEqualTo("L1-002");
+	}
+
+	@Test
+	void concurrentCounterCreationKeepsCallerTransaction() throws Exception {
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		Long headquartersId = headquarters.getHeadquartersId();
+		CountDownLatch created = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			// 첫 트랜잭션이 카운터 행을 만들고 커밋 전 대기
+			Future<String> first = executor.submit(() -> transaction.execute(status -> {
+				String id = partnerAccountService.generateHierarchicalId(headquartersId, 3, null);
+				created.countDown();
+				sleep(300);
+				return id;
+			}));
+			created.await();
+			// 두 번째 트랜잭션은 카운터 행 INSERT가 기본키 중복으로 실패해도 세이브포인트만 롤백하고 계속 진행
+			Future<String> second = executor.submit(() -> transaction.execute(status ->
+					partnerAccountService.generateHierarchicalId(headquartersId, 3, null)));
+
+			assertThat(List.of(first.get(10, TimeUnit.SECONDS), second.get(10, TimeUnit.SECONDS)))
+					.containsExactly("L3-001", "L3-002");
+		} finally {
+			executor.shutdownNow();
+		}
+		assertThat(idSequenceRepository.findLastValue("partner:" + headquartersId + ":L3")).contains(2L);
+	}
+
+	@Test
+	void duplicateHierarchicalIdIsRejectedByUniqueConstraint() {
+		savePartner("L1-001");
+
+		assertThatThrownBy(() -> savePartner("L1-001"))
+				.isInstanceOf(DataIntegrityViolationException.class);
+	}
+
+	private List<String> runConcurrently(Callable<List<String>> task) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Future<List<String>>> futures = new ArrayList<>();
+			for (int t = 0; t < THREADS; t++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					return task.call();
+				}));
+			}
+			start.countDown();
+
+			List<String> ids = new ArrayList<>();
+			for (Future<List<String>> future : futures) {
+				ids.addAll(future.get());
+			}
+			return ids;
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static Set<String> expectedIds(int level, int from, int count) {
+		Set<String> expected = new HashSet<>();
+		for (int sequence = from; sequence < from + count; sequence++) {
+			expected.add(String.format("L%d-%03d", level, sequence));
+		}
+		return expected;
+	}
+
+	private void savePartner(String hierarchicalId) {
+		fixture.savePartner(headquarters, null, hierarchicalId);
+	}
+}
@@ -0,0 +1,145 @@
+package com.nsmm.esg.auth_service.service;
+
+import com.nsmm.esg.auth_service.entity.Headquarters;
+import com.nsmm.esg.auth_service.entity.Partner;
+import com.nsmm.esg.auth_service.entity.PartnerClosure;
+import com.nsmm.esg.auth_service.repository.HeadquartersRepository;
+import com.nsmm.esg.auth_service.repository.PartnerClosureRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 클로저 테이블 기동 시 재구성 테스트
+ * 여러 인스턴스가 동시에 재구성해도 행이 누락/중복되지 않고, 진행 중인 트리 변경이 끝날 때까지 기다리는지 확인
+ */
+@DataJpaTest
+@Import({ PartnerClosureService.class, PartnerTestFixture.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PartnerClosureRebuildTest {
+
+	private static final int THREADS = 4;
+
+	@Autowired
+	private PartnerClosureService partnerClosureService;
+
+	@Autowired
+	private PartnerClosureRepository partnerClosureRepository;
+
+	@Autowired
+	private HeadquartersRepository headquartersRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private PartnerTestFixture fixture;
+
+	private Headquarters headquarters;
+	private List<String> expectedRows;
+
+	@BeforeEach
+	void setUp() {
+		headquarters = fixture.saveHeadquarters("2610171704");
+		Partner first = fixture.savePartner(headquarters, null, "L1-001");
+		Partner second = fixture.savePartner(headquarters, first, "L2-001");
+		fixture.savePartner(headquarters, second, "L3-001");
+		fixture.savePartner(headquarters, first, "L2-002");
+		partnerClosureService.rebuild();
+		expectedRows = closureRows();
+		partnerClosureRepository.deleteAllInBatch();
+	}
+
+	@AfterEach
+	void tearDown() {
+		fixture.deleteAll();
+	}
+
+	@Test
+	void concurrentStartupRebuildsProduceOneCompleteTable() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < THREADS; t++) {
+				futures.add(executor.submit(() -> {
+					start.await();
+					partnerClosureService.rebuildIfIncomplete();
+					return null;
+				}));
+			}
+			start.countDown();
+			for (Future<?> future : futures) {
+				future.get(10, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(closureRows()).isEqualTo(expectedRows);
+	}
+
+	@Test
+	void rebuildWaitsForTreeChangeHoldingHeadquartersLock() throws Exception {
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		CountDownLatch locked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			// 협력사 생성/이동처럼 본사 행을 잠근 트랜잭션
+			Future<?> writer = executor.submit(() -> transaction.executeWithoutResult(status -> {
+				headquartersRepository.findByIdForUpdate(headquarters.getHeadquartersId());
+				locked.countDown();
+				await(release);
+			}));
+			locked.await();
+
+			Future<?> rebuild = executor.submit(() -> partnerClosureService.rebuildIfIncomplete());
+			assertThatThrownBy(() -> rebuild.get(300, TimeUnit.MILLISECONDS)).isInstanceOf(TimeoutException.class);
+
+			release.countDown();
+			writer.get(10, TimeUnit.SECONDS);
+			rebuild.get(10, TimeUnit.SECONDS);
+		} finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(closureRows()).isEqualTo(expectedRows);
+	}
+
+	private List<String> closureRows() {
+		return partnerClosureRepository.findAll().stream()
+				.sorted(Comparator.comparing(PartnerClosure::getAncestorId)
+						.thenComparing(PartnerClosure::getDescendantId))
+				.map(row -> row.getAncestorId() + ">" + row.getDescendantId() + ":" + row.getDepth())
+				.toList();
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
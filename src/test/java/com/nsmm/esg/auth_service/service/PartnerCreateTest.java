@@ -0,0 +1,152 @@
+package com.nsmm.esg.auth_service.service;
+
+import com.nsmm.esg.auth_service.dto.partner.PartnerCreateRequest;
+import com.nsmm.esg.auth_service.dto.partner.PartnerResponse;
+import com.nsmm.esg.auth_service.entity.Headquarters;
+import com.nsmm.esg.auth_service.entity.Partner;
+import com.nsmm.esg.auth_service.repository.PartnerRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * 단건 협력사 생성 테스트
+ * 초기 비밀번호 해시가 본사 행 잠금(트랜잭션) 밖에서 실행되는지, 해시 중 바뀐 내용을 잠금 후 재확인하는지 확인
+ *
+ * 트리: A(1차) ─ B / X(1차)
+ */
+@DataJpaTest
+@Import({ PartnerService.class, PartnerClosureService.class, PartnerTreeIndex.class, PartnerTreeService.class,
+		PartnerAccountService.class, IdSequenceService.class, AuthMetricsService.class, SimpleMeterRegistry.class,
+		PartnerTestFixture.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PartnerCreateTest {
+
+	private static final String HQ_ACCOUNT_NUMBER = "2610171706";
+
+	@Autowired
+	private PartnerService partnerService;
+
+	@Autowired
+	private PartnerClosureService partnerClosureService;
+
+	@Autowired
+	private PartnerRepository partnerRepository;
+
+	@Autowired
+	private PartnerTestFixture fixture;
+
+	@MockitoBean
+	private PasswordHashingService passwordHashingService;
+
+	private final AtomicBoolean hashedInTransaction = new AtomicBoolean();
+
+	private Headquarters headquarters;
+	private Partner a;
+	private Partner b;
+	private Partner x;
+
+	@BeforeEach
+	void setUp() {
+		headquarters = fixture.saveHeadquarters(HQ_ACCOUNT_NUMBER);
+		a = fixture.savePartner(headquarters, null, "L1-001");
+		x = fixture.savePartner(headquarters, null, "L1-002");
+		b = fixture.savePartner(headquarters, a, "L2-001");
+		partnerClosureService.rebuild();
+
+		when(passwordHashingService.encodeInitialPassword(anyString())).thenAnswer(invocation -> {
+			hashedInTransaction.compareAndSet(false, TransactionSynchronizationManager.isActualTransactionActive());
+			return "{noop}" + invocation.getArgument(0);
+		});
+	}
+
+	@AfterEach
+	void tearDown() {
+		fixture.deleteAll();
+	}
+
+	@Test
+	void createsUnderParentWithPasswordHashedOutsideTransaction() {
+		Partner first = partnerService.createPartnerByUuid(headquarters.getHeadquartersId(), request("first", null));
+		Partner child = partnerService.createPartnerByUuid(headquarters.getHeadquartersId(),
+				request("child", b.getUuid()));
+
+		assertThat(first.getHierarchicalId()).isEqualTo("L1-003");
+		assertThat(first.getLevel()).isEqualTo(1);
+		assertThat(child.getHierarchicalId()).isEqualTo("L3-001");
+		assertThat(child.getPassword()).isEqualTo("{noop}L3-001");
+		assertThat(child.getTreePath()).isEqualTo("/" + HQ_ACCOUNT_NUMBER + "/L1-001/L2-001/L3-001/");
+		assertThat(partnerClosureService.findAncestors(headquarters.getHeadquartersId(), child.getPartnerId()))
+				.extracting(PartnerResponse::getPartnerId)
+				.containsExactly(a.getPartnerId(), b.getPartnerId());
+		assertThat(hashedInTransaction).isFalse();
+	}
+
+	@Test
+	void uuidCreatedWhileHashingFailsAfterLock() {
+		// 잠금 전 해시 단계에서 다른 요청이 같은 UUID를 먼저 생성한 경우
+		when(passwordHashingService.encodeInitialPassword(anyString())).thenAnswer(invocation -> {
+			partnerRepository.saveAndFlush(Partner.builder()
+					.uuid("late")
+					.headquarters(headquarters)
+					.hqAccountNumber(HQ_ACCOUNT_NUMBER)
+					.hierarchicalId("L1-900")
+					.companyName("먼저 생성된 협력사")
+					.password("{noop}L1-900")
+					.level(1)
+					.treePath("/" + HQ_ACCOUNT_NUMBER + "/L1-900/")
+					.build());
+			return "{noop}" + invocation.getArgument(0);
+		});
+
+		assertThatThrownBy(() -> partnerService.createPartnerByUuid(headquarters.getHeadquartersId(),
+				request("late", null)))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("이미 존재하는 UUID입니다: late");
+		assertThat(partnerRepository.findExistingUuids(List.of("late"))).hasSize(1);
+	}
+
+	@Test
+	void parentMovedWhileHashingIsReadAfterLock() {
+		// 잠금 전 해시 단계에서 상위 협력사 B가 X 아래로 이동한 경우
+		when(passwordHashingService.encodeInitialPassword(anyString())).thenAnswer(invocation -> {
+			partnerService.movePartner(headquarters.getHeadquartersId(), b.getPartnerId(), x.getPartnerId());
+			return "{noop}" + invocation.getArgument(0);
+		});
+
+		Partner child = partnerService.createPartnerByUuid(headquarters.getHeadquartersId(),
+				request("child", b.getUuid()));
+
+		assertThat(child.getLevel()).isEqualTo(3);
+		assertThat(child.getTreePath())
+				.isEqualTo("/" + HQ_ACCOUNT_NUMBER + "/L1-002/L2-001/" + child.getHierarchicalId() + "/");
+		assertThat(partnerClosureService.findAncestors(headquarters.getHeadquartersId(), child.getPartnerId()))
+				.extracting(PartnerResponse::getPartnerId)
+				.containsExactly(x.getPartnerId(), b.getPartnerId());
+	}
+
+	private static PartnerCreateRequest request(String uuid, String parentUuid) {
+		return PartnerCreateRequest.builder()
+				.uuid(uuid)
+				.contactPerson("대표")
+				.companyName("협력사 " + uuid)
+				.parentUuid(parentUuid)
+				.build();
+	}
+}
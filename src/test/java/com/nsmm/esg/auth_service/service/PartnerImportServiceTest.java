@@ -0,0 +1,277 @@
+package com.nsmm.esg.auth_service.service;
+
+import com.nsmm.esg.auth_service.dto.partner.PartnerCreateRequest;
+import com.nsmm.esg.auth_service.dto.partner.PartnerImportResponse;
+import com.nsmm.esg.auth_service.dto.partner.PartnerImportResult;
+import com.nsmm.esg.auth_service.dto.partner.PartnerResponse;
+import com.nsmm.esg.auth_service.entity.Headquarters;
+import com.nsmm.esg.auth_service.entity.Partner;
+import com.nsmm.esg.auth_service.entity.PartnerClosure;
+import com.nsmm.esg.auth_service.repository.PartnerClosureRepository;
+import com.nsmm.esg.auth_service.repository.PartnerRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+/**
+ * 협력사 일괄 생성 테스트
+ * 행별 실패 사유, 같은 요청 안의 상위 지정, 순환/중복 UUID 처리, 커밋 후 클로저/트리 인덱스 반영 확인
+ */
+@DataJpaTest
+@Import({ PartnerImportService.class, PartnerClosureService.class, PartnerTreeIndex.class, PartnerTreeService.class,
+		PartnerAccountService.class, IdSequenceService.class, AuthMetricsService.class, SimpleMeterRegistry.class,
+		LocalValidatorFactoryBean.class, PartnerTestFixture.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PartnerImportServiceTest {
+
+	private static final String HQ_ACCOUNT_NUMBER = "2610171705";
+
+	@Autowired
+	private PartnerImportService partnerImportService;
+
+	@Autowired
+	private PartnerClosureService partnerClosureService;
+
+	@Autowired
+	private PartnerTreeIndex partnerTreeIndex;
+
+	@Autowired
+	private PartnerRepository partnerRepository;
+
+	@Autowired
+	private PartnerClosureRepository partnerClosureRepository;
+
+	@Autowired
+	private PartnerTestFixture fixture;
+
+	@MockitoBean
+	private PasswordHashingService passwordHashingService;
+
+	private final AtomicBoolean hashedInTransaction = new AtomicBoolean();
+
+	private Headquarters headquarters;
+	private Partner existing;
+
+	@BeforeEach
+	void setUp() {
+		headquarters = fixture.saveHeadquarters(HQ_ACCOUNT_NUMBER);
+		existing = fixture.savePartner(headquarters, null, "L1-001");
+		partnerClosureService.rebuild();
+
+		when(passwordHashingService.encodeInitialPasswords(anyList())).thenAnswer(invocation -> {
+			hashedInTransaction.compareAndSet(false, TransactionSynchronizationManager.isActualTransactionActive());
+			List<String> initialPasswords = invocation.getArgument(0);
+			return initialPasswords.stream().map(password -> "{noop}" + password).toList();
+		});
+	}
+
+	@AfterEach
+	void tearDown() {
+		fixture.deleteAll();
+	}
+
+	@Test
+	void invalidRowsFailWithReasonsAndOthersAreCreated() {
+		PartnerImportResponse response = importPartners(
+				request("u-1", null),
+				PartnerCreateRequest.builder().uuid("u-2").contactPerson("대표").build(),
+				request("u-3", "unknown-parent"),
+				null,
+				request("u-5", null));
+
+		assertThat(response.getTotal()).isEqualTo(5);
+		assertThat(response.getCreated()).isEqualTo(2);
+		assertThat(response.getFailed()).isEqualTo(3);
+		assertThat(response.getResults()).extracting(PartnerImportResult::getRow).containsExactly(1, 2, 3, 4, 5);
+		assertThat(response.getResults()).extracting(PartnerImportResult::getStatus).containsExactly(
+				PartnerImportResult.CREATED, PartnerImportResult.FAILED, PartnerImportResult.FAILED,
+				PartnerImportResult.FAILED, PartnerImportResult.CREATED);
+		assertThat(response.getResults()).extracting(PartnerImportResult::getError).containsExactly(
+				null, "회사명은 필수입니다", "존재하지 않는 상위 협력사 UUID입니다: unknown-parent", "빈 요청입니다.", null);
+		// 기존 L1-001 다음 순번부터
+		assertThat(response.getResults()).extracting(PartnerImportResult::getHierarchicalId)
+				.containsExactly("L1-002", null, null, null, "L1-003");
+	}
+
+	@Test
+	void parentsInSameRequestResolveInAnyOrder() {
+		PartnerImportResponse response = importPartners(
+				request("grandchild", "child"),
+				request("child", "root"),
+				request("root", null),
+				request("under-existing", existing.getUuid()),
+				request("hq-parent", headquarters.getUuid()));
+
+		assertThat(response.getFailed()).isZero();
+		assertThat(response.getResults()).extracting(PartnerImportResult::getLevel).containsExactly(3, 2, 1, 2, 1);
+
+		Partner grandchild = partnerRepository.findById(result(response, 1).getPartnerId()).orElseThrow();
+		Partner child = partnerRepository.findById(result(response, 2).getPartnerId()).orElseThrow();
+		Partner root = partnerRepository.findById(result(response, 3).getPartnerId()).orElseThrow();
+		assertThat(grandchild.getTreePath()).isEqualTo(
+				"/" + HQ_ACCOUNT_NUMBER + "/" + root.getHierarchicalId() + "/" + child.getHierarchicalId() + "/"
+						+ grandchild.getHierarchicalId() + "/");
+		assertThat(grandchild.getParentPartner().getPartnerId()).isEqualTo(child.getPartnerId());
+		assertThat(partnerRepository.findById(result(response, 4).getPartnerId()).orElseThrow().getTreePath())
+				.startsWith(existing.getTreePath());
+		assertThat(hashedInTransaction).isFalse();
+	}
+
+	@Test
+	void cyclesAndSelfParentFailWithDescendants() {
+		PartnerImportResponse response = importPartners(
+				request("a", "b"),
+				request("b", "a"),
+				request("self", "self"),
+				request("under-cycle", "a"),
+				request("ok", null));
+
+		assertThat(response.getResults()).extracting(PartnerImportResult::getStatus).containsExactly(
+				PartnerImportResult.FAILED, PartnerImportResult.FAILED, PartnerImportResult.FAILED,
+				PartnerImportResult.FAILED, PartnerImportResult.CREATED);
+		assertThat(result(response, 1).getError()).startsWith("상위 협력사 참조가 순환합니다");
+		assertThat(result(response, 2).getError()).startsWith("상위 협력사 참조가 순환합니다");
+		assertThat(result(response, 3).getError()).isEqualTo("상위 협력사 참조가 순환합니다: self");
+		assertThat(result(response, 4).getError()).isEqualTo("상위 협력사 행(1)이 생성되지 않았습니다.");
+	}
+
+	@Test
+	void duplicateUuidsFailInBatchAndAgainstExisting() {
+		PartnerImportResponse response = importPartners(
+				request("dup", null),
+				request("dup", null),
+				request(existing.getUuid(), null),
+				request("child-of-dup", "dup"));
+
+		assertThat(response.getResults()).extracting(PartnerImportResult::getStatus).containsExactly(
+				PartnerImportResult.CREATED, PartnerImportResult.FAILED, PartnerImportResult.FAILED,
+				PartnerImportResult.CREATED);
+		assertThat(result(response, 2).getError()).isEqualTo("요청 안에 중복된 UUID입니다: dup");
+		assertThat(result(response, 3).getError()).isEqualTo("이미 존재하는 UUID입니다: " + existing.getUuid());
+		// 중복 행은 첫 행만 유지하므로 하위 행은 첫 행 아래에 생성
+		assertThat(result(response, 4).getLevel()).isEqualTo(2);
+		assertThat(partnerRepository.findExistingUuids(List.of("dup"))).hasSize(1);
+	}
+
+	@Test
+	void uuidCreatedWhileHashingFailsAfterLock() {
+		// 잠금 전 해시 단계에서 다른 요청이 같은 UUID를 먼저 생성한 경우
+		when(passwordHashingService.encodeInitialPasswords(anyList())).thenAnswer(invocation -> {
+			if (partnerRepository.findExistingUuids(List.of("late")).isEmpty()) {
+				partnerRepository.saveAndFlush(Partner.builder()
+						.uuid("late")
+						.headquarters(headquarters)
+						.hqAccountNumber(HQ_ACCOUNT_NUMBER)
+						.hierarchicalId("L1-900")
+						.companyName("먼저 생성된 협력사")
+						.password("{noop}L1-900")
+						.level(1)
+						.treePath("/" + HQ_ACCOUNT_NUMBER + "/L1-900/")
+						.build());
+			}
+			List<String> initialPasswords = invocation.getArgument(0);
+			return initialPasswords.stream().map(password -> "{noop}" + password).toList();
+		});
+
+		PartnerImportResponse response = importPartners(
+				request("late", null),
+				request("under-late", "late"),
+				request("ok", null));
+
+		assertThat(response.getResults()).extracting(PartnerImportResult::getStatus).containsExactly(
+				PartnerImportResult.FAILED, PartnerImportResult.FAILED, PartnerImportResult.CREATED);
+		assertThat(result(response, 1).getError()).isEqualTo("이미 존재하는 UUID입니다: late");
+		assertThat(result(response, 2).getError()).isEqualTo("상위 협력사 행(1)이 생성되지 않았습니다.");
+	}
+
+	@Test
+	void closureRowsAndTreeIndexReflectCommittedImport() {
+		// 가져오기 전 트리를 로드해 두고 커밋 후 반영되는지 확인
+		assertThat(partnerTreeIndex.findAll(headquarters.getHeadquartersId()).orElseThrow()).hasSize(1);
+
+		PartnerImportResponse response = importPartners(
+				request("child", existing.getUuid()),
+				request("grandchild", "child"),
+				request("first", null));
+		Long childId = result(response, 1).getPartnerId();
+		Long grandchildId = result(response, 2).getPartnerId();
+
+		assertThat(partnerClosureService.findAncestors(headquarters.getHeadquartersId(), grandchildId))
+				.extracting(PartnerResponse::getPartnerId)
+				.containsExactly(existing.getPartnerId(), childId);
+		assertThat(partnerClosureService.countDescendants(headquarters.getHeadquartersId(), existing.getPartnerId()))
+				.isEqualTo(2);
+		List<String> imported = closureRows();
+		partnerClosureService.rebuild();
+		assertThat(closureRows()).isEqualTo(imported);
+
+		assertThat(partnerTreeIndex.findAll(headquarters.getHeadquartersId()).orElseThrow()).hasSize(4);
+		assertThat(partnerTreeIndex.findChildren(headquarters.getHeadquartersId(), existing.getPartnerId())
+				.orElseThrow()).extracting(PartnerResponse::getPartnerId).containsExactly(childId);
+		assertThat(partnerTreeIndex.findFirstLevel(headquarters.getHeadquartersId()).orElseThrow()).hasSize(2);
+	}
+
+	@Test
+	void csvColumnsMapByHeaderIgnoringCaseAndOrder() throws Exception {
+		List<PartnerCreateRequest> requests = partnerImportService.parseCsv(new StringReader(
+				"\uFEFFCompanyName,UUID,contactPerson,parentUuid,unknown\r\n"
+						+ "\"삼성전자, 주식회사\",u-1,대표,,x\r\n"
+						+ "\r\n"
+						+ "\"\"\"큰따옴표\"\" 상사\",u-2,대표,u-1\r\n"));
+
+		assertThat(requests).hasSize(2);
+		assertThat(requests.get(0).getCompanyName()).isEqualTo("삼성전자, 주식회사");
+		assertThat(requests.get(0).getUuid()).isEqualTo("u-1");
+		assertThat(requests.get(0).getParentUuid()).isNull();
+		assertThat(requests.get(1).getCompanyName()).isEqualTo("\"큰따옴표\" 상사");
+		assertThat(requests.get(1).getParentUuid()).isEqualTo("u-1");
+
+		assertThat(importPartners(requests.toArray(PartnerCreateRequest[]::new)).getCreated()).isEqualTo(2);
+	}
+
+	private PartnerImportResponse importPartners(PartnerCreateRequest... requests) {
+		return partnerImportService.importPartners(headquarters.getHeadquartersId(),
+				new ArrayList<>(Arrays.asList(requests)));
+	}
+
+	private static PartnerImportResult result(PartnerImportResponse response, int row) {
+		return response.getResults().get(row - 1);
+	}
+
+	private static PartnerCreateRequest request(String uuid, String parentUuid) {
+		return PartnerCreateRequest.builder()
+				.uuid(uuid)
+				.contactPerson("대표")
+				.companyName("협력사 " + uuid)
+				.parentUuid(parentUuid)
+				.build();
+	}
+
+	private List<String> closureRows() {
+		return partnerClosureRepository.findAll().stream()
+				.sorted(Comparator.comparing(PartnerClosure::getAncestorId)
+						.thenComparing(PartnerClosure::getDescendantId))
+				.map(row -> row.getAncestorId() + ">" + row.getDescendantId() + ":" + row.getDepth())
+				.toList();
+	}
+}
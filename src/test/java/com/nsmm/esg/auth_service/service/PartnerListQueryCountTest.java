@@ -0,0 +1,175 @@
+package com.nsmm.esg.auth_service.service;
+
+import com.nsmm.esg.auth_service.dto.partner.PartnerResponse;
+import com.nsmm.esg.auth_service.entity.Headquarters;
+import com.nsmm.esg.auth_service.entity.Partner;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 협력사 목록 조회 쿼리 수 테스트 (Hibernate 통계)
+ * 협력사 수와 관계없이 요청당 실행되는 SQL 수가 일정한지 확인 (행마다 본사/상위 협력사 지연 로딩 없음)
+ * 트리 인덱스는 끄고 DB 조회 경로만 측정
+ */
+@DataJpaTest(properties = {
+		"spring.jpa.properties.hibernate.generate_statistics=true",
+		"partner.tree-index.enabled=false" })
+@Import({ PartnerService.class, PartnerClosureService.class, PartnerTreeIndex.class, PartnerTreeService.class,
+		PartnerAccountService.class, IdSequenceService.class, AuthMetricsService.class, SimpleMeterRegistry.class,
+		PartnerTestFixture.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PartnerListQueryCountTest {
+
+	private static final int SMALL = 2;
+	private static final int LARGE = 30;
+	private static final int CHILDREN_PER_PARTNER = 3;
+
+	@Autowired
+	private PartnerService partnerService;
+
+	@Autowired
+	private PartnerClosureService partnerClosureService;
+
+	@Autowired
+	private PartnerTestFixture fixture;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@MockitoBean
+	private PasswordHashingService passwordHashingService;
+
+	private Tree small;
+	private Tree large;
+
+	@BeforeEach
+	void setUp() {
+		small = createTree("2610171701", SMALL);
+		large = createTree("2610171702", LARGE);
+		partnerClosureService.rebuild();
+	}
+
+	@AfterEach
+	void tearDown() {
+		fixture.deleteAll();
+	}
+
+	@Test
+	void headquartersAccessibleListIsTwoStatements() {
+		assertConstant(2, tree -> partnerService.findAccessiblePartners("HEADQUARTERS", tree.headquartersId, null),
+				tree -> tree.size());
+	}
+
+	@Test
+	void partnerAccessibleListIsTwoStatements() {
+		assertConstant(2, tree -> partnerService.findAccessiblePartners("PARTNER", tree.headquartersId,
+				tree.firstLevelId), tree -> CHILDREN_PER_PARTNER + 1);
+	}
+
+	@Test
+	void firstLevelAndChildrenListsAreSingleStatements() {
+		assertConstant(1, tree -> partnerService.findFirstLevelPartners(tree.headquartersId),
+				tree -> tree.firstLevelCount);
+		assertConstant(1, tree -> partnerService.findDirectChildren(tree.headquartersId, tree.firstLevelId),
+				tree -> CHILDREN_PER_PARTNER);
+		assertConstant(1, tree -> partnerService.findUnchangedPasswordPartners(tree.headquartersId),
+				tree -> tree.size());
+	}
+
+	@Test
+	void pageAndStreamAreSingleStatements() {
+		assertConstant(1, tree -> partnerService.findAllPartnersPage(tree.headquartersId, null, 1000).getItems(),
+				tree -> tree.size());
+		assertConstant(1, tree -> {
+			List<PartnerResponse> streamed = new ArrayList<>();
+			partnerService.streamAllPartners(tree.headquartersId, streamed::add);
+			return streamed;
+		}, tree -> tree.size());
+	}
+
+	@Test
+	void closureListsAreSingleStatements() {
+		assertConstant(1, tree -> partnerClosureService.findDescendants(tree.headquartersId, tree.firstLevelId, null),
+				tree -> CHILDREN_PER_PARTNER);
+		assertConstant(1, tree -> partnerClosureService.findAncestors(tree.headquartersId, tree.lastChildId),
+				tree -> 1);
+	}
+
+	/**
+	 * 작은 트리와 큰 트리에서 같은 조회의 SQL 수가 expected로 같고, 응답에 본사/상위 협력사 이름이 채워졌는지 확인
+	 */
+	private void assertConstant(long expected, Function<Tree, List<PartnerResponse>> query,
+			Function<Tree, Integer> expectedSize) {
+		for (Tree tree : List.of(small, large)) {
+			Statistics statistics = statistics();
+			statistics.clear();
+			List<PartnerResponse> responses = query.apply(tree);
+
+			assertThat(statistics.getPrepareStatementCount()).isEqualTo(expected);
+			assertThat(responses).hasSize(expectedSize.apply(tree));
+			assertThat(responses).allSatisfy(response -> {
+				assertThat(response.getHeadquartersName()).isEqualTo(tree.companyName);
+				if (response.getLevel() > 1) {
+					assertThat(response.getParentPartnerName()).isNotNull();
+				}
+			});
+		}
+	}
+
+	private Statistics statistics() {
+		return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+	}
+
+	private Tree createTree(String hqAccountNumber, int firstLevelCount) {
+		Headquarters headquarters = fixture.saveHeadquarters(hqAccountNumber);
+
+		Tree tree = new Tree(headquarters.getHeadquartersId(), headquarters.getCompanyName(), firstLevelCount);
+		int childSequence = 0;
+		for (int first = 1; first <= firstLevelCount; first++) {
+			Partner parent = fixture.savePartner(headquarters, null, String.format("L1-%03d", first));
+			if (tree.firstLevelId == null) {
+				tree.firstLevelId = parent.getPartnerId();
+			}
+			for (int child = 0; child < CHILDREN_PER_PARTNER; child++) {
+				Partner saved = fixture.savePartner(headquarters, parent, String.format("L2-%03d", ++childSequence));
+				tree.lastChildId = saved.getPartnerId();
+			}
+		}
+		return tree;
+	}
+
+	private static final class Tree {
+		private final Long headquartersId;
+		private final String companyName;
+		private final int firstLevelCount;
+		private Long firstLevelId;
+		private Long lastChildId;
+
+		private Tree(Long headquartersId, String companyName, int firstLevelCount) {
+			this.headquartersId = headquartersId;
+			this.companyName = companyName;
+			this.firstLevelCount = firstLevelCount;
+		}
+
+		private int size() {
+			return firstLevelCount * (CHILDREN_PER_PARTNER + 1);
+		}
+	}
+}
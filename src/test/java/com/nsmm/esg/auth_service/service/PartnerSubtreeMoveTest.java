@@ -0,0 +1,160 @@
+package com.nsmm.esg.auth_service.service;
+
+import com.nsmm.esg.auth_service.dto.partner.PartnerMoveResponse;
+import com.nsmm.esg.auth_service.dto.partner.PartnerResponse;
+import com.nsmm.esg.auth_service.entity.Headquarters;
+import com.nsmm.esg.auth_service.entity.Partner;
+import com.nsmm.esg.auth_service.entity.PartnerClosure;
+import com.nsmm.esg.auth_service.repository.PartnerClosureRepository;
+import com.nsmm.esg.auth_service.repository.PartnerRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 하위 트리 이동 테스트
+ * 이동 후 하위 전체의 tree_path/레벨/상위가 맞는지, 클로저 테이블이 전체 재구성 결과와 같은지 확인
+ *
+ * 트리: A(1차) ─ B ─ C ─ D, B ─ E / X(1차)
+ */
+@DataJpaTest
+@Import({ PartnerService.class, PartnerClosureService.class, PartnerTreeIndex.class, PartnerTreeService.class,
+		PartnerAccountService.class, IdSequenceService.class, AuthMetricsService.class, SimpleMeterRegistry.class,
+		PartnerTestFixture.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class PartnerSubtreeMoveTest {
+
+	private static final String HQ_ACCOUNT_NUMBER = "2610171703";
+
+	@Autowired
+	private PartnerService partnerService;
+
+	@Autowired
+	private PartnerClosureService partnerClosureService;
+
+	@Autowired
+	private PartnerRepository partnerRepository;
+
+	@Autowired
+	private PartnerClosureRepository partnerClosureRepository;
+
+	@Autowired
+	private PartnerTestFixture fixture;
+
+	@MockitoBean
+	private PasswordHashingService passwordHashingService;
+
+	private Long headquartersId;
+	private Partner a;
+	private Partner x;
+	private Partner b;
+	private Partner c;
+	private Partner d;
+	private Partner e;
+
+	@BeforeEach
+	void setUp() {
+		Headquarters headquarters = fixture.saveHeadquarters(HQ_ACCOUNT_NUMBER);
+		headquartersId = headquarters.getHeadquartersId();
+
+		a = fixture.savePartner(headquarters, null, "L1-001");
+		x = fixture.savePartner(headquarters, null, "L1-002");
+		b = fixture.savePartner(headquarters, a, "L2-001");
+		c = fixture.savePartner(headquarters, b, "L3-001");
+		d = fixture.savePartner(headquarters, c, "L4-001");
+		e = fixture.savePartner(headquarters, b, "L3-002");
+		partnerClosureService.rebuild();
+	}
+
+	@AfterEach
+	void tearDown() {
+		fixture.deleteAll();
+	}
+
+	@Test
+	void moveRewritesSubtreePathsAndLevels() {
+		PartnerMoveResponse response = partnerService.movePartner(headquartersId, c.getPartnerId(), x.getPartnerId());
+
+		assertThat(response.getMovedPartners()).isEqualTo(2);
+		assertThat(response.getPreviousParentPartnerId()).isEqualTo(b.getPartnerId());
+		assertThat(response.getPartner().getParentPartnerId()).isEqualTo(x.getPartnerId());
+
+		Partner movedC = partnerRepository.findById(c.getPartnerId()).orElseThrow();
+		Partner movedD = partnerRepository.findById(d.getPartnerId()).orElseThrow();
+		assertThat(movedC.getTreePath()).isEqualTo("/" + HQ_ACCOUNT_NUMBER + "/L1-002/L3-001/");
+		assertThat(movedC.getLevel()).isEqualTo(2);
+		assertThat(movedC.getHierarchicalId()).isEqualTo("L3-001");
+		assertThat(movedD.getTreePath()).isEqualTo("/" + HQ_ACCOUNT_NUMBER + "/L1-002/L3-001/L4-001/");
+		assertThat(movedD.getLevel()).isEqualTo(3);
+
+		// 이동하지 않은 형제는 그대로
+		assertThat(partnerRepository.findById(e.getPartnerId()).orElseThrow().getTreePath())
+				.isEqualTo(e.getTreePath());
+
+		assertThat(partnerClosureService.findAncestors(headquartersId, d.getPartnerId()))
+				.extracting(PartnerResponse::getPartnerId)
+				.containsExactly(x.getPartnerId(), c.getPartnerId());
+		assertThat(partnerClosureService.countDescendants(headquartersId, b.getPartnerId())).isEqualTo(1);
+		assertClosureMatchesRebuild();
+	}
+
+	@Test
+	void moveToFirstLevelAndDeeper() {
+		partnerService.movePartner(headquartersId, b.getPartnerId(), null);
+		Partner movedD = partnerRepository.findById(d.getPartnerId()).orElseThrow();
+		assertThat(movedD.getTreePath()).isEqualTo("/" + HQ_ACCOUNT_NUMBER + "/L2-001/L3-001/L4-001/");
+		assertThat(movedD.getLevel()).isEqualTo(3);
+		assertClosureMatchesRebuild();
+
+		partnerService.movePartner(headquartersId, b.getPartnerId(), x.getPartnerId());
+		assertThat(partnerRepository.findById(d.getPartnerId()).orElseThrow().getLevel()).isEqualTo(4);
+		assertThat(partnerService.findDirectChildren(headquartersId, x.getPartnerId()))
+				.extracting(PartnerResponse::getPartnerId)
+				.containsExactly(b.getPartnerId());
+		assertClosureMatchesRebuild();
+	}
+
+	@Test
+	void moveUnderSelfOrDescendantIsRejected() {
+		assertThatThrownBy(() -> partnerService.movePartner(headquartersId, b.getPartnerId(), b.getPartnerId()))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> partnerService.movePartner(headquartersId, b.getPartnerId(), d.getPartnerId()))
+				.isInstanceOf(IllegalArgumentException.class);
+		assertThatThrownBy(() -> partnerService.movePartner(headquartersId, b.getPartnerId(), a.getPartnerId()))
+				.isInstanceOf(IllegalArgumentException.class);
+
+		assertThat(partnerRepository.findById(d.getPartnerId()).orElseThrow().getTreePath())
+				.isEqualTo(d.getTreePath());
+		assertClosureMatchesRebuild();
+	}
+
+	/**
+	 * 이동으로 갱신된 클로저 행이 전체 재구성 결과와 같은지 확인
+	 */
+	private void assertClosureMatchesRebuild() {
+		List<String> moved = closureRows();
+		partnerClosureService.rebuild();
+		assertThat(moved).isEqualTo(closureRows());
+	}
+
+	private List<String> closureRows() {
+		return partnerClosureRepository.findAll().stream()
+				.sorted(Comparator.comparing(PartnerClosure::getAncestorId)
+						.thenComparing(PartnerClosure::getDescendantId))
+				.map(row -> row.getAncestorId() + ">" + row.getDescendantId() + ":" + row.getDepth())
+				.toList();
+	}
+}
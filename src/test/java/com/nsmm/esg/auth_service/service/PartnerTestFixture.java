@@ -0,0 +1,76 @@
+package com.nsmm.esg.auth_service.service;
+
+import com.nsmm.esg.auth_service.entity.Headquarters;
+import com.nsmm.esg.auth_service.entity.Partner;
+import com.nsmm.esg.auth_service.repository.HeadquartersRepository;
+import com.nsmm.esg.auth_service.repository.IdSequenceRepository;
+import com.nsmm.esg.auth_service.repository.PartnerClosureRepository;
+import com.nsmm.esg.auth_service.repository.PartnerRepository;
+import org.springframework.boot.test.context.TestComponent;
+
+import java.util.UUID;
+
+/**
+ * 본사/협력사 테스트 데이터 픽스처 (@Import로 등록)
+ * 테스트 트랜잭션 없이(NOT_SUPPORTED) 실제 커밋하는 테스트에서 저장과 정리를 공통으로 처리
+ */
+@TestComponent
+class PartnerTestFixture {
+
+	private final HeadquartersRepository headquartersRepository;
+	private final PartnerRepository partnerRepository;
+	private final PartnerClosureRepository partnerClosureRepository;
+	private final IdSequenceRepository idSequenceRepository;
+
+	PartnerTestFixture(HeadquartersRepository headquartersRepository, PartnerRepository partnerRepository,
+			PartnerClosureRepository partnerClosureRepository, IdSequenceRepository idSequenceRepository) {
+		this.headquartersRepository = headquartersRepository;
+		this.partnerRepository = partnerRepository;
+		this.partnerClosureRepository = partnerClosureRepository;
+		this.idSequenceRepository = idSequenceRepository;
+	}
+
+	Headquarters saveHeadquarters(String hqAccountNumber) {
+		return headquartersRepository.save(Headquarters.builder()
+				.uuid(UUID.randomUUID().toString())
+				.hqAccountNumber(hqAccountNumber)
+				.companyName("본사 " + hqAccountNumber)
+				.email(hqAccountNumber + "@example.com")
+				.password("{noop}password")
+				.name("담당자")
+				.build());
+	}
+
+	/**
+	 * 협력사 저장 (서비스를 거치지 않으므로 클로저 행은 필요 시 PartnerClosureService.rebuild로 생성)
+	 */
+	Partner savePartner(Headquarters headquarters, Partner parent, String hierarchicalId) {
+		String parentPath = parent != null ? parent.getTreePath() : "/" + headquarters.getHqAccountNumber() + "/";
+		return partnerRepository.saveAndFlush(Partner.builder()
+				.uuid(UUID.randomUUID().toString())
+				.headquarters(headquarters)
+				.parentPartner(parent)
+				.hqAccountNumber(headquarters.getHqAccountNumber())
+				.hierarchicalId(hierarchicalId)
+				.companyName("협력사 " + hierarchicalId)
+				.password("{noop}" + hierarchicalId)
+				.level(parent != null ? parent.getLevel() + 1 : 1)
+				.treePath(parentPath + hierarchicalId + "/")
+				.build());
+	}
+
+	/**
+	 * 전체 정리 (클로저 → 협력사 하위 레벨부터 → 본사 → 순번 카운터)
+	 * 협력사 기본키 카운터(partner:id)는 Hibernate가 메모리에 예약 블록을 들고 있으므로 유지
+	 */
+	void deleteAll() {
+		partnerClosureRepository.deleteAllInBatch();
+		partnerRepository.deleteAll(partnerRepository.findAll().stream()
+				.sorted((a, b) -> Integer.compare(b.getLevel(), a.getLevel()))
+				.toList());
+		headquartersRepository.deleteAll();
+		idSequenceRepository.deleteAll(idSequenceRepository.findAll().stream()
+				.filter(sequence -> !Partner.ID_SEQUENCE_KEY.equals(sequence.getSequenceKey()))
+				.toList());
+	}
+}
@@ -0,0 +1,76 @@
+package com.nsmm.esg.auth_service.service;
+
+import com.nsmm.esg.auth_service.dto.partner.PartnerResponse;
+import com.nsmm.esg.auth_service.repository.HeadquartersRepository;
+import com.nsmm.esg.auth_service.repository.PartnerRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 협력사 트리 인덱스 테스트
+ * 트리 로드와 협력사 생성 커밋이 겹쳐도 같은 협력사가 두 번 들어가지 않는지 확인
+ */
+class PartnerTreeIndexTest {
+
+	private static final Long HEADQUARTERS_ID = 1L;
+
+	private final PartnerResponse first = node(10L, null, 1);
+	private final PartnerResponse created = node(11L, 10L, 2);
+
+	@Test
+	void appendOfNodeAlreadyLoadedIsRejected() {
+		// 로드 시점 버전은 1이지만 조회한 목록에 버전 2로 커밋된 협력사가 이미 포함된 경우
+		PartnerTreeIndex.HeadquartersTree tree = PartnerTreeIndex.HeadquartersTree.load(1, List.of(first, created));
+
+		assertThat(tree.append(created, 10L, 2)).isFalse();
+		assertThat(tree.all()).extracting(PartnerResponse::getPartnerId).containsExactly(10L, 11L);
+		assertThat(tree.children(10L, false)).extracting(PartnerResponse::getPartnerId).containsExactly(11L);
+	}
+
+	@Test
+	void appendOfNewNodeAdvancesVersion() {
+		PartnerTreeIndex.HeadquartersTree tree = PartnerTreeIndex.HeadquartersTree.load(1, List.of(first));
+
+		assertThat(tree.append(created, 10L, 2)).isTrue();
+		assertThat(tree.version()).isEqualTo(2);
+		assertThat(tree.all()).extracting(PartnerResponse::getPartnerId).containsExactly(10L, 11L);
+	}
+
+	@Test
+	void treeLoadedWhileVersionChangedIsNotCached() {
+		PartnerRepository partnerRepository = mock(PartnerRepository.class);
+		HeadquartersRepository headquartersRepository = mock(HeadquartersRepository.class);
+		// 조회 전 버전 1 → 목록 조회 중 생성 커밋 → 조회 후 버전 2
+		when(headquartersRepository.findPartnerTreeVersion(HEADQUARTERS_ID))
+				.thenReturn(Optional.of(1L))
+				.thenReturn(Optional.of(2L));
+		when(partnerRepository.findAllPartnersByHeadquarters(HEADQUARTERS_ID)).thenReturn(List.of(first, created));
+		PartnerTreeIndex index = new PartnerTreeIndex(partnerRepository, headquartersRepository,
+				new AuthMetricsService(new SimpleMeterRegistry()), true, 1000);
+
+		assertThat(index.findAll(HEADQUARTERS_ID).orElseThrow()).hasSize(2);
+		assertThat(index.findAll(HEADQUARTERS_ID).orElseThrow()).hasSize(2);
+		assertThat(index.findAll(HEADQUARTERS_ID).orElseThrow()).hasSize(2);
+
+		// 첫 로드는 버전이 달라 캐시하지 않고, 두 번째 로드(버전 2 일치)부터 캐시 사용
+		verify(partnerRepository, times(2)).findAllPartnersByHeadquarters(HEADQUARTERS_ID);
+	}
+
+	private static PartnerResponse node(Long partnerId, Long parentPartnerId, int level) {
+		return PartnerResponse.builder()
+				.partnerId(partnerId)
+				.parentPartnerId(parentPartnerId)
+				.headquartersId(HEADQUARTERS_ID)
+				.level(level)
+				.build();
+	}
+}
@@ -0,0 +1,106 @@
+package com.nsmm.esg.auth_service.service;
+
+import com.nsmm.esg.auth_service.dto.JwtClaims;
+import com.nsmm.esg.auth_service.dto.TokenVerificationResult;
+import com.nsmm.esg.auth_service.util.JwtKeyProvider;
+import com.nsmm.esg.auth_service.util.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Refresh Token 교체 테스트
+ * 교체 후 이전 토큰 재사용 시 패밀리 전체 폐기, 사용자 유형 불일치, 로그아웃 후 갱신, 토큰 종류 혼용 거부 확인
+ */
+class RefreshTokenServiceTest {
+
+	private static final String SECRET = "mySecretKeyForJWTTokenGenerationAndValidationPurposeOnly123456789";
+
+	private final JwtUtil jwtUtil = new JwtUtil(new JwtKeyProvider(SECRET, "HS512", "", ""), 900000L, 604800000L,
+			"standard");
+	private final RefreshTokenService refreshTokenService = new RefreshTokenService(jwtUtil,
+			new AuthMetricsService(new SimpleMeterRegistry()), 1000);
+
+	@Test
+	void rotateReplacesTokenInSameFamily() {
+		String issued = refreshTokenService.issue("HEADQUARTERS", 1L, "2610171700");
+
+		RefreshTokenService.Rotation rotation = refreshTokenService.rotate(issued, "HEADQUARTERS");
+
+		assertThat(rotation.getEntityId()).isEqualTo(1L);
+		assertThat(rotation.getRefreshToken()).isNotEqualTo(issued);
+		assertThat(rotation.getFamilyId()).isEqualTo(jwtUtil.parseRefreshToken(issued).getFamilyId());
+		assertThat(jwtUtil.parseRefreshToken(rotation.getRefreshToken()).getAccountNumber()).isEqualTo("2610171700");
+
+		// 교체된 토큰으로 다시 교체 가능
+		assertThat(refreshTokenService.rotate(rotation.getRefreshToken(), "HEADQUARTERS").getFamilyId())
+				.isEqualTo(rotation.getFamilyId());
+	}
+
+	@Test
+	void replayedOldTokenRevokesWholeFamily() {
+		String issued = refreshTokenService.issue("PARTNER", 42L, "2610171700-L1-001");
+		String rotated = refreshTokenService.rotate(issued, "PARTNER").getRefreshToken();
+		// 다른 패밀리는 영향 없음
+		String otherSession = refreshTokenService.issue("PARTNER", 42L, "2610171700-L1-001");
+
+		assertThatThrownBy(() -> refreshTokenService.rotate(issued, "PARTNER"))
+				.isInstanceOf(BadCredentialsException.class)
+				.hasMessage("이미 사용된 Refresh Token입니다. 다시 로그인해주세요.");
+		// 재사용 감지 후에는 정상 사용자가 가진 새 토큰도 거부
+		assertThatThrownBy(() -> refreshTokenService.rotate(rotated, "PARTNER"))
+				.isInstanceOf(BadCredentialsException.class)
+				.hasMessage("만료되었거나 폐기된 Refresh Token입니다. 다시 로그인해주세요.");
+		assertThat(refreshTokenService.rotate(otherSession, "PARTNER").getEntityId()).isEqualTo(42L);
+	}
+
+	@Test
+	void wrongUserTypeIsRejectedWithoutConsumingToken() {
+		String issued = refreshTokenService.issue("HEADQUARTERS", 1L, "2610171700");
+
+		assertThatThrownBy(() -> refreshTokenService.rotate(issued, "PARTNER"))
+				.isInstanceOf(BadCredentialsException.class)
+				.hasMessage("사용자 유형이 일치하지 않는 Refresh Token입니다.");
+		assertThat(refreshTokenService.rotate(issued, "HEADQUARTERS").getEntityId()).isEqualTo(1L);
+	}
+
+	@Test
+	void refreshAfterRevokeIsRejected() {
+		String issued = refreshTokenService.issue("HEADQUARTERS", 1L, "2610171700");
+		String rotated = refreshTokenService.rotate(issued, "HEADQUARTERS").getRefreshToken();
+
+		// 로그아웃 시 가진 토큰이 무엇이든 패밀리 전체 폐기
+		refreshTokenService.revoke(rotated);
+
+		assertThatThrownBy(() -> refreshTokenService.rotate(rotated, "HEADQUARTERS"))
+				.isInstanceOf(BadCredentialsException.class)
+				.hasMessage("만료되었거나 폐기된 Refresh Token입니다. 다시 로그인해주세요.");
+		assertThatThrownBy(() -> refreshTokenService.rotate(issued, "HEADQUARTERS"))
+				.isInstanceOf(BadCredentialsException.class)
+				.hasMessage("만료되었거나 폐기된 Refresh Token입니다. 다시 로그인해주세요.");
+	}
+
+	@Test
+	void refreshAndAccessTokensAreNotInterchangeable() {
+		String refreshToken = refreshTokenService.issue("HEADQUARTERS", 1L, "2610171700");
+		String accessToken = jwtUtil.generateAccessToken(JwtClaims.builder()
+				.accountNumber("2610171700")
+				.companyName("한국전력공사")
+				.userType("HEADQUARTERS")
+				.level(0)
+				.treePath("/2610171700/")
+				.headquartersId(1L)
+				.build());
+
+		TokenVerificationResult result = jwtUtil.verifyToken(refreshToken);
+		assertThat(result.isValid()).isFalse();
+		assertThat(result.getRejectionReason()).isEqualTo(TokenVerificationResult.RejectionReason.WRONG_TOKEN_TYPE);
+
+		assertThatThrownBy(() -> refreshTokenService.rotate(accessToken, "HEADQUARTERS"))
+				.isInstanceOf(BadCredentialsException.class)
+				.hasMessage("유효하지 않은 Refresh Token입니다.");
+	}
+}
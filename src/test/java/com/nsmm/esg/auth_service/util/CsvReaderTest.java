@@ -0,0 +1,80 @@
+package com.nsmm.esg.auth_service.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * CSV 레코드 읽기 테스트 (RFC 4180)
+ */
+class CsvReaderTest {
+
+	@Test
+	void quotedFieldsKeepCommasQuotesAndLineBreaks() throws IOException {
+		List<List<String>> records = readAll("uuid,companyName\n"
+				+ "u-1,\"삼성전자, 주식회사\"\n"
+				+ "u-2,\"\"\"큰따옴표\"\" 상사\"\n"
+				+ "u-3,\"첫 줄\n둘째 줄\"\n");
+
+		assertThat(records).containsExactly(
+				List.of("uuid", "companyName"),
+				List.of("u-1", "삼성전자, 주식회사"),
+				List.of("u-2", "\"큰따옴표\" 상사"),
+				List.of("u-3", "첫 줄\n둘째 줄"));
+	}
+
+	@Test
+	void bomAndCrlfAreIgnored() throws IOException {
+		List<List<String>> records = readAll("\uFEFFuuid,companyName\r\nu-1,\"A,B\"\r\nu-2,C");
+
+		assertThat(records).containsExactly(
+				List.of("uuid", "companyName"),
+				List.of("u-1", "A,B"),
+				List.of("u-2", "C"));
+	}
+
+	@Test
+	void emptyLineAndEmptyFields() throws IOException {
+		assertThat(readAll("a,,c\n\n,\n")).containsExactly(
+				List.of("a", "", "c"),
+				List.of(""),
+				List.of("", ""));
+	}
+
+	@Test
+	void recordNumberCountsRecordsNotLines() throws IOException {
+		CsvReader reader = new CsvReader(new StringReader("h\n\"x\ny\"\nz\n"));
+		reader.next();
+		reader.next();
+		reader.next();
+
+		assertThat(reader.recordNumber()).isEqualTo(3);
+		assertThat(reader.next()).isNull();
+	}
+
+	@Test
+	void unclosedQuoteIsRejectedWithRecordNumber() throws IOException {
+		CsvReader reader = new CsvReader(new StringReader("uuid\n\"u-1\n"));
+		reader.next();
+
+		assertThatThrownBy(reader::next)
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("2번째 레코드");
+	}
+
+	private static List<List<String>> readAll(String csv) throws IOException {
+		CsvReader reader = new CsvReader(new StringReader(csv));
+		List<List<String>> records = new ArrayList<>();
+		List<String> record;
+		while ((record = reader.next()) != null) {
+			records.add(record);
+		}
+		return records;
+	}
+}
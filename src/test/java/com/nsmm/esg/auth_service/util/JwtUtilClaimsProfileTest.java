@@ -0,0 +1,85 @@
+package com.nsmm.esg.auth_service.util;
+
+import com.nsmm.esg.auth_service.dto.JwtClaims;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 클레임 프로필 테스트
+ * compact 토큰이 standard보다 짧고, 두 형식 모두 같은 클레임으로 복원되는지 확인
+ */
+class JwtUtilClaimsProfileTest {
+
+	private static final String SECRET = "mySecretKeyForJWTTokenGenerationAndValidationPurposeOnly123456789";
+
+	private final JwtUtil standard = jwtUtil("standard");
+	private final JwtUtil compact = jwtUtil("compact");
+
+	@Test
+	void compactTokenIsShorterForEveryUserType() {
+		for (JwtClaims claims : new JwtClaims[] { partnerClaims(), firstLevelClaims(), headquartersClaims() }) {
+			String standardToken = standard.generateAccessToken(claims);
+			String compactToken = compact.generateAccessToken(claims);
+
+			assertThat(compactToken.length()).isLessThan(standardToken.length());
+		}
+	}
+
+	@Test
+	void bothProfilesParseToSameClaims() {
+		JwtClaims claims = partnerClaims();
+		// 검증은 프로필 설정과 무관하게 두 형식을 모두 해석
+		for (String token : new String[] { standard.generateAccessToken(claims), compact.generateAccessToken(claims) }) {
+			for (JwtUtil parser : new JwtUtil[] { standard, compact }) {
+				JwtClaims parsed = parser.getAllClaimsFromToken(token);
+
+				assertThat(parsed.getAccountNumber()).isEqualTo(claims.getAccountNumber());
+				assertThat(parsed.getCompanyName()).isEqualTo(claims.getCompanyName());
+				assertThat(parsed.getUserType()).isEqualTo(claims.getUserType());
+				assertThat(parsed.getLevel()).isEqualTo(claims.getLevel());
+				assertThat(parsed.getTreePath()).isEqualTo(claims.getTreePath());
+				assertThat(parsed.getHeadquartersId()).isEqualTo(claims.getHeadquartersId());
+				assertThat(parsed.getPartnerId()).isEqualTo(claims.getPartnerId());
+				assertThat(parsed.getTokenId()).isNotBlank();
+			}
+		}
+	}
+
+	private static JwtUtil jwtUtil(String claimsProfile) {
+		return new JwtUtil(new JwtKeyProvider(SECRET, "HS512", "", ""), 900000L, 604800000L, claimsProfile);
+	}
+
+	private static JwtClaims partnerClaims() {
+		return JwtClaims.builder()
+				.accountNumber("2412161700-L2-001")
+				.companyName("케이씨에스정보통신")
+				.userType("PARTNER")
+				.level(2)
+				.treePath("/2412161700/L1-001/L2-001/")
+				.headquartersId(1L)
+				.partnerId(42L)
+				.build();
+	}
+
+	private static JwtClaims firstLevelClaims() {
+		return JwtClaims.builder()
+				.accountNumber("2412161700-L1-001")
+				.companyName("삼성전자")
+				.userType("PARTNER")
+				.level(1)
+				.treePath("/2412161700/L1-001/")
+				.headquartersId(1L)
+				.partnerId(41L)
+				.build();
+	}
+
+	private static JwtClaims headquartersClaims() {
+		return JwtClaims.builder()
+				.accountNumber("2412161700")
+				.companyName("한국전력공사")
+				.userType("HEADQUARTERS")
+				.headquartersId(1L)
+				.build();
+	}
+}